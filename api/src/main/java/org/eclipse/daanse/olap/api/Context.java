@@ -25,12 +25,17 @@ import org.eclipse.daanse.dmv.parser.api.DmvParserProvider;
 import org.eclipse.daanse.mdx.parser.api.MdxParserProvider;
 import org.eclipse.daanse.olap.api.agg.AggregationFactory;
 import org.eclipse.daanse.olap.api.aggregator.CustomAggregatorFactory;
+import org.eclipse.daanse.olap.api.cache.CacheControl;
 import org.eclipse.daanse.olap.api.cache.CatalogCache;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
+import org.eclipse.daanse.olap.api.cache.QueryResultCache;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompilerFactory;
 import org.eclipse.daanse.olap.api.connection.Connection;
 import org.eclipse.daanse.olap.api.connection.ConnectionProps;
+import org.eclipse.daanse.olap.api.element.Cube;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.AdmissionController;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.function.FunctionService;
 import org.eclipse.daanse.olap.api.monitor.EventBus;
@@ -167,8 +172,27 @@ public interface Context<C extends Connection> {
      */
     ContextConfig getConfig();
 
+    /**
+     * Limits the SQL statements this context has running at once.
+     *
+     * @see ContextConfig#queryLimit()
+     */
     Semaphore getQueryLimitSemaphore();
 
+    /**
+     * Decides when the MDX queries of this context may start: how many run at
+     * once, how they are shared between users, roles and tenants, and how long
+     * one may wait. The SQL statements of an admitted query are still limited
+     * by {@link #getQueryLimitSemaphore()}.
+     * <p>
+     * By default every query is admitted at once.
+     *
+     * @see ContextConfig#admissionLimit()
+     */
+    default AdmissionController getAdmissionController() {
+        return AdmissionController.UNLIMITED;
+    }
+
     Optional<Map<Object, Object>> getSqlMemberSourceValuePool();
 
     FunctionService getFunctionService();
@@ -202,4 +226,57 @@ public interface Context<C extends Connection> {
     ExpressionCompiler createDependencyTestingCompiler(ExpressionCompiler compiler);
 
     List<CustomAggregatorFactory> getCustomAggregators();
+
+    /**
+     * The cache of expression results shared between the queries of this
+     * context; empty when cross-query caching is switched off.
+     *
+     * @see ContextConfig#expressionResultCacheSize()
+     */
+    default Optional<ExpressionResultCache> getExpressionResultCache() {
+        return Optional.empty();
+    }
+
+    /**
+     * The cache of whole query results shared between the queries of this
+     * context; empty when it is switched off.
+     *
+     * @see ContextConfig#queryResultCacheSize()
+     */
+    default Optional<QueryResultCache> getQueryResultCache() {
+        return Optional.empty();
+    }
+
+    /**
+     * Flushes the cells of a cube from the cell cache, and the results computed
+     * from them from the caches shared between queries.
+     *
+     * <p>
+     * {@link CacheControl#flush(CacheControl.CellRegion)} flushes cells only.
+     * Whoever flushes the cells of a cube goes through here, so that no shared
+     * result outlives them.
+     * </p>
+     *
+     * @param connection connection whose cache control flushes the cells
+     * @param cube       cube
+     */
+    default void flushCube(Connection connection, Cube cube) {
+        final CacheControl cacheControl = connection.getCacheControl(null);
+        cacheControl.flush(cacheControl.createMeasuresRegion(cube));
+        getExpressionResultCache().ifPresent(cache -> cache.flush(cube));
+        getQueryResultCache().ifPresent(cache -> cache.flush(cube));
+    }
+
+    /**
+     * Flushes the schema cache, with all cells, and every result of the caches
+     * shared between queries.
+     *
+     * @param connection connection whose cache control flushes the schema
+     * @see CacheControl#flushSchemaCache()
+     */
+    default void flushSchemaCache(Connection connection) {
+        connection.getCacheControl(null).flushSchemaCache();
+        getExpressionResultCache().ifPresent(ExpressionResultCache::clear);
+        getQueryResultCache().ifPresent(QueryResultCache::clear);
+    }
 }
@@ -265,6 +265,26 @@ public interface ContextConfig {
      */
     boolean enableInMemoryRollup();
 
+    /**
+     * Whether distinct-count segments keep a mergeable sketch of the distinct
+     * keys of each cell, so that a distinct count over a set of members - a
+     * compound slicer, {@code Aggregate} over a date range - is answered from
+     * cache instead of by a query of its own.
+     *
+     * <p>
+     * Default false. A sketch holds its keys exactly up to
+     * {@link #distinctCountSketchExactLimit()} keys and estimates above, with a
+     * relative error of about one percent.
+     * </p>
+     */
+    boolean enableDistinctCountSketches();
+
+    /**
+     * Number of distinct keys a distinct-count sketch counts exactly before it
+     * switches to an estimate. Default 4096.
+     */
+    int distinctCountSketchExactLimit();
+
     // ------------------------------------------------------------------
     // Evaluation and MDX semantics
     //
@@ -498,6 +518,19 @@ public interface ContextConfig {
      */
     boolean enableTotalCount();
 
+    /**
+     * Largest number of rows a drill-through returns, whatever the statement
+     * asks for with MAXROWS.
+     *
+     * <p>
+     * Default 0, no limit. The limit is passed down into the SQL together with
+     * MAXROWS and FIRSTROWSET, and reading stops there even where the database
+     * ignores it, so one drill-through into a large cell cannot hold the whole
+     * fact table in memory.
+     * </p>
+     */
+    int drillThroughMaxRows();
+
     // ------------------------------------------------------------------
     // Concurrency
     // ------------------------------------------------------------------
@@ -513,6 +546,74 @@ public interface ContextConfig {
      */
     int queryLimit();
 
+    /**
+     * How many MDX queries this context may have running at once; 0 or less
+     * for no limit.
+     *
+     * <p>
+     * Default 0. A query that finds no slot queues. When a slot frees,
+     * interactive queries go before batch queries, and among those the tenant
+     * that has had the least of its share by admissionTenantWeights goes
+     * first. Unlike queryLimit this counts queries, not their SQL statements.
+     * </p>
+     */
+    int admissionLimit();
+
+    /**
+     * How many MDX queries one user may have running at once; 0 or less for
+     * no limit.
+     *
+     * <p>
+     * Default 0. Further queries of the user queue, and others overtake them.
+     * </p>
+     */
+    int admissionUserLimit();
+
+    /**
+     * How many MDX queries may run at once under one role; 0 or less for no
+     * limit.
+     *
+     * <p>
+     * Default 0. A query with several roles waits until each of them is below
+     * the limit.
+     * </p>
+     */
+    int admissionRoleLimit();
+
+    /**
+     * How many of the admissionLimit slots batch queries may hold at once; 0
+     * or less for all of them.
+     *
+     * <p>
+     * Default 0. Setting it below admissionLimit keeps slots free for
+     * interactive queries however many exports are queued.
+     * </p>
+     */
+    int admissionBatchLimit();
+
+    /**
+     * How long, in milliseconds, a query waits to be admitted before it is
+     * refused; 0 or less waits without limit.
+     *
+     * <p>
+     * Default 30000. A refused query fails with QueryAdmissionException
+     * without having done any work.
+     * </p>
+     */
+    long admissionQueueTimeout();
+
+    /**
+     * Weights of the tenants sharing the admissionLimit slots, as
+     * {@code tenant=weight} pairs separated by commas.
+     *
+     * <p>
+     * Default empty. A tenant not named has weight 1; one with weight 3 gets
+     * three queries admitted for every one of a tenant with weight 1 while
+     * both have queries waiting.
+     * </p>
+     */
+    String admissionTenantWeights();
+
     /**
      * Number of threads watching running queries for cancellation.
      *
@@ -749,6 +850,54 @@ public interface ContextConfig {
      */
     boolean enableExpCache();
 
+    /**
+     * Size of the cache that shares the results of cached expressions between
+     * queries; 0 or less switches it off.
+     *
+     * <p>
+     * Default 0. The size is counted in tuples, a scalar result counting as one.
+     * Only the expressions enableExpCache wraps - and the Cache() function - are
+     * shared, and only when they refer to nothing defined by the query itself: a
+     * WITH MEMBER or WITH SET, a parameter, a calculated member in the current
+     * context or a subselect keep the result private to the query, and so do Now()
+     * and the other functions whose value changes by itself. Results have no time
+     * limit: they are dropped to make room, or when the cells of their cube are
+     * flushed through Context.flushCube or Context.flushSchemaCache. A caller of
+     * CacheControl.flush itself must flush this cache too.
+     * </p>
+     */
+    int expressionResultCacheSize();
+
+    /**
+     * Size of the cache that keeps whole query results, so that a query run
+     * again with the same MDX, role, locale, parameters and catalog is answered without
+     * evaluating it; 0 or less switches it off.
+     *
+     * <p>
+     * Default 0. The size is counted in cells. Invalidation is explicit: a
+     * result is dropped when the cells of its cube are flushed through
+     * Context.flushCube or Context.flushSchemaCache, which advance the cache's
+     * generation. A caller of CacheControl.flush itself must flush this cache
+     * too; otherwise a result is served until it is older than
+     * queryResultCacheTtl or is evicted to make room. Queries whose text calls
+     * Now() or another function whose value changes by itself, queries of a
+     * connection with pending writeback values and drill-throughs are not
+     * cached.
+     * </p>
+     */
+    int queryResultCacheSize();
+
+    /**
+     * How long, in seconds, a result stays in the query result cache; 0 or less
+     * keeps it until it is flushed or evicted.
+     *
+     * <p>
+     * Default 60. It bounds how stale a result can get when the data changes
+     * without the cache being flushed.
+     * </p>
+     */
+    int queryResultCacheTtl();
+
     /**
      * Whether every query axis is implicitly NON EMPTY.
      *
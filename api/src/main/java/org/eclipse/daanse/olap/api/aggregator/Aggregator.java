@@ -27,6 +27,8 @@
 
 package org.eclipse.daanse.olap.api.aggregator;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import org.eclipse.daanse.olap.api.DataTypeJdbc;
@@ -99,6 +101,55 @@ public interface Aggregator {
      */
     Object aggregate(List<Object> rawData, DataTypeJdbc datatype);
 
+    /**
+     * Applies this aggregator over the raw values of a dense segment of
+     * floating-point values for a rollup operation.
+     *
+     * The arguments are those of a segment body: its value array and its null
+     * indicators. The default boxes the values and calls
+     * {@link #aggregate(List, DataTypeJdbc)}; aggregators which support fast
+     * aggregation of {@link DataTypeJdbc#DOUBLE} should override it to roll up
+     * without allocating.
+     *
+     * Only gets called if #supportsFastAggregates(DataTypeJdbc) is true.
+     *
+     * @param values values to be aggregated
+     * @param nulls  indexes of the values which are null, or null if none are
+     * @param length number of values, starting at index 0, to aggregate
+     * @return A rolled up value of the raw data.
+     */
+    default Object aggregate(double[] values, BitSet nulls, int length) {
+        final List<Object> rawData = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            rawData.add(nulls != null && nulls.get(i) ? null : values[i]);
+        }
+        return aggregate(rawData, DataTypeJdbc.DOUBLE);
+    }
+
+    /**
+     * Applies this aggregator over the raw values of a dense segment of
+     * integral values for a rollup operation.
+     *
+     * The default boxes the values and calls
+     * {@link #aggregate(List, DataTypeJdbc)}; aggregators which support fast
+     * aggregation of {@link DataTypeJdbc#BIGINT} should override it to roll up
+     * without allocating.
+     *
+     * Only gets called if #supportsFastAggregates(DataTypeJdbc) is true.
+     *
+     * @param values values to be aggregated
+     * @param nulls  indexes of the values which are null, or null if none are
+     * @param length number of values, starting at index 0, to aggregate
+     * @return A rolled up value of the raw data.
+     */
+    default Object aggregate(long[] values, BitSet nulls, int length) {
+        final List<Object> rawData = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            rawData.add(nulls != null && nulls.get(i) ? null : values[i]);
+        }
+        return aggregate(rawData, DataTypeJdbc.BIGINT);
+    }
+
     StringBuilder getExpression(CharSequence inner);
 
     boolean isDistinct();
@@ -20,4 +20,17 @@ public interface CustomAggregatorFactory {
     String getName();
 
     Aggregator getAggregator(String template, List<String> properties, List<Object> columns);
+
+    /**
+     * Returns whether the aggregators of this factory roll up primitive
+     * segment values themselves, by overriding
+     * {@link Aggregator#aggregate(double[], java.util.BitSet, int)} and
+     * {@link Aggregator#aggregate(long[], java.util.BitSet, int)}, rather than
+     * relying on the defaults which box every value.
+     *
+     * @return whether rollups with these aggregators are allocation-free
+     */
+    default boolean supportsPrimitiveAggregates() {
+        return false;
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.aggregator;
+
+/**
+ * Mergeable summary of the distinct keys counted by one distinct-count cell.
+ *
+ * <p>
+ * A distinct count cannot be rolled up from the counts of its parts: a key
+ * may occur in several of them. Sketches of the parts can be: their union is
+ * the sketch of the whole. A segment of a distinct-count measure which keeps
+ * the sketch of each cell can therefore answer a distinct count over any set
+ * of its cells without another round trip to the database.
+ * </p>
+ */
+public interface DistinctCountSketch {
+
+    /**
+     * Returns the sketch of the keys of this sketch and of another. Neither
+     * sketch is modified.
+     *
+     * @param other sketch to merge with
+     * @return union of both
+     */
+    DistinctCountSketch union(DistinctCountSketch other);
+
+    /**
+     * Returns the number of distinct keys, exact if {@link #isExact()} and
+     * estimated otherwise.
+     */
+    long cardinality();
+
+    /**
+     * Returns whether the sketch still holds every key, so that
+     * {@link #cardinality()} is exact.
+     */
+    boolean isExact();
+}
@@ -155,6 +155,12 @@ public interface CacheControl {
      * Atomically flushes all the cells in the cell cache that correspond to
      * measures in a cube and to a given region.
      *
+     * This flushes the cell cache only. Results computed from those cells and
+     * kept in the context's {@link ExpressionResultCache} and
+     * {@link QueryResultCache} stay there: the caller must also flush the
+     * cubes of the region from those caches, as
+     * {@link org.eclipse.daanse.olap.api.Context#flushCube} does.
+     *
      * @param region a region
      */
     void flush(CellRegion region);
@@ -355,7 +361,9 @@ public interface CacheControl {
      * connections will continue to use the same schema definition.
      *
      * Flushing the schema cache will flush all aggregations and segments associated
-     * to it as well.
+     * to it as well. The caller must also clear the context's
+     * {@link ExpressionResultCache} and {@link QueryResultCache}, as
+     * {@link org.eclipse.daanse.olap.api.Context#flushSchemaCache} does.
      */
     void flushSchemaCache();
 
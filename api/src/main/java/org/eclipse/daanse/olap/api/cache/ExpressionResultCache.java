@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.cache;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.element.NamedSet;
+
+/**
+ * Results of cached expressions shared between the queries of one context.
+ *
+ * <p>
+ * {@link org.eclipse.daanse.olap.api.evaluator.Evaluator#getCachedResult(ExpCacheDescriptor)}
+ * keeps results for one query only. This cache keeps them across queries, so
+ * that an expensive set such as
+ * {@code TopCount([Customers].Members, 100, [Measures].[Sales])} used by many
+ * dashboard queries is evaluated once.
+ * </p>
+ *
+ * <p>
+ * A result depends on the cube data it was computed from, and is kept until it
+ * is flushed or evicted to make room. Whoever flushes cells of a cube through
+ * {@link CacheControl#flush(CacheControl.CellRegion)} must call
+ * {@link #flush(Cube)} for that cube as well, and {@link #clear()} when the
+ * whole catalog is flushed; the cache control does not do it, and
+ * {@link org.eclipse.daanse.olap.api.Context#flushCube} does both.
+ * </p>
+ *
+ * @see org.eclipse.daanse.olap.api.Context#getExpressionResultCache()
+ */
+public interface ExpressionResultCache {
+
+    /**
+     * Identifies one result.
+     *
+     * @param cube            cube the expression was evaluated against
+     * @param expression      canonical (unparsed) form of the expression
+     * @param namedSets       named sets the expression refers to, so that a
+     *                        redefined set does not match
+     * @param context         current members of the hierarchies the expression
+     *                        depends on, in the order of
+     *                        {@link ExpCacheDescriptor#getDependentHierarchyOrdinals()}
+     * @param nonEmpty        whether the expression was evaluated in a NON EMPTY
+     *                        context
+     * @param role            role of the evaluating connection
+     * @param catalogId       id of the catalog
+     * @param catalogLoadDate load date of the catalog; changes when the catalog
+     *                        is reloaded
+     */
+    record Key(
+        Cube cube,
+        String expression,
+        List<NamedSet> namedSets,
+        List<Member> context,
+        boolean nonEmpty,
+        Role role,
+        String catalogId,
+        Instant catalogLoadDate) {
+    }
+
+    /**
+     * Returns the result for a key, or null if none is cached.
+     */
+    Object get(Key key);
+
+    /**
+     * Returns a number that changes whenever results are flushed.
+     *
+     * <p>
+     * Read it before computing a result and pass it to
+     * {@link #put(Key, Object, long)}: a result computed while its cube was
+     * being flushed may already be stale and is then not kept.
+     * </p>
+     */
+    long generation();
+
+    /**
+     * Stores a result unless results were flushed since {@code generation} was
+     * read.
+     *
+     * @param key        key
+     * @param value      result, not null; must not be modified afterwards
+     * @param generation value of {@link #generation()} before the result was
+     *                   computed
+     */
+    void put(Key key, Object value, long generation);
+
+    /**
+     * Drops every result that may depend on the data of a cube: the results
+     * computed against the cube itself and, since a virtual cube does not say
+     * which cubes it is based on, all results of virtual cubes.
+     */
+    void flush(Cube cube);
+
+    /**
+     * Drops every result.
+     */
+    void clear();
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.cache;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.element.Cube;
+
+/**
+ * Results of whole queries shared between the queries of one context.
+ *
+ * <p>
+ * Dashboards run the same queries again and again, mostly against data that
+ * has not changed in between. This cache keeps the axes and cell values of a
+ * query's result, so that the same query is answered without evaluating it
+ * again.
+ * </p>
+ *
+ * <p>
+ * Like {@link ExpressionResultCache}, a result depends on the cube data it was
+ * computed from. Whoever flushes cells of a cube must call {@link #flush(Cube)}
+ * for that cube, and {@link #clear()} when the whole catalog is flushed;
+ * {@link org.eclipse.daanse.olap.api.Context#flushCube} does both. A result
+ * nobody flushes is served until it expires.
+ * </p>
+ *
+ * @see org.eclipse.daanse.olap.api.Context#getQueryResultCache()
+ */
+public interface QueryResultCache {
+
+    /**
+     * Identifies one result.
+     *
+     * @param cube            cube of the query
+     * @param mdx             canonical (unparsed) form of the query
+     * @param parameters      values of the query's parameters, in the order of
+     *                        the query's parameters
+     * @param role            role of the executing connection
+     * @param locale          locale of the executing connection; the result
+     *                        holds formatted values and captions in it
+     * @param catalogId       id of the catalog
+     * @param catalogLoadDate load date of the catalog; changes when the catalog
+     *                        is reloaded
+     */
+    record Key(
+        Cube cube,
+        String mdx,
+        List<Object> parameters,
+        Role role,
+        Locale locale,
+        String catalogId,
+        Instant catalogLoadDate) {
+    }
+
+    /**
+     * Returns the result for a key, or null if none is cached.
+     */
+    Object get(Key key);
+
+    /**
+     * Returns a number that changes whenever results are flushed; see
+     * {@link ExpressionResultCache#generation()}.
+     */
+    long generation();
+
+    /**
+     * Stores a result unless results were flushed since {@code generation} was
+     * read.
+     *
+     * @param key        key
+     * @param value      result, not null; must not be modified afterwards
+     * @param cellCount  number of cells of the result, its weight in the cache
+     * @param generation value of {@link #generation()} before the result was
+     *                   computed
+     */
+    void put(Key key, Object value, int cellCount, long generation);
+
+    /**
+     * Drops every result that may depend on the data of a cube: the results of
+     * queries against the cube itself and of all virtual cubes.
+     */
+    void flush(Cube cube);
+
+    /**
+     * Drops every result.
+     */
+    void clear();
+}
@@ -26,6 +26,7 @@
 package org.eclipse.daanse.olap.api.calc.compiler;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.eclipse.daanse.olap.api.Parameter;
 import org.eclipse.daanse.olap.api.calc.BooleanCalc;
@@ -219,4 +220,18 @@ public interface ExpressionCompiler {
      */
     List<ResultStyle> getAcceptableResultStyles();
 
+    /**
+     * Compiles the part of a call which is evaluated once for each tuple of a
+     * set the call iterates, such as the condition of {@code Filter}.
+     * Subexpressions of it which depend on none of the hierarchies of the set
+     * may then be evaluated once per context rather than once per tuple.
+     *
+     * @param iteratedType type of the set being iterated
+     * @param body         compiles the part
+     * @return what {@code body} returns
+     */
+    default <C extends Calc<?>> C compileIterated(Type iteratedType, Supplier<C> body) {
+        return body.get();
+    }
+
 }
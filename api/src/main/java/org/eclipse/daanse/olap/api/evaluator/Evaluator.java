@@ -35,9 +35,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.daanse.olap.api.aggregator.DistinctCountSketch;
 import org.eclipse.daanse.olap.api.cache.ExpCacheDescriptor;
+import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.compiler.ParameterSlot;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleIterable;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.catalog.CatalogReader;
 import org.eclipse.daanse.olap.api.element.Cube;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
@@ -427,6 +430,47 @@ public interface Evaluator {
 
     Map<Hierarchy, Set<Member>> getSlicerMembersByHierarchy();
 
+    /**
+     * Evaluates a numeric expression for every tuple of a list in one call.
+     *
+     * <p>
+     * Aggregate functions otherwise set the context to each tuple in turn and
+     * evaluate the expression there. An evaluator which can read the cells of a
+     * stored measure for all tuples at once - one batch of cache lookups, no
+     * context switch per tuple - returns their values here. The context of
+     * this evaluator is the same afterwards.
+     * </p>
+     *
+     * @param tuples tuples to evaluate the expression for
+     * @param calc   compiled numeric expression
+     * @return values, one per tuple, or null if the expression cannot be
+     *         evaluated this way; the caller then evaluates it tuple by tuple
+     */
+    default TupleValues evaluateForTuples(TupleList tuples, Calc<?> calc) {
+        return null;
+    }
+
+    /**
+     * Returns the sketch of the distinct keys counted by the current cell, if
+     * the current measure is a distinct count whose segment keeps sketches.
+     *
+     * <p>
+     * The union of the sketches of several cells answers a distinct count
+     * over all of them, which otherwise needs a query of its own.
+     * </p>
+     *
+     * <p>
+     * An evaluator reads the sketch from the body of the segment holding the
+     * cell, {@code SegmentBody#getSketch(CellKey)} in the spi, which keeps
+     * none unless it was loaded with them.
+     * </p>
+     *
+     * @return sketch of the current cell, or null if there is none
+     */
+    default DistinctCountSketch evaluateSketch() {
+        return null;
+    }
+
     /**
      * Interface for evaluating a particular named set.
      */
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.evaluator;
+
+import java.util.BitSet;
+
+import org.eclipse.daanse.olap.api.result.NotLoaded;
+
+/**
+ * Values of a numeric expression over the tuples of a list, one slot per
+ * tuple.
+ *
+ * <p>
+ * Slot {@code i} holds the value for tuple {@code i}; if bit {@code i} of
+ * {@code nulls} is set the value was MDX NULL and the slot holds no value.
+ * Values which were {@link NotLoaded not loaded yet} are counted in
+ * {@code notLoadedCount} and marked null, so that an aggregate over a dirty
+ * pass can tell its result is to be discarded.
+ * </p>
+ *
+ * @param values         value of each tuple
+ * @param nulls          tuples whose value is NULL or not loaded
+ * @param notLoadedCount number of values not loaded yet
+ */
+public record TupleValues(double[] values, BitSet nulls, int notLoadedCount) {
+
+    /**
+     * Returns the number of tuples.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns whether the value of a tuple is NULL or not loaded.
+     */
+    public boolean isNull(int i) {
+        return nulls.get(i);
+    }
+
+    /**
+     * Returns the number of tuples whose value is neither NULL nor not loaded.
+     */
+    public int valueCount() {
+        return values.length - nulls.cardinality();
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.execution;
+
+import java.util.List;
+
+/**
+ * Decides when a query may start running.
+ *
+ * <p>
+ * A single counting semaphore lets one user with many heavy queries take
+ * every slot, and everybody else waits behind them. An admission controller
+ * knows who is asking: it can cap the queries of one user or role, let
+ * interactive queries overtake batch ones, share the slots between tenants by
+ * weight, and refuse a query that has waited too long instead of letting it
+ * wait forever.
+ * </p>
+ *
+ * <p>
+ * Whoever starts a query calls {@link #admit(Admission)} and closes the
+ * returned {@link Permit} when the query is done, whether it succeeded or not.
+ * The statements of the engine do so for every query they run, admitting it
+ * as the {@link org.eclipse.daanse.olap.api.execution.Statement#getAdmission()
+ * admission} the statement was given.
+ * </p>
+ *
+ * @see org.eclipse.daanse.olap.api.Context#getAdmissionController()
+ */
+public interface AdmissionController {
+
+    /**
+     * Admits every query at once and keeps no count; what a context that limits
+     * nothing hands out.
+     */
+    AdmissionController UNLIMITED = new AdmissionController() {
+
+        @Override
+        public Permit admit(Admission admission) {
+            return () -> {
+            };
+        }
+
+        @Override
+        public int available() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int queueDepth() {
+            return 0;
+        }
+    };
+
+    /**
+     * How urgently a query is wanted.
+     */
+    enum Priority {
+
+        /** Someone is waiting for the answer; overtakes {@link #BATCH}. */
+        INTERACTIVE,
+
+        /** Exports, scheduled reports and other bulk work. */
+        BATCH
+    }
+
+    /**
+     * Who asks to run a query.
+     *
+     * @param user     name of the user; null or empty if not known
+     * @param roles    names of the roles the query runs under
+     * @param tenant   the party the slots are shared between by weight; null
+     *                 or empty puts the query with the other queries of no
+     *                 tenant
+     * @param priority priority of the query
+     */
+    record Admission(String user, List<String> roles, String tenant, Priority priority) {
+
+        /** A caller nothing is known about, asking interactively. */
+        public static final Admission ANONYMOUS = new Admission(null, List.of(), null, Priority.INTERACTIVE);
+
+        public Admission {
+            roles = roles == null ? List.of() : List.copyOf(roles);
+            tenant = tenant == null ? "" : tenant;
+            priority = priority == null ? Priority.INTERACTIVE : priority;
+        }
+    }
+
+    /**
+     * The right to run one query. Closing it frees the slot; closing it again
+     * does nothing.
+     */
+    interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Waits until a query may run.
+     *
+     * @param admission who asks
+     * @return permit, to be closed when the query is done
+     * @throws QueryAdmissionException if the query waited longer than allowed
+     * @throws QueryCanceledException  if the waiting thread was interrupted
+     */
+    Permit admit(Admission admission);
+
+    /**
+     * Returns how many more queries could start now without waiting,
+     * disregarding the quotas of users and roles; {@link Integer#MAX_VALUE} if
+     * the number of running queries is not limited.
+     */
+    int available();
+
+    /**
+     * Returns the number of queries waiting to be admitted.
+     */
+    int queueDepth();
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.execution;
+
+/**
+ * Exception thrown when a query is refused before it started running.
+ *
+ * <p>
+ * This exception is thrown by {@link AdmissionController#admit} when the
+ * query waited for a slot longer than the configured queue timeout. The query
+ * has not done any work, so the caller may retry it later.
+ * </p>
+ */
+@SuppressWarnings("serial")
+public class QueryAdmissionException extends RuntimeException {
+
+    /**
+     * Constructs a new query admission exception with the specified detail
+     * message.
+     *
+     * @param message the detail message
+     */
+    public QueryAdmissionException(String message) {
+        super(message);
+    }
+}
@@ -116,6 +116,35 @@ public interface Statement {
      */
     long getQueryTimeoutMillis();
 
+    /**
+     * Sets who this statement runs its queries for, and how urgently: every
+     * query it executes is admitted by the context's
+     * {@link org.eclipse.daanse.olap.api.Context#getAdmissionController()
+     * admission controller} as this admission. The permit of a drill-through
+     * covers finding its cell and opening its rows; rows the caller reads from
+     * the returned result set afterwards are not admitted.
+     *
+     * <p>
+     * By default the admission is ignored: a statement which does not keep one
+     * runs its queries as {@link AdmissionController.Admission#ANONYMOUS}.
+     * </p>
+     *
+     * @param admission caller of the statement's queries; null for
+     *                  {@link AdmissionController.Admission#ANONYMOUS}
+     */
+    default void setAdmission(AdmissionController.Admission admission) {
+    }
+
+    /**
+     * Returns who this statement runs its queries for; by default
+     * {@link AdmissionController.Admission#ANONYMOUS}.
+     *
+     * @return Admission, not null
+     */
+    default AdmissionController.Admission getAdmission() {
+        return AdmissionController.Admission.ANONYMOUS;
+    }
+
     /**
      * Issues a cancel request on this statement.
      *
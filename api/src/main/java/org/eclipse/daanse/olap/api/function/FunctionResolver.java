@@ -89,6 +89,19 @@ public interface FunctionResolver {
         return List.of();
     }
 
+    /**
+     * Returns whether {@link #resolve(Expression[], Validator)} matches or not,
+     * and at which cost, depending only on the categories of the arguments - not
+     * on their values, their finer types or where the call is. Calls of an
+     * operator whose resolvers all do can skip resolution when arguments of the
+     * same categories were seen before.
+     *
+     * @return whether resolution depends on argument categories alone
+     */
+    default boolean isResolvedByCategories() {
+        return false;
+    }
+
     /**
      * Description of an implicit conversion that occurred while resolving an
      * operator call.
@@ -30,9 +30,11 @@
 package org.eclipse.daanse.olap.api.function;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
+import org.eclipse.daanse.olap.api.DataType;
 
 public interface FunctionService {
 
@@ -68,4 +70,32 @@ public interface FunctionService {
      */
     List<FunctionResolver> getResolvers(OperationAtom operationAtom);
 
+    /**
+     * Returns the resolver which an earlier call of an operator, with arguments
+     * of the same categories, resolved to. Empty if there was none, or if calls
+     * of the operator do not resolve by category alone. By default nothing is
+     * remembered.
+     *
+     * @param operationAtom      OperationAtom
+     * @param argumentCategories categories of the arguments
+     * @return Resolver
+     */
+    default Optional<FunctionResolver> getResolver(OperationAtom operationAtom, List<DataType> argumentCategories) {
+        return Optional.empty();
+    }
+
+    /**
+     * Remembers the resolver a call of an operator resolved to, so that later
+     * calls with arguments of the same categories need only ask that resolver.
+     * Ignored unless every resolver of the operator
+     * {@link FunctionResolver#isResolvedByCategories() resolves by category}.
+     *
+     * @param operationAtom      OperationAtom
+     * @param argumentCategories categories of the arguments
+     * @param resolver           resolver whose result was chosen
+     */
+    default void putResolver(OperationAtom operationAtom, List<DataType> argumentCategories,
+            FunctionResolver resolver) {
+    }
+
 }
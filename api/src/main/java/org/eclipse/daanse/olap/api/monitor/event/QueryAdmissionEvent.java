@@ -0,0 +1,33 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*/
+package org.eclipse.daanse.olap.api.monitor.event;
+
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Priority;
+
+/**
+ * Sent when an admission controller admits or refuses a query.
+ *
+ * @param serverEventCommon common server event information
+ * @param user              user of the query, or empty
+ * @param tenant            tenant of the query, or empty
+ * @param priority          priority of the query
+ * @param admitted          whether the query may run; false if it waited too
+ *                          long
+ * @param waitMillis        milliseconds the query waited
+ * @param queueDepth        number of queries still waiting afterwards
+ * @param running           number of queries running afterwards
+ */
+public record QueryAdmissionEvent(ServertEventCommon serverEventCommon, String user, String tenant,
+        Priority priority, boolean admitted, long waitMillis, int queueDepth, int running) implements OlapEvent {
+
+}
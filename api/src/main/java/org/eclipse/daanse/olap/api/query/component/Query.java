@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.daanse.olap.api.Parameter;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.ResultStyle;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
@@ -111,4 +112,11 @@ public non-sealed interface Query extends QueryComponent {
     Hierarchy[] getMdxHierarchiesOnAxis(AxisOrdinal forLogicalOrdinal);
 
     void setParameter(String string, Object object);
+
+    /**
+     * Lets the named sets defined by this query which do not depend on the
+     * query keep their evaluated lists in a cache beyond the query, typically
+     * one per session. Must be called before the query is executed.
+     */
+    void shareNamedSets(ExpressionResultCache cache);
 }
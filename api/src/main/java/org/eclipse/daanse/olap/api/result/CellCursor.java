@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.api.result;
+
+/**
+ * Walks the cells of a {@link CellSet} in ordinal order, the order in which
+ * the coordinate on the first axis varies fastest.
+ *
+ * <p>
+ * A cursor is obtained from {@link CellSet#cursor()}, starts before the first
+ * cell, and is moved with {@link #next()} or {@link #moveTo(int)}. The
+ * accessors read the current cell; unlike {@link CellSet#getCell(int...)},
+ * they do not wrap each cell in a {@link Cell} of its own. Code which needs a
+ * {@link Cell} that outlives the cursor's position calls {@link #getCell()}.
+ * </p>
+ */
+public interface CellCursor {
+
+    /**
+     * Moves to the next cell.
+     *
+     * @return whether there is a next cell
+     */
+    boolean next();
+
+    /**
+     * Moves to the cell with a given ordinal; {@link #next()} then continues
+     * with the cell after it.
+     *
+     * @param ordinal ordinal of the cell
+     * @throws IndexOutOfBoundsException if there is no such cell
+     */
+    void moveTo(int ordinal);
+
+    /**
+     * Returns the ordinal of the current cell.
+     */
+    int getOrdinal();
+
+    /**
+     * Returns the coordinate of the current cell on an axis.
+     *
+     * @param axisOrdinal ordinal of the axis
+     */
+    int getCoordinate(int axisOrdinal);
+
+    /**
+     * Returns whether the value of the current cell is null.
+     */
+    boolean isNull();
+
+    /**
+     * Returns whether the calculation of the current cell returned an error.
+     */
+    boolean isError();
+
+    /**
+     * Returns the raw value of the current cell; see {@link Cell#getValue()}.
+     */
+    Object getValue();
+
+    /**
+     * Returns the value of the current cell as a double, or 0 if it is null.
+     *
+     * @throws ClassCastException if the value is not a number
+     */
+    double getDoubleValue();
+
+    /**
+     * Returns the formatted value of the current cell.
+     */
+    String getFormattedValue();
+
+    /**
+     * Returns the value of a property of the current cell.
+     *
+     * @param propertyName Case-sensitive property name
+     */
+    Object getPropertyValue(String propertyName);
+
+    /**
+     * Returns the current cell as a {@link Cell}, which stays valid after the
+     * cursor has moved on.
+     */
+    Cell getCell();
+}
@@ -27,6 +27,43 @@ public interface CellSet {
 
     Cell getCell(List<Integer> pos);
 
+    /**
+     * Returns the cell at a given set of coordinates, one per axis.
+     */
+    Cell getCell(int... coordinates);
+
+    /**
+     * Returns the cell with a given ordinal. In ordinal order the coordinate
+     * on the first axis varies fastest.
+     */
+    Cell getCellByOrdinal(int ordinal);
+
+    /**
+     * Returns the ordinal of the cell at a given set of coordinates.
+     */
+    int coordinatesToOrdinal(int... coordinates);
+
+    /**
+     * Returns the coordinates of the cell with a given ordinal.
+     */
+    int[] ordinalToCoordinates(int ordinal);
+
+    /**
+     * Returns a cursor positioned before the first cell.
+     */
+    CellCursor cursor();
+
+    /**
+     * Returns a cursor over the cells whose ordinals lie in a range, positioned
+     * before the first of them. Cells outside the range are not read, so a
+     * client paging through a large result gets and serializes only its page.
+     *
+     * @param beginOrdinal ordinal of the first cell
+     * @param endOrdinal   ordinal after the last cell; may exceed the number of
+     *                     cells
+     */
+    CellCursor cursor(int beginOrdinal, int endOrdinal);
+
     Statement getStatement();
 
     void close();
@@ -105,8 +105,9 @@ public class QueryCheckExecutor {
         try {
             // Execute the MDX query
             QueryComponent queryComponent = connection.parseStatement(check.getQuery());
-            if (queryComponent instanceof Query query) {
-                Result mdxResult = connection.execute(query);
+            if (queryComponent instanceof Query) {
+                // Through a statement, so that the check is admitted as any query is.
+                Result mdxResult = connection.createStatement().executeSelect(check.getQuery());
                 result.setExecutedSuccessfully(true);
 
                 // Get axes for counting rows/columns
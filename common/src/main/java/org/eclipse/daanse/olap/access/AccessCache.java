@@ -0,0 +1,76 @@
+/*
+* Copyright (c) 2026 Contributors to the Eclipse Foundation.
+*
+* This program and the accompanying materials are made
+* available under the terms of the Eclipse Public License 2.0
+* which is available at https://www.eclipse.org/legal/epl-2.0/
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*   SmartCity Jena - initial
+*/
+package org.eclipse.daanse.olap.access;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Thread-safe memo of access decisions made by an immutable role.
+ *
+ * Once a role can no longer be modified, the access it grants to an element
+ * never changes, so the answer can be computed once and shared between all
+ * threads using the role. The number of entries is bounded; when the bound is
+ * reached, further answers are computed but no longer remembered, which keeps
+ * roles over very large dimensions from holding a copy of every member.
+ *
+ * @param <K> Key type, for example {@link org.eclipse.daanse.olap.api.element.Member}
+ * @param <V> Access type
+ */
+final class AccessCache<K, V> {
+
+    /**
+     * Default maximum number of entries.
+     */
+    static final int DEFAULT_CAPACITY = 100_000;
+
+    private final Map<K, V> map = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    AccessCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    AccessCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the remembered value for a key, computing it if necessary.
+     *
+     * The computation is not run under a lock, so it may call back into
+     * other caches (or, for a different key, this one) without deadlocking.
+     *
+     * @param key Key, not null
+     * @param function Computes the value; must not return null
+     * @return value
+     */
+    V get(K key, Function<? super K, ? extends V> function) {
+        V value = map.get(key);
+        if (value == null) {
+            value = function.apply(key);
+            if (map.size() < capacity) {
+                map.putIfAbsent(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of remembered entries.
+     */
+    int size() {
+        return map.size();
+    }
+}
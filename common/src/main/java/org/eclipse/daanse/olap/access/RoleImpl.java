@@ -93,6 +93,10 @@ public class RoleImpl implements Role {
         LoggerFactory.getLogger(RoleImpl.class);
     private final List<Object[]> hashCache = new ArrayList<>();
     private int hash = 0;
+    // Per-hierarchy lookup tables. Only used once the role is immutable,
+    // when grants can no longer change; see makeImmutable().
+    private final AccessCache<Hierarchy, CompiledHierarchyAccess>
+        compiledHierarchies = new AccessCache<>();
 
     /**
      * Returns a role which has access to everything.
@@ -169,10 +173,18 @@ public class RoleImpl implements Role {
 
     /**
      * Prevents any further modifications.
+     *
+     * From now on the answers of this role are final, so member grants are
+     * compiled into memoized lookups, and hierarchy, level and hierarchy
+     * detail access is resolved once per hierarchy instead of on every call.
+     *
      *  !isMutable()
      */
     public void makeImmutable() {
         mutable = false;
+        for (HierarchyAccessImpl hierarchyAccess : hierarchyGrants.values()) {
+            hierarchyAccess.compile();
+        }
     }
 
     /**
@@ -551,6 +563,13 @@ public class RoleImpl implements Role {
         if (hierarchy == null) {
             throw new IllegalArgumentException("hierarchy should not be null");
         }
+        if (!mutable) {
+            return compiledHierarchies.get(hierarchy, this::compile).access();
+        }
+        return computeAccess(hierarchy);
+    }
+
+    private AccessHierarchy computeAccess(Hierarchy hierarchy) {
         HierarchyAccessImpl hierarchyAccess = hierarchyGrants.get(hierarchy);
         if (hierarchyAccess != null) {
             LOGGER.trace(
@@ -658,6 +677,13 @@ public class RoleImpl implements Role {
     @Override
 	public HierarchyAccess getAccessDetails(Hierarchy hierarchy) {
         Util.assertPrecondition(hierarchy != null, "hierarchy != null");
+        if (!mutable) {
+            return compiledHierarchies.get(hierarchy, this::compile).details();
+        }
+        return computeAccessDetails(hierarchy);
+    }
+
+    private HierarchyAccess computeAccessDetails(Hierarchy hierarchy) {
         if (hierarchyGrants.containsKey(hierarchy)) {
             return hierarchyGrants.get(hierarchy);
         }
@@ -689,6 +715,21 @@ public class RoleImpl implements Role {
         if (level == null) {
             throw new IllegalArgumentException("level should not be null");
         }
+        if (!mutable) {
+            final CompiledHierarchyAccess compiled =
+                compiledHierarchies.get(level.getHierarchy(), this::compile);
+            final int depth = level.getDepth();
+            if (depth >= 0
+                && depth < compiled.levels().length
+                && compiled.levels()[depth] == level)
+            {
+                return compiled.levelAccess()[depth];
+            }
+        }
+        return computeAccess(level);
+    }
+
+    private AccessMember computeAccess(Level level) {
         HierarchyAccessImpl hierarchyAccess =
                 hierarchyGrants.get(level.getHierarchy());
         if (hierarchyAccess != null
@@ -715,6 +756,28 @@ public class RoleImpl implements Role {
     }
 
 
+    /**
+     * Resolves the access to a hierarchy and to each of its levels. Called at
+     * most once per hierarchy after the role has been made immutable.
+     */
+    private CompiledHierarchyAccess compile(Hierarchy hierarchy) {
+        final List<? extends Level> levelList = hierarchy.getLevels();
+        final Level[] levels = new Level[levelList.size()];
+        final AccessMember[] levelAccess = new AccessMember[levelList.size()];
+        for (Level level : levelList) {
+            final int depth = level.getDepth();
+            if (depth >= 0 && depth < levels.length) {
+                levels[depth] = level;
+                levelAccess[depth] = computeAccess(level);
+            }
+        }
+        return new CompiledHierarchyAccess(
+            computeAccess(hierarchy),
+            computeAccessDetails(hierarchy),
+            levels,
+            levelAccess);
+    }
+
     private static boolean checkLevelIsOkWithRestrictions(
         HierarchyAccessImpl hierarchyAccess,
         Level level)
@@ -907,6 +970,9 @@ public class RoleImpl implements Role {
             new HashMap<>();
         private final RollupPolicy rollupPolicy;
         private final Role role;
+        // Set by compile() once the owning role is immutable.
+        private AccessCache<Member, AccessMember> memberAccessCache;
+        private AccessCache<Member, Boolean> inaccessibleDescendantsCache;
 
         /**
          * Creates a HierarchyAccessImpl.
@@ -950,6 +1016,17 @@ public class RoleImpl implements Role {
             memberGrants.putAll(hierarchyAccess.memberGrants);
         }
 
+        /**
+         * Memoizes member access from now on. Called when the owning role
+         * becomes immutable, after which the grants no longer change.
+         */
+        void compile() {
+            if (access == AccessHierarchy.CUSTOM) {
+                memberAccessCache = new AccessCache<>();
+                inaccessibleDescendantsCache = new AccessCache<>();
+            }
+        }
+
         /**
          * Grants access to a member.
          *
@@ -958,6 +1035,8 @@ public class RoleImpl implements Role {
          */
         void grant(RoleImpl role, Member member, AccessMember access) {
             Util.assertTrue(member.getHierarchy() == hierarchy);
+            memberAccessCache = null;
+            inaccessibleDescendantsCache = null;
 
             // Remove any existing grants to descendants of "member"
             for (Iterator<MemberAccess> memberIter =
@@ -1078,6 +1157,13 @@ public class RoleImpl implements Role {
             if (this.access != AccessHierarchy.CUSTOM) {
                 return AccessUtil.getAccessMember(this.access);
             }
+            final AccessCache<Member, AccessMember> cache = memberAccessCache;
+            return cache == null
+                ? computeAccess(member)
+                : cache.get(member, this::computeAccess);
+        }
+
+        private AccessMember computeAccess(Member member) {
             MemberAccess mAccess =
                 memberGrants.get(member.getUniqueName());
             AccessMember accessInner = mAccess == null ? null : mAccess.access;
@@ -1189,6 +1275,14 @@ public class RoleImpl implements Role {
          */
         @Override
 		public boolean hasInaccessibleDescendants(Member member) {
+            final AccessCache<Member, Boolean> cache =
+                inaccessibleDescendantsCache;
+            return cache == null
+                ? computeInaccessibleDescendants(member)
+                : cache.get(member, this::computeInaccessibleDescendants);
+        }
+
+        private boolean computeInaccessibleDescendants(Member member) {
             for (MemberAccess accessInner : memberGrants.values()) {
                 if ((AccessMember.NONE.equals(accessInner.access)
                     || AccessMember.CUSTOM.equals(accessInner.access))
@@ -1203,6 +1297,19 @@ public class RoleImpl implements Role {
         }
     }
 
+    /**
+     * Access to a hierarchy and its levels, resolved once for an immutable
+     * role. {@code levels} and {@code levelAccess} are indexed by level
+     * depth.
+     */
+    private record CompiledHierarchyAccess(
+        AccessHierarchy access,
+        HierarchyAccess details,
+        Level[] levels,
+        AccessMember[] levelAccess)
+    {
+    }
+
     /**
      * A MemberAccess contains information about a grant applied
      * to a member for a given role. It is only an internal data
@@ -27,6 +27,7 @@ package org.eclipse.daanse.olap.access;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.daanse.olap.api.access.AccessCatalog;
 import org.eclipse.daanse.olap.api.access.AccessCube;
@@ -68,6 +69,10 @@ class UnionRoleImpl implements Role {
     private static final Logger LOGGER =
         LoggerFactory.getLogger(UnionRoleImpl.class);
     private final List<Role> roleList;
+    // Union hierarchy accesses, built once per hierarchy. Null unless all
+    // constituent roles are immutable.
+    private final AccessCache<Hierarchy, Optional<HierarchyAccess>>
+        accessDetailsCache;
 
     /**
      * Creates a UnionRoleImpl.
@@ -76,6 +81,22 @@ class UnionRoleImpl implements Role {
      */
     UnionRoleImpl(List<Role> roleList) {
         this.roleList = new ArrayList<>(roleList);
+        this.accessDetailsCache =
+            this.roleList.stream().allMatch(UnionRoleImpl::isImmutable)
+                ? new AccessCache<>()
+                : null;
+    }
+
+    /**
+     * Returns whether a role can no longer change, so that the answers of a
+     * union over it may be memoized.
+     */
+    private static boolean isImmutable(Role role) {
+        return switch (role) {
+            case RoleImpl roleImpl -> !roleImpl.isMutable();
+            case UnionRoleImpl unionRole -> unionRole.accessDetailsCache != null;
+            default -> false;
+        };
     }
 
     @Override
@@ -182,6 +203,16 @@ class UnionRoleImpl implements Role {
 
     @Override
 	public HierarchyAccess getAccessDetails(final Hierarchy hierarchy) {
+        if (accessDetailsCache != null) {
+            return accessDetailsCache.get(
+                hierarchy,
+                h -> Optional.ofNullable(computeAccessDetails(h)))
+                .orElse(null);
+        }
+        return computeAccessDetails(hierarchy);
+    }
+
+    private HierarchyAccess computeAccessDetails(final Hierarchy hierarchy) {
         List<HierarchyAccess> list = new ArrayList<>();
         for (Role role : roleList) {
             final HierarchyAccess accessDetails =
@@ -196,7 +227,9 @@ class UnionRoleImpl implements Role {
         }
         HierarchyAccess hierarchyAccess =
             new UnionHierarchyAccessImpl(hierarchy, list);
-        if (list.size() > 5) {
+        // A memoized union access caches member access itself, and is
+        // shared between threads, which CachingHierarchyAccess is not.
+        if (accessDetailsCache == null && list.size() > 5) {
             hierarchyAccess =
                 new RoleImpl.CachingHierarchyAccess(hierarchyAccess);
         }
@@ -266,6 +299,9 @@ class UnionRoleImpl implements Role {
     private class UnionHierarchyAccessImpl implements HierarchyAccess {
         private final List<HierarchyAccess> list;
         private final Hierarchy hierarchy;
+        private final AccessCache<Member, AccessMember> memberAccessCache;
+        private final AccessCache<Member, Boolean>
+            inaccessibleDescendantsCache;
 
         /**
          * Creates a UnionHierarchyAccessImpl.
@@ -279,10 +315,23 @@ class UnionRoleImpl implements Role {
         {
             this.hierarchy = hierarchy;
             this.list = list;
+            if (accessDetailsCache != null) {
+                this.memberAccessCache = new AccessCache<>();
+                this.inaccessibleDescendantsCache = new AccessCache<>();
+            } else {
+                this.memberAccessCache = null;
+                this.inaccessibleDescendantsCache = null;
+            }
         }
 
         @Override
 		public AccessMember getAccess(Member member) {
+            return memberAccessCache == null
+                ? computeAccess(member)
+                : memberAccessCache.get(member, this::computeAccess);
+        }
+
+        private AccessMember computeAccess(Member member) {
             AccessMember access = AccessMember.NONE;
             final int roleCount = roleList.size();
             for (int i = 0; i < roleCount; i++) {
@@ -373,6 +422,13 @@ class UnionRoleImpl implements Role {
 
         @Override
 		public boolean hasInaccessibleDescendants(Member member) {
+            return inaccessibleDescendantsCache == null
+                ? computeInaccessibleDescendants(member)
+                : inaccessibleDescendantsCache.get(
+                    member, this::computeInaccessibleDescendants);
+        }
+
+        private boolean computeInaccessibleDescendants(Member member) {
             // If any of the roles return all the members,
             // we assume that all descendants are accessible when
             // we create a union of these roles.
@@ -24,6 +24,8 @@
 
 package org.eclipse.daanse.olap.calc.base.cache;
 
+import java.util.function.UnaryOperator;
+
 import org.eclipse.daanse.olap.api.cache.ExpCacheDescriptor;
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
@@ -38,16 +40,16 @@ import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedUnknownCa
  * @since Oct 10, 2005
  */
 public class CacheCalc extends AbstractProfilingNestedUnknownCalc {
-	private final ExpCacheDescriptor key;
+	private final SharedExpCacheDescriptor key;
 
 	public CacheCalc(Type type, ExpCacheDescriptor key) {
 		super(type);
-		this.key = key;
+		this.key = new SharedExpCacheDescriptor(key);
 	}
 
 	@Override
 	public Object evaluateInternal(Evaluator evaluator) {
-		return evaluator.getCachedResult(key);
+		return key.getCachedResult(evaluator, UnaryOperator.identity());
 	}
 
 	@Override
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.VirtualCube;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * {@link ExpressionResultCache} bounded by the number of tuples it holds.
+ *
+ * <p>
+ * Entries are evicted by Caffeine's size policy. A tuple list weighs its
+ * number of tuples, any other result weighs one.
+ * </p>
+ */
+public class ExpressionResultCacheImpl implements ExpressionResultCache {
+
+    private final Cache<Key, Object> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final long maximumSize;
+
+    /**
+     * @param maximumSize largest number of tuples held, at least 1
+     */
+    public ExpressionResultCacheImpl(long maximumSize) {
+        this.maximumSize = maximumSize;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maximumSize)
+            .weigher(ExpressionResultCacheImpl::weigh)
+            .build();
+    }
+
+    private static int weigh(Key key, Object value) {
+        if (value instanceof TupleList tupleList) {
+            return Math.max(1, tupleList.size());
+        }
+        return 1;
+    }
+
+    @Override
+    public Object get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public void put(Key key, Object value, long generation) {
+        if (this.generation.get() != generation) {
+            return;
+        }
+        cache.put(key, value);
+        // A flush may have run between the check and the put; it cannot have
+        // seen the new entry, so undo it.
+        if (this.generation.get() != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void flush(Cube cube) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.cube() == cube
+            || key.cube() instanceof VirtualCube);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the largest number of tuples held.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the approximate number of results held.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
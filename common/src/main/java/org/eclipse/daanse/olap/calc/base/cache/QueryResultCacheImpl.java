@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.daanse.olap.api.cache.QueryResultCache;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.VirtualCube;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * {@link QueryResultCache} bounded by the number of cells it holds and by the
+ * age of its results.
+ *
+ * <p>
+ * Entries are evicted by Caffeine's size policy, a result weighing its number
+ * of cells, and expire a fixed time after they were stored.
+ * </p>
+ */
+public class QueryResultCacheImpl implements QueryResultCache {
+
+    private record Entry(Object value, int cellCount) {
+    }
+
+    private final Cache<Key, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final long maximumSize;
+    private final int ttlSeconds;
+
+    /**
+     * @param maximumSize largest number of cells held, at least 1
+     * @param ttlSeconds  seconds a result is kept; 0 or less for no limit
+     */
+    public QueryResultCacheImpl(long maximumSize, int ttlSeconds) {
+        this.maximumSize = maximumSize;
+        this.ttlSeconds = ttlSeconds;
+        final Caffeine<Key, Entry> builder = Caffeine.newBuilder()
+            .maximumWeight(maximumSize)
+            .weigher((Key key, Entry entry) -> Math.max(1, entry.cellCount()));
+        if (ttlSeconds > 0) {
+            builder.expireAfterWrite(Duration.ofSeconds(ttlSeconds));
+        }
+        this.cache = builder.build();
+    }
+
+    @Override
+    public Object get(Key key) {
+        final Entry entry = cache.getIfPresent(key);
+        return entry == null ? null : entry.value();
+    }
+
+    @Override
+    public long generation() {
+        return generation.get();
+    }
+
+    @Override
+    public void put(Key key, Object value, int cellCount, long generation) {
+        if (this.generation.get() != generation || cellCount > maximumSize) {
+            return;
+        }
+        cache.put(key, new Entry(value, cellCount));
+        // A flush may have run between the check and the put; it cannot have
+        // seen the new entry, so undo it.
+        if (this.generation.get() != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void flush(Cube cube) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.cube() == cube
+            || key.cube() instanceof VirtualCube);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the largest number of cells held.
+     */
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of seconds a result is kept.
+     */
+    public int getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    /**
+     * Returns the approximate number of results held.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.NamedSet;
+import org.eclipse.daanse.olap.api.query.component.MemberExpression;
+import org.eclipse.daanse.olap.api.query.component.NamedSetExpression;
+import org.eclipse.daanse.olap.api.query.component.ParameterExpression;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
+import org.eclipse.daanse.olap.query.component.MdxVisitorImpl;
+
+/**
+ * Decides whether a validated expression means the same in every query of a
+ * cube, so that its result may be kept beyond the query.
+ *
+ * <p>
+ * It does not if it refers to parameters, to calculated members or named sets
+ * defined by the query, to dynamic named sets, or to functions such as
+ * {@code Now()} whose value changes without any change to the data.
+ * </p>
+ */
+public class ShareabilityVisitor extends MdxVisitorImpl {
+
+    /**
+     * Functions whose value changes without any change to the data.
+     */
+    private static final Set<String> VOLATILE_FUNCTIONS =
+        Set.of("now", "date", "time", "timer", "rnd", "currentdatemember",
+            "currentdatestring");
+
+    private final List<NamedSet> cubeNamedSets;
+    private final List<NamedSet> namedSets = new ArrayList<>();
+    private boolean shareable = true;
+
+    public ShareabilityVisitor(Cube cube) {
+        this.cubeNamedSets = Arrays.asList(cube.getNamedSets());
+    }
+
+    /**
+     * Returns whether the visited expression means the same in every query.
+     */
+    public boolean isShareable() {
+        return shareable;
+    }
+
+    /**
+     * Returns the named sets of the cube the visited expression refers to.
+     */
+    public List<NamedSet> getNamedSets() {
+        return List.copyOf(namedSets);
+    }
+
+    @Override
+    public Object visitParameterExpression(ParameterExpression parameterExpr) {
+        shareable = false;
+        return null;
+    }
+
+    @Override
+    public Object visitMemberExpression(MemberExpression memberExpr) {
+        if (memberExpr.getMember().isCalculatedInQuery()) {
+            shareable = false;
+        }
+        return null;
+    }
+
+    @Override
+    public Object visitNamedSetExpression(NamedSetExpression namedSetExpr) {
+        final NamedSet namedSet = namedSetExpr.getNamedSet();
+        if (namedSet.isDynamic() || !containsSame(cubeNamedSets, namedSet)) {
+            shareable = false;
+        } else if (!containsSame(namedSets, namedSet)) {
+            namedSets.add(namedSet);
+        }
+        return null;
+    }
+
+    @Override
+    public Object visitResolvedFunCall(ResolvedFunCall call) {
+        if (isVolatile(call)) {
+            shareable = false;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether a call's value can change without any change to the
+     * data or to the evaluation context, such as {@code Now()}.
+     */
+    public static boolean isVolatile(ResolvedFunCall call) {
+        return VOLATILE_FUNCTIONS.contains(
+            call.getOperationAtom().name().toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean containsSame(List<NamedSet> list, NamedSet namedSet) {
+        for (NamedSet element : list) {
+            if (element == namedSet) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
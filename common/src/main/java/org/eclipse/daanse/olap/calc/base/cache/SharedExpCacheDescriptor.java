@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.cache;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.daanse.olap.api.cache.ExpCacheDescriptor;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.element.NamedSet;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.eclipse.daanse.olap.common.Util;
+
+/**
+ * Cache descriptor whose results are also shared between queries through the
+ * context's {@link ExpressionResultCache}, when there is one.
+ *
+ * <p>
+ * The evaluator's own cache is consulted as before; a result is shared only
+ * if it was computed here without the evaluator reporting a cell miss, since a
+ * result computed while cells are still being loaded is a placeholder.
+ * Expressions which refer to anything defined by the query - parameters,
+ * calculated members of the query, query or dynamic named sets - and
+ * expressions evaluated in a subselect or against a calculated context member
+ * are never shared.
+ * </p>
+ *
+ * <p>
+ * Like the calcs using it, an instance belongs to one statement and is not
+ * evaluated by several threads at once.
+ * </p>
+ */
+public class SharedExpCacheDescriptor implements ExpCacheDescriptor {
+
+    private final ExpCacheDescriptor descriptor;
+    private boolean computedWithoutMisses;
+    // Derived from the expression on first shared use.
+    private boolean analyzed;
+    private boolean shareable;
+    private String canonicalForm;
+    private List<NamedSet> namedSets;
+
+    public SharedExpCacheDescriptor(ExpCacheDescriptor descriptor) {
+        this.descriptor = descriptor;
+    }
+
+    /**
+     * Returns the result of the expression in the current context.
+     *
+     * @param evaluator Evaluator
+     * @param finisher  converts the evaluated value into the form that is kept,
+     *                  for example an iterable into a list
+     * @return result
+     */
+    public Object getCachedResult(Evaluator evaluator, UnaryOperator<Object> finisher) {
+        final ExpressionResultCache cache = evaluator.getCatalogReader().getContext()
+            .getExpressionResultCache().orElse(null);
+        final ExpressionResultCache.Key key = cache == null ? null : key(evaluator);
+        if (key == null) {
+            return finisher.apply(evaluator.getCachedResult(this));
+        }
+        Object value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+        final long generation = cache.generation();
+        computedWithoutMisses = false;
+        value = finisher.apply(evaluator.getCachedResult(this));
+        if (value != null && computedWithoutMisses) {
+            cache.put(key, value, generation);
+        }
+        return value;
+    }
+
+    private ExpressionResultCache.Key key(Evaluator evaluator) {
+        final Cube cube = evaluator.getCube();
+        if (!analyzed) {
+            analyze(cube);
+        }
+        if (!shareable) {
+            return null;
+        }
+        final Query query = evaluator.getQuery();
+        if (query != null
+            && query.getSubcubeHierarchyCalcs() != null
+            && !query.getSubcubeHierarchyCalcs().isEmpty())
+        {
+            return null;
+        }
+        final Member[] members = evaluator.getMembers();
+        final int[] ordinals = descriptor.getDependentHierarchyOrdinals();
+        final Member[] context = new Member[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            final Member member = members[ordinals[i]];
+            if (member.isCalculatedInQuery()) {
+                return null;
+            }
+            context[i] = member;
+        }
+        final Catalog catalog = cube.getCatalog();
+        return new ExpressionResultCache.Key(
+            cube,
+            canonicalForm,
+            namedSets,
+            List.of(context),
+            evaluator.isNonEmpty(),
+            evaluator.getCatalogReader().getRole(),
+            catalog.getId(),
+            catalog.getCatalogLoadDate());
+    }
+
+    private void analyze(Cube cube) {
+        final ShareabilityVisitor visitor = new ShareabilityVisitor(cube);
+        descriptor.getExp().accept(visitor);
+        shareable = visitor.isShareable();
+        if (shareable) {
+            canonicalForm = Util.unparse(descriptor.getExp());
+            namedSets = visitor.getNamedSets();
+        }
+        analyzed = true;
+    }
+
+    @Override
+    public Calc<?> getCalc() {
+        return descriptor.getCalc();
+    }
+
+    @Override
+    public Object evaluate(Evaluator evaluator) {
+        final int missCount = evaluator.getMissCount();
+        final Object value = descriptor.evaluate(evaluator);
+        computedWithoutMisses = evaluator.getMissCount() == missCount;
+        return value;
+    }
+
+    @Override
+    public Expression getExp() {
+        return descriptor.getExp();
+    }
+
+    @Override
+    public int[] getDependentHierarchyOrdinals() {
+        return descriptor.getDependentHierarchyOrdinals();
+    }
+}
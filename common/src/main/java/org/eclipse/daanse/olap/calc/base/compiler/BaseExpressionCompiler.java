@@ -17,10 +17,14 @@
 
 package org.eclipse.daanse.olap.calc.base.compiler;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import org.eclipse.daanse.mdx.model.api.expression.operation.CastOperationAtom;
 import org.eclipse.daanse.olap.api.Parameter;
@@ -43,11 +47,13 @@ import org.eclipse.daanse.olap.api.calc.tuple.TupleIteratorCalc;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
 import org.eclipse.daanse.olap.api.element.Dimension;
 import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
 import org.eclipse.daanse.olap.api.exception.TypeConversionException;
 import org.eclipse.daanse.olap.api.query.Validator;
 import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
 import org.eclipse.daanse.olap.api.type.BooleanType;
 import org.eclipse.daanse.olap.api.type.DecimalType;
 import org.eclipse.daanse.olap.api.type.DimensionType;
@@ -61,6 +67,8 @@ import org.eclipse.daanse.olap.api.type.SetType;
 import org.eclipse.daanse.olap.api.type.StringType;
 import org.eclipse.daanse.olap.api.type.TupleType;
 import org.eclipse.daanse.olap.api.type.Type;
+import org.eclipse.daanse.olap.calc.base.AbstractProfilingNestedCalc;
+import org.eclipse.daanse.olap.calc.base.cache.ShareabilityVisitor;
 import org.eclipse.daanse.olap.calc.base.constant.ConstantBooleanCalc;
 import org.eclipse.daanse.olap.calc.base.constant.ConstantDoubleCalc;
 import org.eclipse.daanse.olap.calc.base.constant.ConstantHierarchyCalc;
@@ -81,6 +89,7 @@ import org.eclipse.daanse.olap.calc.base.type.level.UnknownToLevelCalc;
 import org.eclipse.daanse.olap.calc.base.type.member.UnknownToMemberCalc;
 import org.eclipse.daanse.olap.calc.base.type.string.UnknownToStringCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.IterableListCalc;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.MemberArrayValueCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.MemberValueCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleValueCalc;
 import org.eclipse.daanse.olap.calc.base.util.DimensionUtil;
@@ -100,6 +109,11 @@ public class BaseExpressionCompiler implements ExpressionCompiler {
     private final Validator validator;
     private final Map<Parameter, ParameterSlotImpl> parameterSlots = new HashMap<>();
     private List<ResultStyle> resultStyles;
+    // Repeated subexpressions of the outermost scalar being compiled.
+    private CommonSubexpressions commonSubexpressions;
+    // Hierarchies of the sets being iterated by the calls being compiled,
+    // innermost first.
+    private final Deque<List<Hierarchy>> iteratedHierarchies = new ArrayDeque<>();
     private static final String NULL_NOT_SUPPORTED = "Function does not support NULL member parameter";
     private static final DecimalType INTEGER_TYPE = new DecimalType(Integer.MAX_VALUE, 0);
 
@@ -405,8 +419,58 @@ public class BaseExpressionCompiler implements ExpressionCompiler {
 
     @Override
     public Calc<?> compileScalar(Expression expression, boolean specific) {
+        if (commonSubexpressions != null) {
+            return compileShareableScalar(expression, specific);
+        }
+        commonSubexpressions = new CommonSubexpressions(expression);
+        try {
+            return compileShareableScalar(expression, specific);
+        } finally {
+            commonSubexpressions = null;
+        }
+    }
+
+    /**
+     * Compiles a scalar, or returns the calc its earlier occurrences in the
+     * same tree compiled to.
+     */
+    private Calc<?> compileShareableScalar(Expression expression, boolean specific) {
+        final String key = commonSubexpressions.keyOf(expression);
+        if (key == null || (specific && expression.getType() instanceof ScalarType)) {
+            // a specific scalar shares through compileScalar(expression, false)
+            return compileScalarCalc(expression, specific);
+        }
+        final Calc<?> shared = commonSubexpressions.get(key);
+        if (shared != null) {
+            return shared;
+        }
+        final Calc<?> calc = compileScalarCalc(expression, specific);
+        if (commonSubexpressions.isRepeated(key) || isLoopInvariant(calc)) {
+            return commonSubexpressions.share(key, expression, calc, getEvaluator());
+        }
+        return calc;
+    }
+
+    /**
+     * Returns whether a calc is inside a loop but does not depend on what the
+     * loop iterates, so that evaluating it once per context is enough.
+     */
+    private boolean isLoopInvariant(Calc<?> calc) {
+        final List<Hierarchy> hierarchies = iteratedHierarchies.peek();
+        if (hierarchies == null) {
+            return false;
+        }
+        for (Hierarchy hierarchy : hierarchies) {
+            if (calc.dependsOn(hierarchy)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Calc<?> compileScalarCalc(Expression expression, boolean specific) {
         final Type type = expression.getType();
-        return switch (type) {
+        final Calc<?> calc = switch (type) {
         case MemberType _ -> memberToScalar(compileMember(expression));
         case DimensionType _,HierarchyType _ -> hierarchyToScalar(compileHierarchy(expression));
         case TupleType tupleType -> {
@@ -417,6 +481,69 @@ public class BaseExpressionCompiler implements ExpressionCompiler {
         case ScalarType _ when specific -> compileSpecificScalar(expression, type);
         default -> compile(expression);
         };
+        return fold(expression, calc);
+    }
+
+    /**
+     * Folds a call whose arguments are all constant, and whose value depends on
+     * no hierarchy, into a constant calc, evaluating it once here rather than
+     * for every cell.
+     *
+     * <p>
+     * Cell values are never folded: the value of a tuple of constant members
+     * is data, which the cache may not hold yet and which can change while the
+     * compiled query lives. A call whose evaluation here misses a cell is not
+     * folded either, for the same reason.
+     * </p>
+     *
+     * @param expression expression compiled
+     * @param calc       calc compiled from it
+     * @return constant calc, or {@code calc} if it cannot be folded
+     */
+    Calc<?> fold(Expression expression, Calc<?> calc) {
+        if (evaluator == null
+            || calc instanceof ConstantCalc<?>
+            || calc instanceof MemberValueCalc
+            || calc instanceof MemberArrayValueCalc
+            || calc instanceof TupleValueCalc
+            || !(expression instanceof ResolvedFunCall call)
+            || ShareabilityVisitor.isVolatile(call)
+            || !(calc instanceof AbstractProfilingNestedCalc<?> nested)
+            || nested.getChildCalcs().length == 0)
+        {
+            return calc;
+        }
+        for (Calc<?> child : nested.getChildCalcs()) {
+            if (!(child instanceof ConstantCalc<?>)) {
+                return calc;
+            }
+        }
+        for (Member member : evaluator.getMembers()) {
+            if (calc.dependsOn(member.getHierarchy())) {
+                return calc;
+            }
+        }
+        final Object value;
+        final int missCount = evaluator.getMissCount();
+        try {
+            value = calc.evaluate(evaluator);
+        } catch (RuntimeException e) {
+            // Left for evaluation to report, as it always did.
+            return calc;
+        }
+        if (evaluator.getMissCount() != missCount) {
+            return calc;
+        }
+        return switch (calc.getType()) {
+        case NumericType numericType when calc instanceof DoubleCalc && (value == null || value instanceof Double) ->
+            new ConstantDoubleCalc(numericType, (Double) value);
+        case NumericType numericType when calc instanceof IntegerCalc && (value == null || value instanceof Integer) ->
+            new ConstantIntegerCalc(numericType, (Integer) value);
+        case BooleanType booleanType when value instanceof Boolean bool -> new ConstantBooleanCalc(booleanType, bool);
+        case StringType stringType when value == null || value instanceof String ->
+            new ConstantStringCalc(stringType, (String) value);
+        default -> calc;
+        };
     }
 
     private Calc<?> compileSpecificScalar(Expression expression, Type type) {
@@ -473,4 +600,42 @@ public class BaseExpressionCompiler implements ExpressionCompiler {
     public List<ResultStyle> getAcceptableResultStyles() {
         return resultStyles;
     }
+
+    @Override
+    public <C extends Calc<?>> C compileIterated(Type iteratedType, Supplier<C> body) {
+        final List<Hierarchy> hierarchies = hierarchiesOf(iteratedType);
+        if (hierarchies == null) {
+            // not known what the loop sets, so nothing is known invariant
+            return body.get();
+        }
+        iteratedHierarchies.push(hierarchies);
+        try {
+            return body.get();
+        } finally {
+            iteratedHierarchies.pop();
+        }
+    }
+
+    /**
+     * Returns the hierarchies whose members a loop over a set of the given
+     * type sets, or null if not all are known.
+     */
+    private static List<Hierarchy> hierarchiesOf(Type setType) {
+        if (!(setType instanceof SetType type)) {
+            return null;
+        }
+        final List<Hierarchy> hierarchies = new ArrayList<>();
+        final Type elementType = type.getElementType();
+        final Type[] elementTypes = elementType instanceof TupleType tupleType
+            ? tupleType.elementTypes
+            : new Type[] { elementType };
+        for (Type element : elementTypes) {
+            final Hierarchy hierarchy = element.getHierarchy();
+            if (hierarchy == null) {
+                return null;
+            }
+            hierarchies.add(hierarchy);
+        }
+        return hierarchies;
+    }
 }
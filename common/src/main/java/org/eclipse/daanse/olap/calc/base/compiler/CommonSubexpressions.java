@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.compiler;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.daanse.olap.api.calc.BooleanCalc;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.ConstantCalc;
+import org.eclipse.daanse.olap.api.calc.DateTimeCalc;
+import org.eclipse.daanse.olap.api.calc.DoubleCalc;
+import org.eclipse.daanse.olap.api.calc.IntegerCalc;
+import org.eclipse.daanse.olap.api.calc.StringCalc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleIteratorCalc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.NamedSetExpression;
+import org.eclipse.daanse.olap.api.query.component.ParameterExpression;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
+import org.eclipse.daanse.olap.calc.base.cache.ShareabilityVisitor;
+import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedBooleanCalc;
+import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDateTimeCalc;
+import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedIntegerCalc;
+import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedStringCalc;
+import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedUnknownCalc;
+import org.eclipse.daanse.olap.common.ExpCacheDescriptorImpl;
+import org.eclipse.daanse.olap.common.Util;
+
+/**
+ * Common subexpressions of one expression tree.
+ *
+ * <p>
+ * Calculated members often repeat a fragment, say
+ * {@code ([Measures].[Sales], ParallelPeriod(...))} in a numerator and in the
+ * guard of its denominator. Each occurrence used to compile to a calc of its
+ * own and be evaluated again. Occurrences of a scalar subexpression which
+ * appears more than once now compile to one calc which keeps its value in the
+ * evaluator's expression cache, keyed by the context members of the
+ * hierarchies the calc {@link Calc#dependsOn depends on} and by whether empty
+ * cells are skipped - the same mechanism as the {@code Cache} function.
+ * </p>
+ *
+ * <p>
+ * Subexpressions are identified by their unparsed text. Only calls with a call
+ * among their arguments are shared; looking a trivial call up costs more than
+ * evaluating it. Calls whose value depends on more than the context members -
+ * volatile functions, the position in a named set, parameters - are never
+ * shared.
+ * </p>
+ *
+ * <p>
+ * The same calc serves calls inside a loop - the condition of {@code Filter},
+ * the value of {@code Sum} - which depend on none of the hierarchies the loop
+ * iterates: they are then evaluated once per loop instead of once per tuple.
+ * </p>
+ */
+final class CommonSubexpressions {
+
+    /**
+     * Functions whose value depends on the position in a set being iterated,
+     * which is not part of the evaluator context.
+     */
+    private static final Set<String> POSITIONAL_FUNCTIONS =
+        Set.of("current", "currentordinal", "currentindex");
+
+    private final Map<Expression, String> keys = new IdentityHashMap<>();
+    private final Map<String, Integer> occurrences = new HashMap<>();
+    private final Map<String, Calc<?>> shared = new HashMap<>();
+
+    /**
+     * Creates the common subexpressions of an expression tree.
+     *
+     * @param root root of the tree
+     */
+    CommonSubexpressions(Expression root) {
+        walk(root);
+    }
+
+    /**
+     * Returns the key of an expression if it is a call in the tree which can
+     * be shared, otherwise null.
+     */
+    String keyOf(Expression expression) {
+        return keys.get(expression);
+    }
+
+    /**
+     * Returns whether a subexpression occurs more than once in the tree and is
+     * worth sharing between its occurrences.
+     */
+    boolean isRepeated(String key) {
+        return occurrences.getOrDefault(key, 0) > 1;
+    }
+
+    /**
+     * Returns the calc shared by the occurrences of a subexpression, or null if
+     * none has been compiled yet.
+     */
+    Calc<?> get(String key) {
+        return shared.get(key);
+    }
+
+    /**
+     * Returns a calc which evaluates a subexpression once per context, and
+     * which the remaining occurrences of the subexpression reuse.
+     *
+     * @param key        key of the subexpression
+     * @param expression one occurrence of the subexpression
+     * @param calc       calc compiled from it
+     * @param evaluator  evaluator at compile time
+     * @return shared calc, or {@code calc} if it is not worth sharing
+     */
+    Calc<?> share(String key, Expression expression, Calc<?> calc, Evaluator evaluator) {
+        Calc<?> sharedCalc = calc;
+        if (evaluator != null && !(calc instanceof ConstantCalc<?>)) {
+            sharedCalc = wrap(calc, new Descriptors(expression, calc, evaluator));
+        }
+        shared.put(key, sharedCalc);
+        return sharedCalc;
+    }
+
+    /**
+     * Records the keys of the shareable calls under an expression.
+     *
+     * @return whether the expression can be shared
+     */
+    private boolean walk(Expression expression) {
+        if (expression instanceof ParameterExpression) {
+            return false;
+        }
+        if (expression instanceof NamedSetExpression namedSetExpression) {
+            return !namedSetExpression.getNamedSet().isDynamic();
+        }
+        if (!(expression instanceof ResolvedFunCall call)) {
+            return true;
+        }
+        boolean shareable = !ShareabilityVisitor.isVolatile(call)
+            && !POSITIONAL_FUNCTIONS.contains(
+                call.getOperationAtom().name().toLowerCase(Locale.ROOT));
+        boolean nested = false;
+        for (Expression arg : call.getArgs()) {
+            shareable &= walk(arg);
+            nested |= arg instanceof ResolvedFunCall;
+        }
+        if (shareable) {
+            final String key = Util.unparse(call);
+            keys.put(call, key);
+            if (nested) {
+                occurrences.merge(key, 1, Integer::sum);
+            }
+        }
+        return shareable;
+    }
+
+    /**
+     * The cache descriptors of a shared calc, one for each non-empty state.
+     * The evaluator keys its cache by the descriptor's expression and the
+     * members the calc depends on. Whether empty cells are skipped changes the
+     * value too - {@code Filter} switches it off for its condition - so the
+     * non-empty state has a descriptor over a copy of the expression, which
+     * is a key of its own.
+     */
+    private record Descriptors(ExpCacheDescriptorImpl all, ExpCacheDescriptorImpl nonEmpty) {
+
+        Descriptors(Expression expression, Calc<?> calc, Evaluator evaluator) {
+            this(new ExpCacheDescriptorImpl(expression, calc, evaluator),
+                new ExpCacheDescriptorImpl(expression.cloneExp(), calc, evaluator));
+        }
+
+        ExpCacheDescriptorImpl of(Evaluator evaluator) {
+            return evaluator.isNonEmpty() ? nonEmpty : all;
+        }
+
+        Calc<?> getCalc() {
+            return all.getCalc();
+        }
+    }
+
+    private static Calc<?> wrap(Calc<?> calc, Descriptors descriptors) {
+        return switch (calc) {
+        case DoubleCalc _ -> new SharedDoubleCalc(descriptors);
+        case IntegerCalc _ -> new SharedIntegerCalc(descriptors);
+        case BooleanCalc _ -> new SharedBooleanCalc(descriptors);
+        case StringCalc _ -> new SharedStringCalc(descriptors);
+        case DateTimeCalc _ -> new SharedDateTimeCalc(descriptors);
+        // sets are not scalars; left alone should one get here
+        case TupleIteratorCalc<?> _, TupleListCalc _ -> calc;
+        default -> new SharedUnknownCalc(descriptors);
+        };
+    }
+
+    private static class SharedDoubleCalc extends AbstractProfilingNestedDoubleCalc {
+        private final Descriptors descriptors;
+
+        SharedDoubleCalc(Descriptors descriptors) {
+            super(descriptors.getCalc().getType(), descriptors.getCalc());
+            this.descriptors = descriptors;
+        }
+
+        @Override
+        public Double evaluateInternal(Evaluator evaluator) {
+            return (Double) evaluator.getCachedResult(descriptors.of(evaluator));
+        }
+    }
+
+    private static class SharedIntegerCalc extends AbstractProfilingNestedIntegerCalc {
+        private final Descriptors descriptors;
+
+        SharedIntegerCalc(Descriptors descriptors) {
+            super(descriptors.getCalc().getType(), descriptors.getCalc());
+            this.descriptors = descriptors;
+        }
+
+        @Override
+        public Integer evaluateInternal(Evaluator evaluator) {
+            return (Integer) evaluator.getCachedResult(descriptors.of(evaluator));
+        }
+    }
+
+    private static class SharedBooleanCalc extends AbstractProfilingNestedBooleanCalc {
+        private final Descriptors descriptors;
+
+        SharedBooleanCalc(Descriptors descriptors) {
+            super(descriptors.getCalc().getType(), descriptors.getCalc());
+            this.descriptors = descriptors;
+        }
+
+        @Override
+        public Boolean evaluateInternal(Evaluator evaluator) {
+            return (Boolean) evaluator.getCachedResult(descriptors.of(evaluator));
+        }
+    }
+
+    private static class SharedStringCalc extends AbstractProfilingNestedStringCalc {
+        private final Descriptors descriptors;
+
+        SharedStringCalc(Descriptors descriptors) {
+            super(descriptors.getCalc().getType(), descriptors.getCalc());
+            this.descriptors = descriptors;
+        }
+
+        @Override
+        public String evaluateInternal(Evaluator evaluator) {
+            return (String) evaluator.getCachedResult(descriptors.of(evaluator));
+        }
+    }
+
+    private static class SharedDateTimeCalc extends AbstractProfilingNestedDateTimeCalc {
+        private final Descriptors descriptors;
+
+        SharedDateTimeCalc(Descriptors descriptors) {
+            super(descriptors.getCalc().getType(), descriptors.getCalc());
+            this.descriptors = descriptors;
+        }
+
+        @Override
+        public LocalDateTime evaluateInternal(Evaluator evaluator) {
+            return (LocalDateTime) evaluator.getCachedResult(descriptors.of(evaluator));
+        }
+    }
+
+    private static class SharedUnknownCalc extends AbstractProfilingNestedUnknownCalc {
+        private final Descriptors descriptors;
+
+        SharedUnknownCalc(Descriptors descriptors) {
+            super(descriptors.getCalc().getType(), descriptors.getCalc());
+            this.descriptors = descriptors;
+        }
+
+        @Override
+        public Object evaluateInternal(Evaluator evaluator) {
+            return evaluator.getCachedResult(descriptors.of(evaluator));
+        }
+    }
+}
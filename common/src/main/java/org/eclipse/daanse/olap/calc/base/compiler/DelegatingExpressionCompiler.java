@@ -20,6 +20,7 @@ package org.eclipse.daanse.olap.calc.base.compiler;
 
 import java.io.PrintWriter;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.eclipse.daanse.olap.api.DataType;
 import org.eclipse.daanse.olap.api.Parameter;
@@ -204,6 +205,11 @@ public class DelegatingExpressionCompiler implements ExpressionCompiler {
         return parent.getAcceptableResultStyles();
     }
 
+    @Override
+    public <C extends Calc<?>> C compileIterated(Type iteratedType, Supplier<C> body) {
+        return parent.compileIterated(iteratedType, body);
+    }
+
     /**
      * Wrapping an expression ensures that when it is visited, it calls back to this
      * compiler rather than our parent (wrapped) compiler.
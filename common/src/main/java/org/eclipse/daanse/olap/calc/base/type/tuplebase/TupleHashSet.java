@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.type.tuplebase;
+
+import java.util.Arrays;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+
+/**
+ * Set of tuples of one arity, for the set functions which remove duplicates or
+ * look tuples up: {@code Distinct}, {@code Union}, {@code Except},
+ * {@code Generate}.
+ *
+ * <p>
+ * A {@code HashSet<List<Member>>} costs a list per tuple - and
+ * {@link ArrayTupleList#get(int)} copies a mutable list's row - plus an entry
+ * per tuple. This set reads the members of a row straight from the tuple list
+ * with {@link TupleList#get(int, int)}, keeps the members of the tuples it
+ * holds in one flat array, and finds them by open addressing over row numbers.
+ * Tuples are equal if their members are equal, as for lists.
+ * </p>
+ */
+public final class TupleHashSet {
+
+    private final int arity;
+    private final Member[] scratch;
+    private Member[] members;
+    private int[] hashes;
+    private int size;
+    // Row number plus one of the tuple in each slot; zero marks a free slot.
+    private int[] table;
+
+    /**
+     * Creates an empty set.
+     *
+     * @param arity        arity of the tuples
+     * @param expectedSize number of tuples the set is expected to hold
+     */
+    public TupleHashSet(int arity, int expectedSize) {
+        this.arity = arity;
+        this.scratch = new Member[arity];
+        final int capacity = Math.max(4, expectedSize);
+        this.members = new Member[capacity * arity];
+        this.hashes = new int[capacity];
+        this.table = new int[tableSize(capacity)];
+    }
+
+    /**
+     * Creates a set of the tuples of a list.
+     */
+    public static TupleHashSet of(TupleList list) {
+        final TupleHashSet set = new TupleHashSet(list.getArity(), list.size());
+        for (int i = 0, n = list.size(); i < n; i++) {
+            set.add(list, i);
+        }
+        return set;
+    }
+
+    /**
+     * Returns the number of tuples in the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds a row of a list.
+     *
+     * @return whether the tuple was not in the set yet
+     */
+    public boolean add(TupleList list, int index) {
+        load(list, index);
+        return insert();
+    }
+
+    /**
+     * Returns whether the set holds a row of a list.
+     */
+    public boolean contains(TupleList list, int index) {
+        load(list, index);
+        return find(hash(scratch)) >= 0;
+    }
+
+    /**
+     * Adds the rows of a list which are not in the set yet to the set and, in
+     * their order, to a target list.
+     */
+    public void addDistinct(TupleList source, TupleList target) {
+        for (int i = 0, n = source.size(); i < n; i++) {
+            load(source, i);
+            if (insert()) {
+                target.addTuple(scratch);
+            }
+        }
+    }
+
+    /**
+     * Adds the rows of a list which are not in the set to a target list,
+     * leaving the set as it is.
+     */
+    public void addMissing(TupleList source, TupleList target) {
+        for (int i = 0, n = source.size(); i < n; i++) {
+            load(source, i);
+            if (find(hash(scratch)) < 0) {
+                target.addTuple(scratch);
+            }
+        }
+    }
+
+    private void load(TupleList list, int index) {
+        for (int c = 0; c < arity; c++) {
+            scratch[c] = list.get(c, index);
+        }
+    }
+
+    private boolean insert() {
+        final int hash = hash(scratch);
+        final int mask = table.length - 1;
+        int slot = hash & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (hashes[entry - 1] == hash && rowEquals(entry - 1)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == hashes.length) {
+            hashes = Arrays.copyOf(hashes, size * 2);
+            members = Arrays.copyOf(members, size * 2 * arity);
+        }
+        System.arraycopy(scratch, 0, members, size * arity, arity);
+        hashes[size] = hash;
+        table[slot] = ++size;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the row number of the tuple in {@code scratch}, or -1.
+     */
+    private int find(int hash) {
+        final int mask = table.length - 1;
+        int slot = hash & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (hashes[entry - 1] == hash && rowEquals(entry - 1)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean rowEquals(int row) {
+        final int offset = row * arity;
+        for (int c = 0; c < arity; c++) {
+            final Member m = members[offset + c];
+            final Member s = scratch[c];
+            if (m != s && (m == null || !m.equals(s))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        final int mask = table.length - 1;
+        for (int row = 0; row < size; row++) {
+            int slot = hashes[row] & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = row + 1;
+        }
+    }
+
+    private static int hash(Member[] tuple) {
+        int h = 1;
+        for (Member member : tuple) {
+            h = 31 * h + (member == null ? 0 : member.hashCode());
+        }
+        // spread the bits, as the table size is a power of two
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSize(int capacity) {
+        return Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1) << 1;
+    }
+}
@@ -33,8 +33,15 @@ package org.eclipse.daanse.olap.common;
  */
 public class ConfigConstants {
     public static final String QUERY_LIMIT = "queryLimit";
+    public static final String ADMISSION_LIMIT = "admissionLimit";
+    public static final String ADMISSION_USER_LIMIT = "admissionUserLimit";
+    public static final String ADMISSION_ROLE_LIMIT = "admissionRoleLimit";
+    public static final String ADMISSION_BATCH_LIMIT = "admissionBatchLimit";
+    public static final String ADMISSION_QUEUE_TIMEOUT = "admissionQueueTimeout";
+    public static final String ADMISSION_TENANT_WEIGHTS = "admissionTenantWeights";
     public static final String SEGMENT_CACHE = "segmentCache";
     public static final String ENABLE_TOTAL_COUNT = "enableTotalCount";
+    public static final String DRILL_THROUGH_MAX_ROWS = "drillThroughMaxRows";
     public static final String SEGMENT_CACHE_MANAGER_NUMBER_CACHE_THREADS = "segmentCacheManagerNumberCacheThreads";
     public static final String CELL_BATCH_SIZE = "cellBatchSize";
     public static final String ROLAP_CONNECTION_SHEPHERD_NB_THREADS = "rolapConnectionShepherdNbThreads";
@@ -54,6 +61,8 @@ public class ConfigConstants {
     public static final String ENABLE_NATIVE_NON_EMPTY = "enableNativeNonEmpty";
     public static final String ENABLE_NATIVE_TOP_COUNT = "enableNativeTopCount";
     public static final String ENABLE_IN_MEMORY_ROLLUP = "enableInMemoryRollup";
+    public static final String ENABLE_DISTINCT_COUNT_SKETCHES = "enableDistinctCountSketches";
+    public static final String DISTINCT_COUNT_SKETCH_EXACT_LIMIT = "distinctCountSketchExactLimit";
     public static final String EXPAND_NON_NATIVE = "expandNonNative";
     public static final String GENERATE_AGGREGATE_SQL = "generateAggregateSql";
     public static final String IGNORE_INVALID_MEMBERS_DURING_QUERY = "ignoreInvalidMembersDuringQuery";
@@ -66,6 +75,9 @@ public class ConfigConstants {
     public static final String CASE_SENSITIVE_MDX_INSTR = "caseSensitiveMdxInstr";
     public static final String COMPARE_SIBLINGS_BY_ORDER_KEY = "compareSiblingsByOrderKey";
     public static final String ENABLE_EXP_CACHE = "enableExpCache";
+    public static final String EXPRESSION_RESULT_CACHE_SIZE = "expressionResultCacheSize";
+    public static final String QUERY_RESULT_CACHE_SIZE = "queryResultCacheSize";
+    public static final String QUERY_RESULT_CACHE_TTL = "queryResultCacheTtl";
     public static final String ENABLE_NON_EMPTY_ON_ALL_AXIS = "enableNonEmptyOnAllAxis";
     public static final String ENABLE_ROLAP_CUBE_MEMBER_CACHE = "enableRolapCubeMemberCache";
     public static final String FILTER_CHILDLESS_SNOWFLAKE_MEMBERS = "filterChildlessSnowflakeMembers";
@@ -96,8 +108,16 @@ public class ConfigConstants {
     public static final String EXECUTE_DURATION_UNIT = "executeDurationUnit";
 
     public static final int QUERY_LIMIT_DEFAULT_VALUE = 40;
+    /** 0 means no limit. */
+    public static final int ADMISSION_LIMIT_DEFAULT_VALUE = 0;
+    public static final int ADMISSION_USER_LIMIT_DEFAULT_VALUE = 0;
+    public static final int ADMISSION_ROLE_LIMIT_DEFAULT_VALUE = 0;
+    public static final int ADMISSION_BATCH_LIMIT_DEFAULT_VALUE = 0;
+    public static final long ADMISSION_QUEUE_TIMEOUT_DEFAULT_VALUE = 30000L;
+    public static final String ADMISSION_TENANT_WEIGHTS_DEFAULT_VALUE = "";
     public static final String SEGMENT_CACHE_DEFAULT_VALUE = null;
     public static final boolean ENABLE_TOTAL_COUNT_DEFAULT_VALUE = false;
+    public static final int DRILL_THROUGH_MAX_ROWS_DEFAULT_VALUE = 0;
     public static final int SEGMENT_CACHE_MANAGER_NUMBER_CACHE_THREADS_DEFAULT_VALUE = 100;
     public static final int CELL_BATCH_SIZE_DEFAULT_VALUE = -1;
     public static final int ROLAP_CONNECTION_SHEPHERD_NB_THREADS_DEFAULT_VALUE = 20;
@@ -117,6 +137,8 @@ public class ConfigConstants {
     public static final boolean ENABLE_NATIVE_NON_EMPTY_DEFAULT_VALUE = true;
     public static final boolean ENABLE_NATIVE_TOP_COUNT_DEFAULT_VALUE = true;
     public static final boolean ENABLE_IN_MEMORY_ROLLUP_DEFAULT_VALUE = true;
+    public static final boolean ENABLE_DISTINCT_COUNT_SKETCHES_DEFAULT_VALUE = false;
+    public static final int DISTINCT_COUNT_SKETCH_EXACT_LIMIT_DEFAULT_VALUE = 4096;
     public static final boolean EXPAND_NON_NATIVE_DEFAULT_VALUE = false;
     public static final boolean GENERATE_AGGREGATE_SQL_DEFAULT_VALUE = false;
     public static final boolean IGNORE_INVALID_MEMBERS_DURING_QUERY_DEFAULT_VALUE = false;
@@ -153,6 +175,11 @@ public class ConfigConstants {
     public static final boolean CASE_SENSITIVE_MDX_INSTR_DEFAULT_VALUE = false;
     public static final boolean COMPARE_SIBLINGS_BY_ORDER_KEY_DEFAULT_VALUE = false;
     public static final boolean ENABLE_EXP_CACHE_DEFAULT_VALUE = true;
+    /** 0 means no cache shared between queries. */
+    public static final int EXPRESSION_RESULT_CACHE_SIZE_DEFAULT_VALUE = 0;
+    /** 0 means no query result cache. */
+    public static final int QUERY_RESULT_CACHE_SIZE_DEFAULT_VALUE = 0;
+    public static final int QUERY_RESULT_CACHE_TTL_DEFAULT_VALUE = 60;
     public static final boolean ENABLE_NON_EMPTY_ON_ALL_AXIS_DEFAULT_VALUE = false;
     public static final boolean ENABLE_ROLAP_CUBE_MEMBER_CACHE_DEFAULT_VALUE = true;
     public static final boolean FILTER_CHILDLESS_SNOWFLAKE_MEMBERS_DEFAULT_VALUE = true;
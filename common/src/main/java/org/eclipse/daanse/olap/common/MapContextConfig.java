@@ -230,6 +230,18 @@ public class MapContextConfig implements ContextConfig {
                 Boolean.class);
     }
 
+    @Override
+    public boolean enableDistinctCountSketches() {
+        return value(ConfigConstants.ENABLE_DISTINCT_COUNT_SKETCHES,
+                ConfigConstants.ENABLE_DISTINCT_COUNT_SKETCHES_DEFAULT_VALUE, Boolean.class);
+    }
+
+    @Override
+    public int distinctCountSketchExactLimit() {
+        return value(ConfigConstants.DISTINCT_COUNT_SKETCH_EXACT_LIMIT,
+                ConfigConstants.DISTINCT_COUNT_SKETCH_EXACT_LIMIT_DEFAULT_VALUE, Integer.class);
+    }
+
     // --- evaluation and MDX semantics ---------------------------------
 
     @Override
@@ -337,6 +349,12 @@ public class MapContextConfig implements ContextConfig {
                 Boolean.class);
     }
 
+    @Override
+    public int drillThroughMaxRows() {
+        return value(ConfigConstants.DRILL_THROUGH_MAX_ROWS, ConfigConstants.DRILL_THROUGH_MAX_ROWS_DEFAULT_VALUE,
+                Integer.class);
+    }
+
     // --- concurrency ---------------------------------------------------
 
     @Override
@@ -344,6 +362,41 @@ public class MapContextConfig implements ContextConfig {
         return value(ConfigConstants.QUERY_LIMIT, ConfigConstants.QUERY_LIMIT_DEFAULT_VALUE, Integer.class);
     }
 
+    @Override
+    public int admissionLimit() {
+        return value(ConfigConstants.ADMISSION_LIMIT, ConfigConstants.ADMISSION_LIMIT_DEFAULT_VALUE, Integer.class);
+    }
+
+    @Override
+    public int admissionUserLimit() {
+        return value(ConfigConstants.ADMISSION_USER_LIMIT, ConfigConstants.ADMISSION_USER_LIMIT_DEFAULT_VALUE,
+                Integer.class);
+    }
+
+    @Override
+    public int admissionRoleLimit() {
+        return value(ConfigConstants.ADMISSION_ROLE_LIMIT, ConfigConstants.ADMISSION_ROLE_LIMIT_DEFAULT_VALUE,
+                Integer.class);
+    }
+
+    @Override
+    public int admissionBatchLimit() {
+        return value(ConfigConstants.ADMISSION_BATCH_LIMIT, ConfigConstants.ADMISSION_BATCH_LIMIT_DEFAULT_VALUE,
+                Integer.class);
+    }
+
+    @Override
+    public long admissionQueueTimeout() {
+        return value(ConfigConstants.ADMISSION_QUEUE_TIMEOUT, ConfigConstants.ADMISSION_QUEUE_TIMEOUT_DEFAULT_VALUE,
+                Long.class);
+    }
+
+    @Override
+    public String admissionTenantWeights() {
+        return value(ConfigConstants.ADMISSION_TENANT_WEIGHTS,
+                ConfigConstants.ADMISSION_TENANT_WEIGHTS_DEFAULT_VALUE, String.class);
+    }
+
     @Override
     public int rolapConnectionShepherdNbThreads() {
         return value(ConfigConstants.ROLAP_CONNECTION_SHEPHERD_NB_THREADS,
@@ -460,6 +513,24 @@ public class MapContextConfig implements ContextConfig {
         return value(ConfigConstants.ENABLE_EXP_CACHE, ConfigConstants.ENABLE_EXP_CACHE_DEFAULT_VALUE, Boolean.class);
     }
 
+    @Override
+    public int expressionResultCacheSize() {
+        return value(ConfigConstants.EXPRESSION_RESULT_CACHE_SIZE,
+                ConfigConstants.EXPRESSION_RESULT_CACHE_SIZE_DEFAULT_VALUE, Integer.class);
+    }
+
+    @Override
+    public int queryResultCacheSize() {
+        return value(ConfigConstants.QUERY_RESULT_CACHE_SIZE,
+                ConfigConstants.QUERY_RESULT_CACHE_SIZE_DEFAULT_VALUE, Integer.class);
+    }
+
+    @Override
+    public int queryResultCacheTtl() {
+        return value(ConfigConstants.QUERY_RESULT_CACHE_TTL,
+                ConfigConstants.QUERY_RESULT_CACHE_TTL_DEFAULT_VALUE, Integer.class);
+    }
+
     @Override
     public boolean enableNonEmptyOnAllAxis() {
         return value(ConfigConstants.ENABLE_NON_EMPTY_ON_ALL_AXIS,
@@ -223,6 +223,89 @@ public abstract class ValidatorImpl implements Validator {
         Expression[] args,
         OperationAtom operationAtom)
     {
+        FunctionResolutionResult winner = resolve(args, operationAtom);
+        if (winner == null) {
+            winner = explainFailure(args, operationAtom);
+        }
+        for (FunctionResolver.Conversion conversion : winner.conversions()) {
+            conversion.checkValid();
+            conversion.apply(this, Arrays.asList(args));
+        }
+
+        return winner.definition();
+    }
+
+    /**
+     * Returns the only minimum-cost match for a call, or null if there is none
+     * or more than one. Unlike {@link #explainDef}, builds no trace, and when
+     * a call with arguments of the same categories has been resolved before
+     * and resolution goes by category alone, asks only the resolver which
+     * won then.
+     */
+    private FunctionResolutionResult resolve(Expression[] args, OperationAtom operationAtom) {
+        final List<DataType> categories = resolutionCategoriesOf(args);
+        if (categories != null) {
+            final Optional<FunctionResolver> known =
+                functionService.getResolver(operationAtom, categories);
+            if (known.isPresent()) {
+                final Optional<FunctionResolutionResult> result =
+                    known.get().resolve(args, this);
+                if (result.isPresent()) {
+                    return result.get();
+                }
+            }
+        }
+
+        int minConversionCost = Integer.MAX_VALUE;
+        FunctionResolutionResult bestMatch = null;
+        FunctionResolver bestResolver = null;
+        boolean ambiguous = false;
+        for (FunctionResolver resolver : functionService.getResolvers(operationAtom)) {
+            Optional<FunctionResolutionResult> result = resolver.resolve(args, this);
+            if (result.isEmpty()) {
+                continue;
+            }
+            int conversionCost = result.get().cost();
+            if (conversionCost < minConversionCost) {
+                minConversionCost = conversionCost;
+                bestMatch = result.get();
+                bestResolver = resolver;
+                ambiguous = false;
+            } else if (conversionCost == minConversionCost) {
+                ambiguous = true;
+            }
+        }
+        if (bestMatch == null || ambiguous) {
+            return null;
+        }
+        if (categories != null) {
+            functionService.putResolver(operationAtom, categories, bestResolver);
+        }
+        return bestMatch;
+    }
+
+    /**
+     * Returns the categories which decide whether an argument converts to a
+     * parameter (see {@link #canConvert}), or null if some argument has no type
+     * yet.
+     */
+    private static List<DataType> resolutionCategoriesOf(Expression[] args) {
+        final DataType[] categories = new DataType[args.length];
+        for (int i = 0; i < args.length; i++) {
+            final Type type = args[i].getType();
+            if (type == null) {
+                return null;
+            }
+            categories[i] = TypeUtil.typeToCategory(type);
+        }
+        return Arrays.asList(categories);
+    }
+
+    /**
+     * Throws the error for a call which did not resolve to exactly one match,
+     * from its full resolution trace.
+     */
+    private FunctionResolutionResult explainFailure(Expression[] args, OperationAtom operationAtom) {
         ResolutionExplanation explanation = explainDef(args, operationAtom);
         List<FunctionResolutionResult> bestMatches = explanation.bestMatches();
         switch (bestMatches.size()) {
@@ -230,7 +313,7 @@ public abstract class ValidatorImpl implements Validator {
             throw new OlapRuntimeException(MessageFormat.format(noFunctionMatchesSignature,
                 explanation.signature()));
         case 1:
-            break;
+            return bestMatches.get(0);
         default:
             final StringBuilder buf = new StringBuilder();
             for (FunctionResolutionResult match : bestMatches) {
@@ -244,20 +327,12 @@ public abstract class ValidatorImpl implements Validator {
                     explanation.signature(),
                     buf.toString()));
         }
-
-        final FunctionResolutionResult winner = bestMatches.get(0);
-        for (FunctionResolver.Conversion conversion : winner.conversions()) {
-            conversion.checkValid();
-            conversion.apply(this, Arrays.asList(args));
-        }
-
-        return winner.definition();
     }
 
     /**
      * Side-effect-free resolution trace: every resolver's outcome and the
-     * minimum-cost matches. Used by getDef; also the entry point for
-     * diagnosing why a call resolved (or failed to resolve) the way it did.
+     * minimum-cost matches. Used by getDef when a call does not resolve; also
+     * the entry point for diagnosing why a call resolved (or failed to resolve) the way it did.
      */
     public ResolutionExplanation explainDef(Expression[] args, OperationAtom operationAtom) {
         final String signature = FunctionPrinter.getSignature(operationAtom, DataType.UNKNOWN,
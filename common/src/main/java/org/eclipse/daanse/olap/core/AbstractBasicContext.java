@@ -17,14 +17,18 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.daanse.olap.api.Context;
 import org.eclipse.daanse.olap.api.ContextConfig;
 import org.eclipse.daanse.olap.api.agg.OlapAggregationManager;
 import org.eclipse.daanse.olap.api.cache.CatalogCache;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
+import org.eclipse.daanse.olap.api.cache.QueryResultCache;
 import org.eclipse.daanse.olap.api.connection.Connection;
 import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
+import org.eclipse.daanse.olap.api.execution.AdmissionController;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.monitor.EventBus;
 import org.eclipse.daanse.olap.api.monitor.event.ConnectionEndEvent;
@@ -36,7 +40,10 @@ import org.eclipse.daanse.olap.api.monitor.event.MdxStatementEventCommon;
 import org.eclipse.daanse.olap.api.monitor.event.MdxStatementStartEvent;
 import org.eclipse.daanse.olap.api.monitor.event.ServertEventCommon;
 import org.eclipse.daanse.olap.api.result.ResultShepherd;
+import org.eclipse.daanse.olap.calc.base.cache.ExpressionResultCacheImpl;
+import org.eclipse.daanse.olap.calc.base.cache.QueryResultCacheImpl;
 import org.eclipse.daanse.olap.common.MapContextConfig;
+import org.eclipse.daanse.olap.execution.FairAdmissionController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,6 +70,18 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 
 	protected CatalogCache schemaCache;
 
+	/**
+	 * Created on first use, and again when the configured size changes.
+	 */
+	private volatile ExpressionResultCacheImpl expressionResultCache;
+	private volatile QueryResultCacheImpl queryResultCache;
+
+	/**
+	 * Set by a subclass to plug in a controller of its own; otherwise a
+	 * {@link FairAdmissionController} is created on first use.
+	 */
+	protected volatile AdmissionController admissionController;
+
 
 	private boolean shutdown = false;
 
@@ -137,6 +156,16 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 		}
 		this.shutdown = true;
 		schemaCache.clear();
+		final ExpressionResultCacheImpl cache = expressionResultCache;
+		if (cache != null) {
+			cache.clear();
+			expressionResultCache = null;
+		}
+		final QueryResultCacheImpl resultCache = queryResultCache;
+		if (resultCache != null) {
+			resultCache.clear();
+			queryResultCache = null;
+		}
 		aggMgr.shutdown();
 
 		shepherd.shutdown();
@@ -247,6 +276,62 @@ public abstract class AbstractBasicContext<C extends Connection> implements Cont
 		return schemaCache;
 	}
 
+	@Override
+	public Optional<ExpressionResultCache> getExpressionResultCache() {
+		final int size = getConfig().expressionResultCacheSize();
+		if (size <= 0 || shutdown) {
+			return Optional.empty();
+		}
+		ExpressionResultCacheImpl cache = expressionResultCache;
+		if (cache == null || cache.getMaximumSize() != size) {
+			synchronized (this) {
+				cache = expressionResultCache;
+				if (cache == null || cache.getMaximumSize() != size) {
+					cache = new ExpressionResultCacheImpl(size);
+					expressionResultCache = cache;
+				}
+			}
+		}
+		return Optional.of(cache);
+	}
+
+	@Override
+	public Optional<QueryResultCache> getQueryResultCache() {
+		final int size = getConfig().queryResultCacheSize();
+		final int ttl = getConfig().queryResultCacheTtl();
+		if (size <= 0 || shutdown) {
+			return Optional.empty();
+		}
+		QueryResultCacheImpl cache = queryResultCache;
+		if (cache == null || cache.getMaximumSize() != size || cache.getTtlSeconds() != ttl) {
+			synchronized (this) {
+				cache = queryResultCache;
+				if (cache == null || cache.getMaximumSize() != size || cache.getTtlSeconds() != ttl) {
+					cache = new QueryResultCacheImpl(size, ttl);
+					queryResultCache = cache;
+				}
+			}
+		}
+		return Optional.of(cache);
+	}
+
+	@Override
+	public AdmissionController getAdmissionController() {
+		AdmissionController controller = admissionController;
+		if (controller == null) {
+			synchronized (this) {
+				controller = admissionController;
+				if (controller == null) {
+					// Reads the event bus when it reports, as subclasses set it late.
+					controller = new FairAdmissionController(getConfig(), event -> eventBus.accept(event),
+							getName());
+					admissionController = controller;
+				}
+			}
+		}
+		return controller;
+	}
+
 	@Override
 	public <T> T getConfigValue(String key, T dflt, Class<T> clazz) {
 
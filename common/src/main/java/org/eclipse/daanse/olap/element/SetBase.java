@@ -186,6 +186,14 @@ public class SetBase extends OlapElementBase implements NamedSet {
         return exp;
     }
 
+    /**
+     * Replaces the expression by an equivalent one, for example one which
+     * keeps its result beyond the query.
+     */
+    public void setExp(Expression exp) {
+        this.exp = exp;
+    }
+
     @Override
 	public NamedSet validate(Validator validator) {
         if (!validated) {
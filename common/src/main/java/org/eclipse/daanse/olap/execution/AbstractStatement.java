@@ -31,6 +31,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.daanse.olap.api.calc.profile.ProfileHandler;
 import org.eclipse.daanse.olap.api.catalog.CatalogReader;
 import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Admission;
 import org.eclipse.daanse.olap.api.execution.Execution;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.query.component.Query;
@@ -59,6 +60,11 @@ public abstract class AbstractStatement implements Statement {
      */
     protected long queryTimeout;
 
+    /**
+     * Who the queries of this statement are admitted as.
+     */
+    private volatile Admission admission = Admission.ANONYMOUS;
+
     /**
      * The current execution context, or null if query is not executing.
      */
@@ -139,6 +145,16 @@ public abstract class AbstractStatement implements Statement {
         return queryTimeout;
     }
 
+    @Override
+	public void setAdmission(Admission admission) {
+        this.admission = admission == null ? Admission.ANONYMOUS : admission;
+    }
+
+    @Override
+	public Admission getAdmission() {
+        return admission;
+    }
+
     @Override
 	public CatalogReader getCatalogReader() {
         return getDaanseConnection().getCatalogReader().withLocus();
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.execution;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.eclipse.daanse.olap.api.ContextConfig;
+import org.eclipse.daanse.olap.api.execution.AdmissionController;
+import org.eclipse.daanse.olap.api.execution.QueryAdmissionException;
+import org.eclipse.daanse.olap.api.execution.QueryCanceledException;
+import org.eclipse.daanse.olap.api.monitor.event.Event;
+import org.eclipse.daanse.olap.api.monitor.event.EventCommon;
+import org.eclipse.daanse.olap.api.monitor.event.QueryAdmissionEvent;
+import org.eclipse.daanse.olap.api.monitor.event.ServertEventCommon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AdmissionController} with quotas per user and role, two priority
+ * classes and weighted fair sharing between tenants.
+ *
+ * <p>
+ * Waiting queries are kept in one queue. Whenever a slot is free, the
+ * controller picks among the waiting queries whose user, roles and priority
+ * class are below their quotas: an interactive query before a batch query,
+ * then the query of the tenant with the smallest start tag, then the query
+ * that came first. The start tags implement start-time fair queuing: admitting
+ * a query of a tenant advances the tenant's tag by the inverse of its weight,
+ * so that while several tenants have queries waiting, each is admitted in
+ * proportion to its weight, and a tenant that was idle does not save up a
+ * claim on later slots.
+ * </p>
+ *
+ * <p>
+ * The limits are read from the configuration each time a slot is assigned,
+ * so a changed configuration takes effect for the queries still waiting.
+ * Every admission and every refusal is reported to the monitor with the queue
+ * depth and the time waited.
+ * </p>
+ */
+public class FairAdmissionController implements AdmissionController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FairAdmissionController.class);
+
+    private final ContextConfig config;
+    private final Consumer<Event> monitor;
+    private final String serverId;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Waiter> queue = new ArrayList<>();
+    private final Map<String, Integer> runningByUser = new HashMap<>();
+    private final Map<String, Integer> runningByRole = new HashMap<>();
+    /** Finish tag of each tenant whose tag is ahead of the virtual time. */
+    private final Map<String, Double> finishTags = new HashMap<>();
+    private int running;
+    private int runningBatch;
+    private double virtualTime;
+    private long sequence;
+    private String weightsText;
+    private Map<String, Double> weights = Map.of();
+
+    /**
+     * @param config   configuration the limits are read from
+     * @param monitor  receives a {@link QueryAdmissionEvent} per admission and
+     *                 refusal
+     * @param serverId name of the context, as the events carry it
+     */
+    public FairAdmissionController(ContextConfig config, Consumer<Event> monitor, String serverId) {
+        this.config = config;
+        this.monitor = monitor;
+        this.serverId = serverId;
+    }
+
+    private static final class Waiter {
+        private final Admission admission;
+        private final long sequence;
+        private final Condition condition;
+        private boolean granted;
+
+        private Waiter(Admission admission, long sequence, Condition condition) {
+            this.admission = admission;
+            this.sequence = sequence;
+            this.condition = condition;
+        }
+    }
+
+    @Override
+    public Permit admit(Admission admission) {
+        Objects.requireNonNull(admission, "admission");
+        final long start = System.nanoTime();
+        final long timeout = config.admissionQueueTimeout();
+        final boolean admitted;
+        final QueryAdmissionEvent event;
+        lock.lock();
+        try {
+            final Waiter waiter = new Waiter(admission, sequence++, lock.newCondition());
+            queue.add(waiter);
+            dispatch();
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+            try {
+                while (!waiter.granted && (timeout <= 0 || nanos > 0)) {
+                    if (timeout <= 0) {
+                        waiter.condition.await();
+                    } else {
+                        nanos = waiter.condition.awaitNanos(nanos);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (waiter.granted) {
+                    release(admission);
+                } else {
+                    queue.remove(waiter);
+                }
+                throw new QueryCanceledException("Interrupted while waiting to be admitted", e);
+            }
+            admitted = waiter.granted;
+            if (!admitted) {
+                queue.remove(waiter);
+            }
+            event = new QueryAdmissionEvent(new ServertEventCommon(EventCommon.ofNow(), serverId),
+                Objects.toString(admission.user(), ""), admission.tenant(), admission.priority(), admitted,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), queue.size(), running);
+        } finally {
+            lock.unlock();
+        }
+        monitor.accept(event);
+        if (!admitted) {
+            throw new QueryAdmissionException(
+                "Query was not admitted within " + timeout + " ms; " + event.queueDepth()
+                    + " queries are waiting and " + event.running() + " running");
+        }
+        return new PermitImpl(admission);
+    }
+
+    @Override
+    public int available() {
+        lock.lock();
+        try {
+            final int limit = config.admissionLimit();
+            return limit <= 0 ? Integer.MAX_VALUE : Math.max(0, limit - running);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int queueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of queries running.
+     */
+    public int running() {
+        lock.lock();
+        try {
+            return running;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Admits waiting queries while there are free slots. Called with the lock
+     * held.
+     */
+    private void dispatch() {
+        final int limit = config.admissionLimit();
+        while (!queue.isEmpty() && (limit <= 0 || running < limit)) {
+            Waiter next = null;
+            double nextTag = 0;
+            for (Waiter waiter : queue) {
+                if (!eligible(waiter.admission)) {
+                    continue;
+                }
+                final double tag = startTag(waiter.admission.tenant());
+                if (next == null || before(waiter, tag, next, nextTag)) {
+                    next = waiter;
+                    nextTag = tag;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+            queue.remove(next);
+            grant(next.admission, nextTag);
+            next.granted = true;
+            next.condition.signal();
+        }
+    }
+
+    private static boolean before(Waiter a, double aTag, Waiter b, double bTag) {
+        final int byPriority = a.admission.priority().compareTo(b.admission.priority());
+        if (byPriority != 0) {
+            return byPriority < 0;
+        }
+        if (aTag != bTag) {
+            return aTag < bTag;
+        }
+        return a.sequence < b.sequence;
+    }
+
+    private boolean eligible(Admission admission) {
+        final int batchLimit = config.admissionBatchLimit();
+        if (admission.priority() == Priority.BATCH && batchLimit > 0 && runningBatch >= batchLimit) {
+            return false;
+        }
+        final int userLimit = config.admissionUserLimit();
+        if (userLimit > 0 && isNamed(admission.user())
+            && runningByUser.getOrDefault(admission.user(), 0) >= userLimit) {
+            return false;
+        }
+        final int roleLimit = config.admissionRoleLimit();
+        if (roleLimit > 0) {
+            for (String role : admission.roles()) {
+                if (runningByRole.getOrDefault(role, 0) >= roleLimit) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private double startTag(String tenant) {
+        return Math.max(virtualTime, finishTags.getOrDefault(tenant, 0d));
+    }
+
+    private void grant(Admission admission, double startTag) {
+        running++;
+        if (admission.priority() == Priority.BATCH) {
+            runningBatch++;
+        }
+        if (isNamed(admission.user())) {
+            runningByUser.merge(admission.user(), 1, Integer::sum);
+        }
+        for (String role : admission.roles()) {
+            runningByRole.merge(role, 1, Integer::sum);
+        }
+        virtualTime = startTag;
+        finishTags.put(admission.tenant(), startTag + 1 / weight(admission.tenant()));
+        // A tenant whose tag the virtual time has passed is no different from
+        // one never seen.
+        finishTags.values().removeIf(tag -> tag <= virtualTime);
+    }
+
+    private void release(Admission admission) {
+        running--;
+        if (admission.priority() == Priority.BATCH) {
+            runningBatch--;
+        }
+        if (isNamed(admission.user())) {
+            runningByUser.computeIfPresent(admission.user(), (user, count) -> count > 1 ? count - 1 : null);
+        }
+        for (String role : admission.roles()) {
+            runningByRole.computeIfPresent(role, (name, count) -> count > 1 ? count - 1 : null);
+        }
+        dispatch();
+    }
+
+    private double weight(String tenant) {
+        final String text = config.admissionTenantWeights();
+        if (!Objects.equals(text, weightsText)) {
+            weights = parseWeights(text);
+            weightsText = text;
+        }
+        return weights.getOrDefault(tenant, 1d);
+    }
+
+    /**
+     * Parses {@code tenant=weight} pairs separated by commas. A pair that is
+     * malformed or has a weight that is not positive is logged and ignored.
+     */
+    static Map<String, Double> parseWeights(String text) {
+        if (text == null || text.isBlank()) {
+            return Map.of();
+        }
+        final Map<String, Double> map = new HashMap<>();
+        for (String pair : text.split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            final int eq = pair.lastIndexOf('=');
+            try {
+                final double weight = eq < 0 ? Double.NaN : Double.parseDouble(pair.substring(eq + 1).trim());
+                if (!(weight > 0) || Double.isInfinite(weight)) {
+                    throw new NumberFormatException();
+                }
+                map.put(pair.substring(0, eq).trim(), weight);
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Ignoring tenant weight '{}'; expected tenant=weight with a positive weight",
+                    pair.trim());
+            }
+        }
+        return map;
+    }
+
+    private static boolean isNamed(String user) {
+        return user != null && !user.isEmpty();
+    }
+
+    private class PermitImpl implements Permit {
+
+        private final Admission admission;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        PermitImpl(Admission admission) {
+            this.admission = admission;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                lock.lock();
+                try {
+                    release(admission);
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
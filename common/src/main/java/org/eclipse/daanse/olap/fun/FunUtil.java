@@ -32,6 +32,7 @@ package org.eclipse.daanse.olap.fun;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
@@ -59,6 +60,7 @@ import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.element.MetaData;
 import org.eclipse.daanse.olap.api.element.OlapElement;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.evaluator.TupleValues;
 import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
 import org.eclipse.daanse.olap.api.execution.Execution;
 import org.eclipse.daanse.olap.api.function.FunctionDefinition;
@@ -93,6 +95,7 @@ import org.eclipse.daanse.olap.query.component.HierarchyExpressionImpl;
 import org.eclipse.daanse.olap.util.CancellationChecker;
 import org.eclipse.daanse.olap.util.ConcatenableList;
 import org.eclipse.daanse.olap.util.IdentifierParser;
+import org.eclipse.daanse.olap.util.TDigest;
 import org.eclipse.daanse.olap.util.type.TypeUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -515,6 +518,46 @@ public class FunUtil extends Util {
     }
   }
 
+  /**
+   * Estimates a percentile of an expression over a set from a
+   * {@link TDigest} built while iterating the set once. Memory is bounded by
+   * the digest, not by the size of the set; sets small enough to fit the
+   * digest's buffer give the exact result of
+   * {@link #percentile(Evaluator, TupleList, Calc, double)}.
+   *
+   * @param p percentile, between 0 and 1
+   * @return estimated percentile, null if the set has no values, or NaN if
+   *     some were not loaded yet
+   */
+  public static Double approxPercentile(
+    Evaluator evaluator,
+    TupleIterable members,
+    Calc<?> exp,
+    double p ) {
+    TDigest digest = new TDigest( TDigest.DEFAULT_COMPRESSION );
+    boolean notLoaded = false;
+    final TupleCursor cursor = members.tupleCursor();
+    int currentIteration = 0;
+    Execution execution =
+      evaluator.getQuery().getStatement().getCurrentExecution();
+    while ( cursor.forward() ) {
+      CancellationChecker.checkCancelOrTimeout(
+        currentIteration++, execution );
+      cursor.setContext( evaluator );
+      Object o = exp.evaluate( evaluator );
+      if ( o == NotLoaded.INSTANCE ) {
+        // Carry on, so that a batching cell reader sees every cell needed
+        notLoaded = true;
+      } else if ( !NullSemantics.isNull( o ) ) {
+        digest.add( ( (Number) o ).doubleValue() );
+      }
+    }
+    if ( notLoaded ) {
+      return Double.NaN;
+    }
+    return digest.size() == 0 ? null : digest.quantile( p );
+  }
+
   /**
    * Returns the member which lies upon a particular quartile according to a given expression.
    *
@@ -557,48 +600,42 @@ public class FunUtil extends Util {
     Evaluator evaluator,
     TupleList members,
     Calc calc ) {
-    SetWrapper sw = FunUtil.evaluateSet( evaluator, members, calc );
-    if ( sw.errorCount > 0 ) {
+    TupleValues tv = FunUtil.evaluateValues( evaluator, members, calc );
+    if ( tv.notLoadedCount() > 0 ) {
       return Double.NaN;
-    } else {
-      final int size = sw.v.size();
-      if ( size == 0 ) {
-        return null;
-      } else {
-        Double min = ( (Number) sw.v.get( 0 ) ).doubleValue();
-        for ( int i = 1; i < size; i++ ) {
-          Double iValue = ( (Number) sw.v.get( i ) ).doubleValue();
-          if ( iValue < min ) {
-            min = iValue;
-          }
-        }
-        return min;
+    }
+    final double[] values = tv.values();
+    boolean found = false;
+    double min = 0;
+    for ( int i = tv.nulls().nextClearBit( 0 ); i < values.length;
+      i = tv.nulls().nextClearBit( i + 1 ) ) {
+      if ( !found || values[ i ] < min ) {
+        min = values[ i ];
+        found = true;
       }
     }
+    return found ? Double.valueOf( min ) : null;
   }
 
   public static Object max(
     Evaluator evaluator,
     TupleList members,
     Calc exp ) {
-    SetWrapper sw = FunUtil.evaluateSet( evaluator, members, exp );
-    if ( sw.errorCount > 0 ) {
+    TupleValues tv = FunUtil.evaluateValues( evaluator, members, exp );
+    if ( tv.notLoadedCount() > 0 ) {
       return Double.NaN;
-    } else {
-      final int size = sw.v.size();
-      if ( size == 0 ) {
-        return null;
-      } else {
-        Double max = ( (Number) sw.v.get( 0 ) ).doubleValue();
-        for ( int i = 1; i < size; i++ ) {
-          Double iValue = ( (Number) sw.v.get( i ) ).doubleValue();
-          if ( iValue > max ) {
-            max = iValue;
-          }
-        }
-        return max;
+    }
+    final double[] values = tv.values();
+    boolean found = false;
+    double max = 0;
+    for ( int i = tv.nulls().nextClearBit( 0 ); i < values.length;
+      i = tv.nulls().nextClearBit( i + 1 ) ) {
+      if ( !found || values[ i ] > max ) {
+        max = values[ i ];
+        found = true;
       }
     }
+    return found ? Double.valueOf( max ) : null;
   }
 
   public static Object var(
@@ -606,28 +643,26 @@ public class FunUtil extends Util {
     TupleList members,
     Calc exp,
     boolean biased ) {
-    SetWrapper sw = FunUtil.evaluateSet( evaluator, members, exp );
-    return FunUtil.var( sw, biased );
-  }
-
-  private static Object var(SetWrapper sw, boolean biased ) {
-    if ( sw.errorCount > 0 ) {
+    TupleValues tv = FunUtil.evaluateValues( evaluator, members, exp );
+    if ( tv.notLoadedCount() > 0 ) {
       return Double.NaN;
-    } else if ( sw.v.isEmpty() ) {
+    }
+    int n = tv.valueCount();
+    if ( n == 0 ) {
       return null;
-    } else {
-      CompensatedSum squaredDeviations = new CompensatedSum();
-      double avg = FunUtil.avg( sw );
-      for ( int i = 0; i < sw.v.size(); i++ ) {
-        double diff = ( (Number) sw.v.get( i ) ).doubleValue() - avg;
-        squaredDeviations.add( diff * diff );
-      }
-      int n = sw.v.size();
-      if ( !biased ) {
-        n--;
-      }
-      return Double.valueOf( squaredDeviations.value() / n );
     }
+    final double[] values = tv.values();
+    final double avg = FunUtil.sum( tv ) / n;
+    CompensatedSum squaredDeviations = new CompensatedSum();
+    for ( int i = tv.nulls().nextClearBit( 0 ); i < values.length;
+      i = tv.nulls().nextClearBit( i + 1 ) ) {
+      double diff = values[ i ] - avg;
+      squaredDeviations.add( diff * diff );
+    }
+    if ( !biased ) {
+      n--;
+    }
+    return Double.valueOf( squaredDeviations.value() / n );
   }
 
   public static double correlation(
@@ -770,25 +805,26 @@ public class FunUtil extends Util {
     Evaluator evaluator,
     TupleList members,
     Calc calc ) {
-    SetWrapper sw = FunUtil.evaluateSet( evaluator, members, calc );
-    if ( sw.errorCount > 0 ) {
+    TupleValues tv = FunUtil.evaluateValues( evaluator, members, calc );
+    if ( tv.notLoadedCount() > 0 ) {
       return Double.NaN;
-    } else {
-        return (sw.v.isEmpty())
-            ? null
-            : Double.valueOf(FunUtil.avg(sw));
     }
+    // TODO: should look at context and optionally include nulls
+    final int n = tv.valueCount();
+    return n == 0 ? null : Double.valueOf( FunUtil.sum( tv ) / n );
   }
 
-  // TODO: parameterize inclusion of nulls; also, maybe make _avg a method of
-  // setwrapper, so we can cache the result (i.e. for correl)
-  private static double avg(SetWrapper sw ) {
+  /**
+   * Returns the compensated sum of the non-null values.
+   */
+  private static double sum( TupleValues tv ) {
+    final double[] values = tv.values();
     CompensatedSum sum = new CompensatedSum();
-    for ( int i = 0; i < sw.v.size(); i++ ) {
-      sum.add( ( (Number) sw.v.get( i ) ).doubleValue() );
+    for ( int i = tv.nulls().nextClearBit( 0 ); i < values.length;
+      i = tv.nulls().nextClearBit( i + 1 ) ) {
+      sum.add( values[ i ] );
     }
-    // TODO: should look at context and optionally include nulls
-    return sum.value() / sw.v.size();
+    return sum.value();
   }
 
   public static Object sum(
@@ -806,17 +842,13 @@ public class FunUtil extends Util {
     Evaluator evaluator,
     TupleList members,
     Calc exp ) {
-    SetWrapper sw = FunUtil.evaluateSet( evaluator, members, exp );
-    if ( sw.errorCount > 0 ) {
+    TupleValues tv = FunUtil.evaluateValues( evaluator, members, exp );
+    if ( tv.notLoadedCount() > 0 ) {
       return Double.NaN;
-    } else if ( sw.v.isEmpty() ) {
+    } else if ( tv.valueCount() == 0 ) {
       return null;
     } else {
-      CompensatedSum sum = new CompensatedSum();
-      for ( int i = 0; i < sw.v.size(); i++ ) {
-        sum.add( ( (Number) sw.v.get( i ) ).doubleValue() );
-      }
-      return sum.value();
+      return FunUtil.sum( tv );
     }
   }
 
@@ -874,6 +906,49 @@ public class FunUtil extends Util {
     }
   }
 
+  /**
+   * Evaluates a numeric expression over a list of tuples, in one call to the
+   * evaluator if it can do that, otherwise tuple by tuple.
+   *
+   * <p>The context of the evaluator may be left on the last tuple; callers
+   * restore it as they do around {@link #evaluateSet}.
+   */
+  public static TupleValues evaluateValues(
+    Evaluator evaluator,
+    TupleList members,
+    Calc<?> calc ) {
+    assert members != null;
+    assert calc != null;
+    TupleValues bulk = evaluator.evaluateForTuples( members, calc );
+    if ( bulk != null ) {
+      return bulk;
+    }
+    final double[] values = new double[ members.size() ];
+    final BitSet nulls = new BitSet( values.length );
+    int notLoadedCount = 0;
+    final TupleCursor cursor = members.tupleCursor();
+    int i = 0;
+    Execution execution =
+      evaluator.getQuery().getStatement().getCurrentExecution();
+    while ( cursor.forward() ) {
+      CancellationChecker.checkCancelOrTimeout( i, execution );
+      cursor.setContext( evaluator );
+      Object o = calc.evaluate( evaluator );
+      if ( NullSemantics.isNull( o ) ) {
+        nulls.set( i );
+      } else if ( o == NotLoaded.INSTANCE ) {
+        // Carry on, so that if we are running in a BatchingCellReader, we
+        // find out all the dependent cells we need
+        nulls.set( i );
+        notLoadedCount++;
+      } else {
+        values[ i ] = ( (Number) o ).doubleValue();
+      }
+      i++;
+    }
+    return new TupleValues( values, nulls, notLoadedCount );
+  }
+
   /**
    * Evaluates {@code exp} (if defined) over {@code members} to generate a {@link List} of {@link SetWrapper} objects,
    * which contains a {@link Double} value and meta information, unlike {@link #evaluateMembers}, which only produces
@@ -980,6 +1055,12 @@ public class FunUtil extends Util {
     // If m == null, then "level" was lower than member's level.
     // periodsToDate([Time].[Quarter], [Time].[1997] is valid,
     //  but will return an empty List
+    if ( m != null ) {
+      final List<Member> indexed = periodsToDateFromIndex( evaluator, m, member );
+      if ( indexed != null ) {
+        return indexed;
+      }
+    }
     List<Member> members = new ArrayList<>();
     if ( m != null ) {
       // e.g. m is [Time].[1997] and member is [Time].[1997].[Q1].[3]
@@ -992,12 +1073,51 @@ public class FunUtil extends Util {
     return members;
   }
 
+  /**
+   * Returns the members from the first descendant of {@code ancestor} on
+   * {@code member}'s level to {@code member}, by way of the level indexes;
+   * or null if a level on the way is not indexed.
+   */
+  private static List<Member> periodsToDateFromIndex(
+    Evaluator evaluator,
+    Member ancestor,
+    Member member ) {
+    Member first = ancestor;
+    while ( first.getLevel() != member.getLevel() ) {
+      final LevelMemberIndex index =
+        LevelMemberIndex.of( evaluator, first.getLevel().getChildLevel() );
+      final int ordinal = index == null ? -1 : index.childOrdinal( first, 0 );
+      if ( ordinal < 0 ) {
+        return null;
+      }
+      first = index.get( ordinal );
+    }
+    final LevelMemberIndex index = LevelMemberIndex.of( evaluator, member.getLevel() );
+    if ( index == null ) {
+      return null;
+    }
+    final int from = index.ordinalOf( first );
+    final int to = index.ordinalOf( member );
+    if ( from < 0 || to < 0 ) {
+      return null;
+    }
+    return from <= to ? index.range( from, to ) : new ArrayList<>();
+  }
+
   public static List<Member> memberRange(
     Evaluator evaluator,
     Member startMember,
     Member endMember ) {
     final Level level = startMember.getLevel();
     Util.assertTrue( level == endMember.getLevel() );
+    final LevelMemberIndex index = LevelMemberIndex.of( evaluator, level );
+    if ( index != null ) {
+      final int start = index.ordinalOf( startMember );
+      final int end = index.ordinalOf( endMember );
+      if ( start >= 0 && end >= 0 ) {
+        return index.range( Math.min( start, end ), Math.max( start, end ) );
+      }
+    }
     List<Member> members = new ArrayList<>();
     evaluator.getCatalogReader().getMemberRange(
       level, startMember, endMember, members );
@@ -1025,6 +1145,32 @@ public class FunUtil extends Util {
     CatalogReader schemaReader,
     Member member,
     Member ancestorMember ) {
+    return cousin( schemaReader, null, member, ancestorMember );
+  }
+
+  /**
+   * Returns the member under ancestorMember having the same relative position under member's parent, using the
+   * evaluator's level indexes where there are any.
+   *
+   * @param evaluator      The evaluation context
+   * @param member         The member for which we'll find the cousin.
+   * @param ancestorMember The cousin's ancestor.
+   * @return The child of {@code ancestorMember} in the same position under {@code ancestorMember} as {@code member} is
+   * under its parent.
+   * @see #cousin(CatalogReader, Member, Member)
+ */
+  public static Member cousin(
+    Evaluator evaluator,
+    Member member,
+    Member ancestorMember ) {
+    return cousin( evaluator.getCatalogReader(), evaluator, member, ancestorMember );
+  }
+
+  private static Member cousin(
+    CatalogReader schemaReader,
+    Evaluator evaluator,
+    Member member,
+    Member ancestorMember ) {
     if ( ancestorMember.isNull() ) {
       return ancestorMember;
     }
@@ -1037,7 +1183,7 @@ public class FunUtil extends Util {
       return member.getHierarchy().getNullMember();
     }
 
-    Member cousin = FunUtil.cousin2( schemaReader, member, ancestorMember );
+    Member cousin = FunUtil.cousin2( schemaReader, evaluator, member, ancestorMember );
     if ( cousin == null ) {
       cousin = member.getHierarchy().getNullMember();
     }
@@ -1047,16 +1193,24 @@ public class FunUtil extends Util {
 
   private static Member cousin2(
     CatalogReader schemaReader,
+    Evaluator evaluator,
     Member member1,
     Member member2 ) {
     if ( member1.getLevel() == member2.getLevel() ) {
       return member2;
     }
     Member uncle =
-      FunUtil.cousin2( schemaReader, member1.getParentMember(), member2 );
+      FunUtil.cousin2( schemaReader, evaluator, member1.getParentMember(), member2 );
     if ( uncle == null ) {
       return null;
     }
+    final LevelMemberIndex index =
+      evaluator == null ? null : LevelMemberIndex.of( evaluator, member1.getLevel() );
+    final int ordinal1 = index == null ? -1 : index.ordinalOf( member1 );
+    if ( ordinal1 >= 0 ) {
+      final int cousinOrdinal = index.childOrdinal( uncle, index.positionInParent( ordinal1 ) );
+      return cousinOrdinal < 0 ? null : index.get( cousinOrdinal );
+    }
     int ordinal = Util.getMemberOrdinalInParent( schemaReader, member1 );
     List<Member> cousins = schemaReader.getMemberChildren( uncle );
     if ( cousins.size() <= ordinal ) {
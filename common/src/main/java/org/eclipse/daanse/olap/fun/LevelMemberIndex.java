@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.fun;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.element.Level;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.Query;
+
+/**
+ * Dense index of the members of a level: member to ordinal, ordinal to member,
+ * and for each member the range of ordinals held by it and its siblings.
+ *
+ * <p>
+ * Time functions - {@code PeriodsToDate} and the {@code Xtd} functions,
+ * {@code LastPeriods}, {@code ParallelPeriod}, {@code Cousin} - are evaluated
+ * for every cell of a report, and used to ask the catalog reader for a member
+ * range, a lead member or a parent's children each time. With the index they
+ * are arithmetic on ordinals.
+ * </p>
+ *
+ * <p>
+ * Indexes are built for time levels only, once per query, and kept in the
+ * query's evaluation cache. A level is only indexed if the children of each
+ * parent are contiguous among the level's members, as they are in a regular
+ * hierarchy; {@link #of} returns null otherwise, and for levels which are not
+ * time levels, and callers go on asking the reader.
+ * </p>
+ */
+public final class LevelMemberIndex {
+
+    private static final String CACHE_KEY_PREFIX = "LevelMemberIndex:";
+
+    private final List<Member> members;
+    private final Map<Member, Integer> ordinals;
+    private final Map<Member, Integer> firstChildOrdinals;
+    private final int[] siblingStarts;
+    private final int[] siblingEnds;
+
+    private LevelMemberIndex(List<Member> members, Map<Member, Integer> ordinals,
+            Map<Member, Integer> firstChildOrdinals, int[] siblingStarts, int[] siblingEnds) {
+        this.members = members;
+        this.ordinals = ordinals;
+        this.firstChildOrdinals = firstChildOrdinals;
+        this.siblingStarts = siblingStarts;
+        this.siblingEnds = siblingEnds;
+    }
+
+    /**
+     * Returns the index of a level for the current query, building it on
+     * first use.
+     *
+     * @param evaluator evaluator
+     * @param level     level
+     * @return index, or null if the level is not indexed
+     */
+    public static LevelMemberIndex of(Evaluator evaluator, Level level) {
+        if (level == null || level.isParentChild() || level.getLevelType() == null
+                || !level.getLevelType().isTime()) {
+            return null;
+        }
+        final Query query = evaluator.getQuery();
+        if (query == null) {
+            return null;
+        }
+        final String key = CACHE_KEY_PREFIX + level.getUniqueName();
+        final Object cached = query.getEvalCache(key);
+        if (cached instanceof LevelMemberIndex index) {
+            return index;
+        }
+        if (cached != null) {
+            // Known not to be indexable.
+            return null;
+        }
+        final LevelMemberIndex index = build(evaluator.getCatalogReader(), level);
+        query.putEvalCache(key, index == null ? Boolean.FALSE : index);
+        return index;
+    }
+
+    /**
+     * Builds the index of a level, or returns null if the children of some
+     * parent are not contiguous.
+     */
+    static LevelMemberIndex build(CatalogReader reader, Level level) {
+        final List<Member> members = new ArrayList<>(reader.getLevelMembers(level, false));
+        final int size = members.size();
+        final Map<Member, Integer> ordinals = new HashMap<>(size * 2);
+        final Map<Member, Integer> firstChildOrdinals = new HashMap<>();
+        final int[] siblingStarts = new int[size];
+        final int[] siblingEnds = new int[size];
+        final Level parentLevel = level.getParentLevel();
+        int start = 0;
+        Member previousParent = null;
+        for (int i = 0; i < size; i++) {
+            final Member member = members.get(i);
+            if (ordinals.put(member, i) != null) {
+                return null;
+            }
+            final Member parent = member.getParentMember();
+            if (parent == null ? parentLevel != null : parent.getLevel() != parentLevel) {
+                // ragged, or a level of a hierarchy without a regular shape
+                return null;
+            }
+            if (i > 0 && (parent == null ? previousParent != null : !parent.equals(previousParent))) {
+                finishSiblings(siblingStarts, siblingEnds, start, i);
+                start = i;
+            }
+            if (i == start && parent != null && firstChildOrdinals.put(parent, i) != null) {
+                // the parent's children are not contiguous
+                return null;
+            }
+            previousParent = parent;
+        }
+        finishSiblings(siblingStarts, siblingEnds, start, size);
+        return new LevelMemberIndex(members, ordinals, firstChildOrdinals, siblingStarts, siblingEnds);
+    }
+
+    private static void finishSiblings(int[] siblingStarts, int[] siblingEnds, int start, int end) {
+        for (int j = start; j < end; j++) {
+            siblingStarts[j] = start;
+            siblingEnds[j] = end;
+        }
+    }
+
+    /**
+     * Returns the number of members of the level.
+     */
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Returns the member at an ordinal.
+     */
+    public Member get(int ordinal) {
+        return members.get(ordinal);
+    }
+
+    /**
+     * Returns the ordinal of a member, or -1 if it is not a member of the
+     * level (a calculated member, say).
+     */
+    public int ordinalOf(Member member) {
+        final Integer ordinal = ordinals.get(member);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns the member {@code n} places after a member, or before it if
+     * {@code n} is negative, or null if there is no such member.
+     */
+    public Member lead(Member member, int n) {
+        final int ordinal = ordinalOf(member);
+        if (ordinal < 0) {
+            return null;
+        }
+        final long target = (long) ordinal + n;
+        return target < 0 || target >= members.size() ? null : members.get((int) target);
+    }
+
+    /**
+     * Returns the members between two ordinals, both inclusive, as a new list.
+     */
+    public List<Member> range(int from, int to) {
+        return new ArrayList<>(members.subList(from, to + 1));
+    }
+
+    /**
+     * Returns the position of the member at an ordinal among its siblings.
+     */
+    public int positionInParent(int ordinal) {
+        return ordinal - siblingStarts[ordinal];
+    }
+
+    /**
+     * Returns the ordinal of a parent's child at a position, or -1 if the
+     * parent has no child there.
+     *
+     * @param parent   member of the level above
+     * @param position position among the parent's children
+     */
+    public int childOrdinal(Member parent, int position) {
+        final Integer first = firstChildOrdinals.get(parent);
+        if (first == null || position < 0 || position >= siblingEnds[first] - first) {
+            return -1;
+        }
+        return first + position;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.fun.sort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.element.Member;
+
+/**
+ * Hierarchical sort keys of a set of members: the position of each member in a
+ * prefix-order (or postfix-order) walk over the part of the hierarchy which
+ * holds the members and their ancestors.
+ *
+ * <p>
+ * Sorting members by their keys gives the order of
+ * {@link Sorter#compareHierarchically}, but walks each ancestor chain once
+ * rather than twice per comparison: siblings are ordered once by
+ * {@link Sorter#compareSiblingMembers}, which respects
+ * {@code compareSiblingsByOrderKey}, and the keys are plain ints.
+ * </p>
+ *
+ * <p>
+ * Keys can only be given when every member has a consistent chain of
+ * ancestors, each one level above the next; {@link #of} returns null for a
+ * null member or a ragged chain, and the caller falls back to the comparator.
+ * </p>
+ */
+final class HierarchizeKeys {
+
+    private final Map<Member, Node> nodes = new HashMap<>();
+    private final List<Node> roots = new ArrayList<>();
+
+    private HierarchizeKeys() {
+    }
+
+    /**
+     * Computes the keys of some members.
+     *
+     * @param members members, possibly repeated
+     * @param post    whether a parent follows its children rather than
+     *                preceding them
+     * @return keys, or null if the members do not form a consistent tree
+     */
+    static HierarchizeKeys of(Iterable<Member> members, boolean post) {
+        final HierarchizeKeys keys = new HierarchizeKeys();
+        for (Member member : members) {
+            if (!keys.add(member)) {
+                return null;
+            }
+        }
+        int next = 0;
+        for (Node root : sort(keys.roots)) {
+            next = root.assign(next, post);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns the key of one of the members the keys were computed for.
+     */
+    int keyOf(Member member) {
+        return nodes.get(Sorter.unwrapLimitedRollupMember(member)).key;
+    }
+
+    /**
+     * Adds a member and those of its ancestors not yet known.
+     */
+    private boolean add(Member member) {
+        member = Sorter.unwrapLimitedRollupMember(member);
+        if (member == null) {
+            return false;
+        }
+        Node child = null;
+        while (member != null) {
+            Node node = nodes.get(member);
+            final boolean known = node != null;
+            if (!known) {
+                node = new Node(member);
+                nodes.put(member, node);
+            }
+            if (child != null) {
+                node.children.add(child);
+            }
+            if (known) {
+                return true;
+            }
+            final Member parent = Sorter.unwrapLimitedRollupMember(member.getParentMember());
+            if (parent == null) {
+                roots.add(node);
+            } else if (parent.getDepth() != member.getDepth() - 1) {
+                return false;
+            }
+            child = node;
+            member = parent;
+        }
+        return true;
+    }
+
+    private static List<Node> sort(List<Node> siblings) {
+        siblings.sort((n1, n2) -> Sorter.compareSiblingMembers(n1.member, n2.member));
+        return siblings;
+    }
+
+    private static final class Node {
+        final Member member;
+        final List<Node> children = new ArrayList<>(1);
+        int key;
+
+        Node(Member member) {
+            this.member = member;
+        }
+
+        /**
+         * Numbers this node and its descendants from {@code next} on, and
+         * returns the next free number.
+         */
+        int assign(int next, boolean post) {
+            if (!post) {
+                key = next++;
+            }
+            for (Node child : sort(children)) {
+                next = child.assign(next, post);
+            }
+            if (post) {
+                key = next++;
+            }
+            return next;
+        }
+    }
+}
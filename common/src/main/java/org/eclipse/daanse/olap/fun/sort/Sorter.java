@@ -36,6 +36,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.PriorityQueue;
@@ -516,8 +517,25 @@ public class Sorter {
       return;
     }
 
-    Comparator<Member> comparator = new HierarchizeComparator( post );
-    memberList.sort( comparator );
+    final HierarchizeKeys keys = HierarchizeKeys.of( memberList, post );
+    if ( keys == null ) {
+      Comparator<Member> comparator = new HierarchizeComparator( post );
+      memberList.sort( comparator );
+      return;
+    }
+    // Sort (key, position) pairs; the position keeps the sort stable.
+    final int n = memberList.size();
+    final long[] packed = new long[n];
+    for ( int i = 0; i < n; i++ ) {
+      packed[i] = (long) keys.keyOf( memberList.get( i ) ) << 32 | i;
+    }
+    Arrays.sort( packed );
+    final Member[] members = memberList.toArray( new Member[n] );
+    final ListIterator<Member> iterator = memberList.listIterator();
+    for ( int i = 0; i < n; i++ ) {
+      iterator.next();
+      iterator.set( members[(int) packed[i]] );
+    }
   }
 
   /**
@@ -538,14 +556,46 @@ public class Sorter {
       hierarchizeMemberList( fixedList.slice( 0 ), post );
       return fixedList;
     }
-    Comparator<List<Member>> comparator =
-      new HierarchizeTupleComparator( fixedList.getArity(), post );
+    final int arity = fixedList.getArity();
+    final HierarchizeKeys[] keys = new HierarchizeKeys[arity];
+    for ( int column = 0; column < arity; column++ ) {
+      keys[column] = HierarchizeKeys.of( fixedList.slice( column ), post );
+      if ( keys[column] == null ) {
+        Comparator<List<Member>> comparator =
+          new HierarchizeTupleComparator( arity, post );
+        fixedList.sort( comparator );
+        logTuples( fixedList, "hierarchizeTupleList" );
+        return fixedList;
+      }
+    }
 
-    fixedList.sort( comparator );
+    // Stable sort by each column in turn, last column first, so that the
+    // tuples end up in lexicographic order of their columns' keys.
+    final int n = fixedList.size();
+    int[] order = new int[n];
+    for ( int i = 0; i < n; i++ ) {
+      order[i] = i;
+    }
+    final long[] packed = new long[n];
+    for ( int column = arity - 1; column >= 0; column-- ) {
+      for ( int i = 0; i < n; i++ ) {
+        packed[i] = (long) keys[column].keyOf( fixedList.get( column, order[i] ) ) << 32 | i;
+      }
+      Arrays.sort( packed );
+      final int[] sorted = new int[n];
+      for ( int i = 0; i < n; i++ ) {
+        sorted[i] = order[(int) packed[i]];
+      }
+      order = sorted;
+    }
+    final TupleList result = fixedList.copyList( n );
+    for ( int i = 0; i < n; i++ ) {
+      result.add( fixedList.get( order[i] ) );
+    }
 
-    logTuples( fixedList, "hierarchizeTupleList" );
+    logTuples( result, "hierarchizeTupleList" );
 
-    return fixedList;
+    return result;
   }
 
   /**
@@ -643,7 +693,7 @@ public class Sorter {
     }
   }
 
-  private static Member unwrapLimitedRollupMember( Member m ) {
+  static Member unwrapLimitedRollupMember( Member m ) {
     if ( m instanceof LimitedMember lm) {
       return lm.getMember();
     }
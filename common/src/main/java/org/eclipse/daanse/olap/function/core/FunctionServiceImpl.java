@@ -22,11 +22,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.daanse.mdx.model.api.expression.operation.OperationAtom;
 import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
+import org.eclipse.daanse.olap.api.DataType;
 import org.eclipse.daanse.olap.api.function.FunctionMetaData;
 import org.eclipse.daanse.olap.api.function.FunctionResolver;
 import org.eclipse.daanse.olap.api.function.FunctionService;
@@ -50,6 +52,17 @@ public class FunctionServiceImpl implements FunctionService {
 	private List<String> reservedWords = synchronizedList(new ArrayList<>());
 	private Set<String> propertyWords = synchronizedSet(new HashSet<>());
 
+	/**
+	 * Resolver each operator call resolved to, by argument categories. The
+	 * combinations seen in practice are few; the bound only guards against
+	 * pathological generated MDX.
+	 */
+	private final Map<ResolvedKey, FunctionResolver> resolved = new ConcurrentHashMap<>();
+	private static final int MAX_RESOLVED = 10_000;
+
+	private record ResolvedKey(FunctionAtomCompareKey atom, List<DataType> argumentCategories) {
+	}
+
 	public FunctionServiceImpl() {
 		this(Map.of());
 	}
@@ -117,6 +130,7 @@ public class FunctionServiceImpl implements FunctionService {
 		propertyWords = newPropertyWords;
 		reservedWords = newReservedWords;
 		mapNameToResolvers = newMapNameToResolvers;
+		resolved.clear();
 	}
 
 
@@ -163,5 +177,31 @@ public class FunctionServiceImpl implements FunctionService {
 		return representativeFunctionMetaDatas;
 	}
 
+	@Override
+	public Optional<FunctionResolver> getResolver(OperationAtom operationAtom, List<DataType> argumentCategories) {
+		return Optional.ofNullable(
+				resolved.get(new ResolvedKey(new FunctionAtomCompareKey(operationAtom), argumentCategories)));
+	}
+
+	@Override
+	public void putResolver(OperationAtom operationAtom, List<DataType> argumentCategories,
+			FunctionResolver resolver) {
+		if (resolved.size() >= MAX_RESOLVED) {
+			return;
+		}
+		List<FunctionResolver> candidates = getResolvers(operationAtom);
+		if (!candidates.contains(resolver)) {
+			// removed meanwhile
+			return;
+		}
+		for (FunctionResolver candidate : List.copyOf(candidates)) {
+			if (!candidate.isResolvedByCategories()) {
+				return;
+			}
+		}
+		resolved.put(new ResolvedKey(new FunctionAtomCompareKey(operationAtom), List.copyOf(argumentCategories)),
+				resolver);
+	}
+
 	
 }
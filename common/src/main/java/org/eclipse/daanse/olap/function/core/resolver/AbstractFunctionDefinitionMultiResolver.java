@@ -50,6 +50,11 @@ public class AbstractFunctionDefinitionMultiResolver extends AbstractMetaDataMul
 		return Optional.empty();
 	}
 
+	@Override
+	public boolean isResolvedByCategories() {
+		return true;
+	}
+
 	@Override
 	protected FunctionDefinition createFunDef(Expression[] args, FunctionMetaData functionMetaData,
 			FunctionMetaData fmdTarget) {
@@ -63,6 +63,13 @@ public class ParametersCheckingFunctionDefinitionResolver implements FunctionRes
 		return true;
 	}
 
+	@Override
+	public boolean isResolvedByCategories() {
+		// matching is by category; a resolver which checks more overrides
+		// checkExpressions and this
+		return true;
+	}
+
 	@Override
 	public boolean requiresScalarExpressionOnArgument(int k) {
 		return !FunctionMetaDataMatcher.setPossibleAt(functionDefinition.getFunctionMetaData(), k);
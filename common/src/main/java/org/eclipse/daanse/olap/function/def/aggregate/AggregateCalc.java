@@ -24,6 +24,7 @@ import java.util.Set;
 
 import org.eclipse.daanse.olap.api.access.RollupPolicy;
 import org.eclipse.daanse.olap.api.aggregator.Aggregator;
+import org.eclipse.daanse.olap.api.aggregator.DistinctCountSketch;
 import org.eclipse.daanse.olap.api.Context;
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
@@ -133,6 +134,20 @@ public class AggregateCalc  extends AbstractProfilingNestedUnknownCalc {
             return null;
         }
 
+        Context<?> context = evaluator.getCatalogReader().getContext();
+        // Cells whose segments keep sketches of their keys answer the
+        // distinct count over the list without another query.
+        if ("distinct-count".equals(aggregator.getName())
+            && context.getConfig().enableDistinctCountSketches())
+        {
+            final DistinctCountSketch sketch = unionOfSketches(evaluator, tupleList);
+            if (sketch != null) {
+                // No key at all is an empty cell, as the query would answer.
+                final long cardinality = sketch.cardinality();
+                return cardinality == 0 ? null : cardinality;
+            }
+        }
+
         // Optimize the list
         // E.g.
         // List consists of:
@@ -144,7 +159,6 @@ public class AggregateCalc  extends AbstractProfilingNestedUnknownCalc {
         //
         // Similar optimization can also be done for list of members.
 
-        Context<?> context = evaluator.getCatalogReader().getContext();
         // maxConstraints exists because most databases cap the length of an IN list.
         // A database that does not needs no list optimization at all.
         boolean unlimitedIn = context.getDialect().supportsUnlimitedValueList();
@@ -174,6 +188,37 @@ public class AggregateCalc  extends AbstractProfilingNestedUnknownCalc {
         return evaluator2.evaluateCurrent();
     }
 
+    /**
+     * Merges the distinct-count sketches of the cells of a list of tuples.
+     * Overlapping tuples are harmless, as a key counted in several cells
+     * is one key of the union.
+     *
+     * @return union of the sketches, or null if a cell has none, in which
+     *     case the distinct count has to be evaluated over the list as a whole
+     */
+    private static DistinctCountSketch unionOfSketches(
+        Evaluator evaluator,
+        TupleList tupleList)
+    {
+        final int savepoint = evaluator.savepoint();
+        try {
+            evaluator.setNonEmpty(false);
+            DistinctCountSketch union = null;
+            final TupleCursor cursor = tupleList.tupleCursor();
+            while (cursor.forward()) {
+                cursor.setContext(evaluator);
+                final DistinctCountSketch sketch = evaluator.evaluateSketch();
+                if (sketch == null) {
+                    return null;
+                }
+                union = union == null ? sketch : union.union(sketch);
+            }
+            return union;
+        } finally {
+            evaluator.restore(savepoint);
+        }
+    }
+
     /**
      * Analyzes a list of tuples and determines if the list can
      * be safely optimized. If a member of the tuple list is on
@@ -36,7 +36,8 @@ class AvgNumericFunDef extends AbstractAggregateFunDef {
 	@Override
 	public Calc<Double> compileCall(ResolvedFunCall call, ExpressionCompiler compiler) {
 		final TupleListCalc tupleListCalc = compiler.compileList(call.getArg(0));
-		final Calc<?> calc = compiler.compileScalar(call.getArg(1), true);
+		final Calc<?> calc = compiler.compileIterated(call.getArg(0).getType(),
+				() -> compiler.compileScalar(call.getArg(1), true));
 		return new AvgCalc(call.getType(), tupleListCalc, calc, AvgNumericFunDef.class.getSimpleName());
 	}
 }
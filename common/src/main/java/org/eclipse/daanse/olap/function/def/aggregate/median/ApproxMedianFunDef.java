@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.aggregate.median;
+
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.function.FunctionMetaData;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
+import org.eclipse.daanse.olap.api.type.NumericType;
+import org.eclipse.daanse.olap.calc.base.constant.ConstantDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.value.CurrentValueUnknownCalc;
+import org.eclipse.daanse.olap.function.def.aggregate.AbstractAggregateFunDef;
+import org.eclipse.daanse.olap.function.def.percentile.ApproxPercentileCalc;
+
+public class ApproxMedianFunDef extends AbstractAggregateFunDef {
+
+    public ApproxMedianFunDef(FunctionMetaData functionMetaData) {
+        super(functionMetaData);
+    }
+
+    @Override
+    public Calc<?> compileCall(ResolvedFunCall call, ExpressionCompiler compiler) {
+        final TupleListCalc tupleListCalc = compiler.compileList(call.getArg(0));
+        final Calc<?> calc = call.getArgCount() > 1
+            ? compiler.compileIterated(call.getArg(0).getType(), () -> compiler.compileScalar(call.getArg(1), true))
+            : new CurrentValueUnknownCalc(call.getType());
+        return new ApproxPercentileCalc(call.getType(), tupleListCalc, calc,
+            new ConstantDoubleCalc(NumericType.INSTANCE, 50.0));
+    }
+}
@@ -13,24 +13,27 @@
 */
 package org.eclipse.daanse.olap.function.def.cache;
 
+import java.util.function.UnaryOperator;
+
 import org.eclipse.daanse.olap.api.cache.ExpCacheDescriptor;
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.ResultStyle;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
+import org.eclipse.daanse.olap.calc.base.cache.SharedExpCacheDescriptor;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedUnknownCalc;
 
 public class CacheGenericCalc extends AbstractProfilingNestedUnknownCalc {
-    private final ExpCacheDescriptor cacheDescriptor;
+    private final SharedExpCacheDescriptor cacheDescriptor;
     
     protected CacheGenericCalc(Type type, ExpCacheDescriptor cacheDescriptor) {
         super(type);
-        this.cacheDescriptor = cacheDescriptor;
+        this.cacheDescriptor = new SharedExpCacheDescriptor(cacheDescriptor);
     }
 
     @Override
     public Object evaluateInternal(Evaluator evaluator) {
-        return evaluator.getCachedResult(cacheDescriptor);
+        return cacheDescriptor.getCachedResult(evaluator, UnaryOperator.identity());
     }
 
     @Override
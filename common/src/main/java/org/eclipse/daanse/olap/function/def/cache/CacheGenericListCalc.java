@@ -21,22 +21,27 @@ import org.eclipse.daanse.olap.api.calc.tuple.TupleIterable;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
+import org.eclipse.daanse.olap.calc.base.cache.SharedExpCacheDescriptor;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleCollections;
 
 public class CacheGenericListCalc extends AbstractProfilingNestedTupleListCalc {
-    private final ExpCacheDescriptor cacheDescriptor;
+    private final SharedExpCacheDescriptor cacheDescriptor;
 
     protected CacheGenericListCalc(Type type, ExpCacheDescriptor cacheDescriptor) {
         super(type);
-        this.cacheDescriptor = cacheDescriptor;
+        this.cacheDescriptor = new SharedExpCacheDescriptor(cacheDescriptor);
     }
 
     @Override
     public TupleList evaluateInternal(Evaluator evaluator) {
-        final Object o = evaluator.getCachedResult(cacheDescriptor);
-        if (o instanceof TupleList tupleList) {
-            return tupleList;
+        // Lists are what is shared between queries, so materialize first.
+        return (TupleList) cacheDescriptor.getCachedResult(evaluator, CacheGenericListCalc::toTupleList);
+    }
+
+    private static Object toTupleList(Object o) {
+        if (o == null || o instanceof TupleList) {
+            return o;
         }
         // Iterable
         final TupleIterable iterable = (TupleIterable) o;
@@ -73,6 +73,12 @@ public class StarCrossJoinResolver extends AbstractFunctionDefinitionMultiResolv
         return super.resolve(args, validator);
     }
 
+    @Override
+    public boolean isResolvedByCategories() {
+        // depends on where the call is
+        return false;
+    }
+
     private static final List<FunctionMetaData> REPRESENTATIVE_METADATAS = List.<FunctionMetaData>of(
             FunctionMetaDataR.of(atom, "Returns the cross product of two sets.", DataType.SET,
                     param(DataType.SET, "Set1"),
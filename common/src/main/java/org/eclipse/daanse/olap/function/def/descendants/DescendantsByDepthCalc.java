@@ -25,7 +25,6 @@ import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
-import org.eclipse.daanse.olap.fun.sort.Sorter;
 
 public class DescendantsByDepthCalc extends AbstractProfilingNestedTupleListCalc {
 
@@ -41,15 +40,14 @@ public class DescendantsByDepthCalc extends AbstractProfilingNestedTupleListCalc
         final MemberCalc memberCalc = getChildCalc(0, MemberCalc.class);
         final IntegerCalc depthCalc = getChildCalc(1, IntegerCalc.class);
         final Member member = memberCalc.evaluate(evaluator);
-        List<Member> result = new ArrayList<>();
+        final PreOrderCollector result = new PreOrderCollector(member);
         final Integer depth = depthCalc.evaluate(evaluator);
         final CatalogReader schemaReader = evaluator.getCatalogReader();
         descendantsByDepth(member, result, schemaReader, depth, flag.before, flag.self, flag.after, evaluator);
-        Sorter.hierarchizeMemberList(result, false);
-        return new UnaryTupleList(result);
+        return new UnaryTupleList(result.toList());
     }
 
-    private void descendantsByDepth(Member member, List<Member> result, final CatalogReader schemaReader,
+    private void descendantsByDepth(Member member, PreOrderCollector result, final CatalogReader schemaReader,
             final int depthLimitFinal, final boolean before, final boolean self, final boolean after,
             final Evaluator context) {
         List<Member> children = new ArrayList<>();
@@ -82,6 +80,7 @@ public class DescendantsByDepthCalc extends AbstractProfilingNestedTupleListCalc
             if (children.isEmpty()) {
                 break;
             }
+            result.children(children);
         }
     }
 
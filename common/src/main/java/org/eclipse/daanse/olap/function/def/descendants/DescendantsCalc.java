@@ -26,7 +26,6 @@ import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
-import org.eclipse.daanse.olap.fun.sort.Sorter;
 
 public class DescendantsCalc extends AbstractProfilingNestedTupleListCalc{
 
@@ -44,7 +43,7 @@ public class DescendantsCalc extends AbstractProfilingNestedTupleListCalc{
       final Evaluator context =
         evaluator.isNonEmpty() ? evaluator : null;
       final Member member = memberCalc.evaluate( evaluator );
-      List<Member> result = new ArrayList<>();
+      final PreOrderCollector result = new PreOrderCollector( member );
       final CatalogReader schemaReader =
         evaluator.getCatalogReader();
       final Level level =
@@ -55,8 +54,7 @@ public class DescendantsCalc extends AbstractProfilingNestedTupleListCalc{
         schemaReader, member, level, result,
         flag.before, flag.self,
         flag.after, flag.leaves, context );
-      Sorter.hierarchizeMemberList( result, false );
-      return new UnaryTupleList( result );
+      return new UnaryTupleList( result.toList() );
     }
 
     /**
@@ -66,7 +64,7 @@ public class DescendantsCalc extends AbstractProfilingNestedTupleListCalc{
      * @param schemaReader Member reader
      * @param ancestor     Member to find descendants of
      * @param level        Level relative to which to filter, must not be null
-     * @param result       Result list
+     * @param result       Collects the result
      * @param before       Whether to output members above level
      * @param self         Whether to output members at level
      * @param after        Whether to output members below level
@@ -77,7 +75,7 @@ public class DescendantsCalc extends AbstractProfilingNestedTupleListCalc{
       CatalogReader schemaReader,
       Member ancestor,
       Level level,
-      List<Member> result,
+      PreOrderCollector result,
       boolean before,
       boolean self,
       boolean after,
@@ -126,6 +124,7 @@ public class DescendantsCalc extends AbstractProfilingNestedTupleListCalc{
                 // to the list to be considered next iteration
                 if ( currentDepth <= levelDepth ) {
                   nextMembers.addAll( childMembers );
+                  result.children( childMembers );
                 }
               }
             }
@@ -160,6 +159,7 @@ public class DescendantsCalc extends AbstractProfilingNestedTupleListCalc{
           }
           members =
             schemaReader.getMemberChildren( fertileMembers, context );
+          result.children( members );
         } while ( !members.isEmpty() );
       }
     }
@@ -26,7 +26,6 @@ import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
 import org.eclipse.daanse.olap.common.Util;
-import org.eclipse.daanse.olap.fun.sort.Sorter;
 
 public class DescendantsLeavesByDepthCalc extends AbstractProfilingNestedTupleListCalc {
 
@@ -38,7 +37,7 @@ public class DescendantsLeavesByDepthCalc extends AbstractProfilingNestedTupleLi
     public TupleList evaluateInternal(Evaluator evaluator) {
         IntegerCalc depthCalc = getChildCalc(1, IntegerCalc.class);
         final Member member = getChildCalc(0, MemberCalc.class).evaluate(evaluator);
-        List<Member> result = new ArrayList<>();
+        final PreOrderCollector result = new PreOrderCollector(member);
         Integer depth = -1;
         if (depthCalc != null) {
             depth = depthCalc.evaluate(evaluator);
@@ -48,8 +47,7 @@ public class DescendantsLeavesByDepthCalc extends AbstractProfilingNestedTupleLi
         }
         final CatalogReader schemaReader = evaluator.getCatalogReader();
         descendantsLeavesByDepth(member, result, schemaReader, depth);
-        Sorter.hierarchizeMemberList(result, false);
-        return new UnaryTupleList(result);
+        return new UnaryTupleList(result.toList());
     }
 
     /**
@@ -57,7 +55,7 @@ public class DescendantsLeavesByDepthCalc extends AbstractProfilingNestedTupleLi
      * 'depthLimit' or less. If 'depthLimit' is -1, does not apply a depth
      * constraint.
      */
-    private void descendantsLeavesByDepth(final Member member, final List<Member> result,
+    private void descendantsLeavesByDepth(final Member member, final PreOrderCollector result,
             final CatalogReader schemaReader, final int depthLimit) {
         if (!schemaReader.isDrillable(member)) {
             if (depthLimit >= 0) {
@@ -72,6 +70,7 @@ public class DescendantsLeavesByDepthCalc extends AbstractProfilingNestedTupleLi
             if (children.isEmpty()) {
                 throw Util.newInternal("drillable member must have children");
             }
+            result.children(children);
             List<Member> nextChildren = new ArrayList<>();
             for (Member child : children) {
                 // TODO: Implement this more efficiently. The current
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.descendants;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.fun.sort.Sorter;
+
+/**
+ * Collects the descendants of a member, found level by level, and returns
+ * them in hierarchical pre-order.
+ *
+ * <p>
+ * The descendants functions read a level of children at a time, which gives
+ * the members in breadth-first order. Rather than sorting the result, the
+ * collector remembers which children each parent had and walks that tree
+ * depth-first. Each family of siblings is put in order by
+ * {@link Sorter#compareSiblingMembers}, which is linear when the reader
+ * returned them in order already, so the result is the one
+ * {@link Sorter#hierarchizeMemberList} would give.
+ * </p>
+ *
+ * <p>
+ * Should the members not form a tree under the ancestor - a ragged hierarchy
+ * read through a restricted reader can return children whose parent was not
+ * read - the collector falls back to sorting.
+ * </p>
+ */
+final class PreOrderCollector {
+
+    private final Member ancestor;
+    private final List<Member> result = new ArrayList<>();
+    private final Set<Member> included = new HashSet<>();
+    private final Map<Member, List<Member>> childrenByParent = new HashMap<>();
+
+    /**
+     * Creates a collector.
+     *
+     * @param ancestor member whose descendants are collected
+     */
+    PreOrderCollector(Member ancestor) {
+        this.ancestor = ancestor;
+    }
+
+    /**
+     * Adds a member to the result.
+     */
+    void add(Member member) {
+        result.add(member);
+        included.add(member);
+    }
+
+    /**
+     * Adds members to the result.
+     */
+    void addAll(List<Member> members) {
+        for (Member member : members) {
+            add(member);
+        }
+    }
+
+    /**
+     * Records children which have been read; they are attached to their
+     * parents, whether or not they are added to the result.
+     */
+    void children(List<Member> children) {
+        for (Member child : children) {
+            childrenByParent.computeIfAbsent(child.getParentMember(), p -> new ArrayList<>()).add(child);
+        }
+    }
+
+    /**
+     * Returns the members added, in pre-order.
+     */
+    List<Member> toList() {
+        if (result.size() <= 1) {
+            return result;
+        }
+        final List<Member> ordered = new ArrayList<>(result.size());
+        final Deque<Iterator<Member>> stack = new ArrayDeque<>();
+        stack.push(List.of(ancestor).iterator());
+        while (!stack.isEmpty()) {
+            final Iterator<Member> siblings = stack.peek();
+            if (!siblings.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            final Member member = siblings.next();
+            if (included.contains(member)) {
+                ordered.add(member);
+            }
+            final List<Member> children = childrenByParent.get(member);
+            if (children != null) {
+                children.sort(Sorter::compareSiblingMembers);
+                stack.push(children.iterator());
+            }
+        }
+        if (ordered.size() != result.size()) {
+            // Not a tree under the ancestor, or a member was added twice.
+            Sorter.hierarchizeMemberList(result, false);
+            return result;
+        }
+        return ordered;
+    }
+}
@@ -13,17 +13,13 @@
  */
 package org.eclipse.daanse.olap.function.def.except;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
-import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.ArrayTupleList;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleHashSet;
 
 public class ExceptCalc extends AbstractProfilingNestedTupleListCalc {
 
@@ -41,13 +37,8 @@ public class ExceptCalc extends AbstractProfilingNestedTupleListCalc {
         if (list1.isEmpty()) {
             return list0;
         }
-        final Set<List<Member>> set1 = new HashSet<>(list1);
         final TupleList result = new ArrayTupleList(list0.getArity(), list0.size());
-        for (List<Member> tuple1 : list0) {
-            if (!set1.contains(tuple1)) {
-                result.add(tuple1);
-            }
-        }
+        TupleHashSet.of(list1).addMissing(list0, result);
         return result;
     }
 
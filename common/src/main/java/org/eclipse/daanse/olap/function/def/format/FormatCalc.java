@@ -14,6 +14,7 @@
 package org.eclipse.daanse.olap.function.def.format;
 
 import java.util.Locale;
+import java.util.Objects;
 
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.calc.Calc;
@@ -25,7 +26,13 @@ import org.eclipse.daanse.olap.util.format.Format;
 public class FormatCalc extends AbstractProfilingNestedStringCalc{
 
     private final Locale locale;
-    
+    // The last format used; the format string of a cell rarely changes between
+    // cells, and parsing it is the expensive part.
+    private volatile ParsedFormat last;
+
+    private record ParsedFormat(String formatString, Format format) {
+    }
+
     public FormatCalc(Type type, Calc<?> calc, StringCalc stringCalc, final Locale locale) {
         super(type, calc, stringCalc);
         this.locale = locale;
@@ -38,9 +45,16 @@ public class FormatCalc extends AbstractProfilingNestedStringCalc{
         final Object o = calc.evaluate(evaluator);
         final String formatString =
                 stringCalc.evaluate(evaluator);
-        final Format format =
-                new Format(formatString, locale);
-        return format.format(o);
+        return format(formatString).format(o);
+    }
+
+    private Format format(String formatString) {
+        ParsedFormat parsed = last;
+        if (parsed == null || !Objects.equals(parsed.formatString(), formatString)) {
+            parsed = new ParsedFormat(formatString, new Format(formatString, locale));
+            last = parsed;
+        }
+        return parsed.format();
     }
 
 }
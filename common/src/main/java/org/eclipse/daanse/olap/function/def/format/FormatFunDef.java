@@ -16,6 +16,7 @@ package org.eclipse.daanse.olap.function.def.format;
 import java.util.Locale;
 
 import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.ConstantCalc;
 import org.eclipse.daanse.olap.api.calc.StringCalc;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
 import org.eclipse.daanse.olap.api.function.FunctionMetaData;
@@ -43,9 +44,15 @@ public class FormatFunDef extends AbstractFunctionDefinition {
                 final Format format = new Format(formatString, locale);
                 return new FormatLiteralCalc(call.getType(), calc, format);
             } else {
-                // Variable string expression
                 final StringCalc stringCalc =
                         compiler.compileString(call.getArg(1));
+                if (stringCalc instanceof ConstantCalc<?>) {
+                    // Folded to a constant at compile time, e.g. a
+                    // concatenation of literals.
+                    final Format format = new Format(stringCalc.evaluate(null), locale);
+                    return new FormatLiteralCalc(call.getType(), calc, format);
+                }
+                // Variable string expression
                 return new FormatCalc(call.getType(), calc, stringCalc, locale) {
                 };
             }
@@ -61,13 +61,16 @@ public class GenerateFunDef extends AbstractFunctionDefinition {
                     || call.getArg(1).getType() instanceof NumericType) {
                 final StringCalc stringCalc;
                 if(call.getArg(1).getType() instanceof StringType) {
-                    stringCalc = compiler.compileString(call.getArg(1));
+                    stringCalc = compiler.compileIterated(call.getArg(0).getType(),
+                        () -> compiler.compileString(call.getArg(1)));
                 } else {
                     //NumericType
                     org.eclipse.daanse.olap.query.component.UnresolvedFunCallImpl unresolvedFunCall = new org.eclipse.daanse.olap.query.component.UnresolvedFunCallImpl(
                             new FunctionOperationAtom("str"),
                             new Expression[] {call.getArg(1)});
-                    stringCalc = compiler.compileString(unresolvedFunCall.accept(compiler.getValidator()));
+                    final Expression strCall = unresolvedFunCall.accept(compiler.getValidator());
+                    stringCalc = compiler.compileIterated(call.getArg(0).getType(),
+                        () -> compiler.compileString(strCall));
                 }
                 final StringCalc delimCalc;
                 if (call.getArgCount() == 3) {
@@ -80,7 +83,8 @@ public class GenerateFunDef extends AbstractFunctionDefinition {
                       call.getType(), tupleIteratorCalc, stringCalc, delimCalc);
             } else {
                 final TupleListCalc listCalc2 =
-                    compiler.compileList(call.getArg(1));
+                    compiler.compileIterated(call.getArg(0).getType(),
+                        () -> compiler.compileList(call.getArg(1)));
                 final String literalArg = FunUtil.getLiteralArg(call, 2, "", GenerateFunDef.ReservedWords);
                 final boolean all = literalArg.equalsIgnoreCase("ALL");
                 final int arityOut = call.getType().getArity();
@@ -24,6 +24,7 @@ import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.eclipse.daanse.olap.fun.LevelMemberIndex;
 
 public class LastPeriodsCalc extends AbstractProfilingNestedTupleListCalc {
 
@@ -63,6 +64,16 @@ public class LastPeriodsCalc extends AbstractProfilingNestedTupleListCalc {
             return list;
         }
 
+        final LevelMemberIndex index = LevelMemberIndex.of(evaluator, member.getLevel());
+        final int ordinal = index == null ? -1 : index.ordinalOf(member);
+        if (ordinal >= 0) {
+            // Clamped to the first or last member of the level, as below.
+            if (indexValue > 0) {
+                return index.range((int) Math.max(0L, (long) ordinal - (indexValue - 1)), ordinal);
+            }
+            return index.range(ordinal, (int) Math.min(index.size() - 1L, (long) ordinal - (indexValue + 1)));
+        }
+
         // When null is found, getting the first/last
         // member at a given level is not particularly
         // fast.
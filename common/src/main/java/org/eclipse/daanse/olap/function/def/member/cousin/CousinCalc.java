@@ -30,7 +30,7 @@ public class CousinCalc extends AbstractProfilingNestedMemberCalc {
     public Member evaluateInternal(Evaluator evaluator) {
         Member member = getChildCalc(0, MemberCalc.class).evaluate(evaluator);
         Member ancestorMember = getChildCalc(1, MemberCalc.class).evaluate(evaluator);
-        return FunUtil.cousin(evaluator.getCatalogReader(), member, ancestorMember);
+        return FunUtil.cousin(evaluator, member, ancestorMember);
     }
 
 }
@@ -105,10 +105,9 @@ public Calc<?> compileCall( ResolvedFunCall call, ExpressionCompiler compiler )
     int j = 1; // args[0] is the input set
     Calc<?> key;
     SorterFlag dir;
-    Expression arg;
     while ( j < argCount ) {
-      arg = call.getArg( j );
-      key = compiler.compileScalar( arg, true );
+      final Expression arg = call.getArg( j );
+      key = compiler.compileIterated( call.getArg( 0 ).getType(), () -> compiler.compileScalar( arg, true ) );
       j++;
       if ( ( j >= argCount ) || ( call.getArg( j ).getCategory() != DataType.SYMBOL) ) {
         dir = SorterFlag.ASC;
@@ -23,6 +23,7 @@ import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedMemberCalc;
 import org.eclipse.daanse.olap.exceptions.FunctionMbrAndLevelHierarchyMismatchException;
 import org.eclipse.daanse.olap.fun.FunUtil;
+import org.eclipse.daanse.olap.fun.LevelMemberIndex;
 
 public class ParallelPeriodCalc extends AbstractProfilingNestedMemberCalc{
 
@@ -87,10 +88,13 @@ public class ParallelPeriodCalc extends AbstractProfilingNestedMemberCalc{
                 - ancestorLevel.getDepth();
             Member ancestor = FunUtil.ancestor(
                 evaluator, member, distance, ancestorLevel);
-            Member inLaw = evaluator.getCatalogReader()
-                .getLeadMember(ancestor, -lagValue);
-            return FunUtil.cousin(
-                evaluator.getCatalogReader(), member, inLaw);
+            final LevelMemberIndex index = LevelMemberIndex.of(evaluator, ancestorLevel);
+            Member inLaw = index == null || ancestor == null ? null : index.lead(ancestor, -lagValue);
+            if (inLaw == null) {
+                inLaw = evaluator.getCatalogReader()
+                    .getLeadMember(ancestor, -lagValue);
+            }
+            return FunUtil.cousin(evaluator, member, inLaw);
         }
 
 }
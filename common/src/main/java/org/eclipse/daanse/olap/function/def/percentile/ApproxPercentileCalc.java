@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.percentile;
+
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.DoubleCalc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.type.Type;
+import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.util.HierarchyDependsChecker;
+import org.eclipse.daanse.olap.fun.FunUtil;
+import org.eclipse.daanse.olap.function.def.aggregate.AbstractAggregateFunDef;
+
+/**
+ * Percentile of a numeric expression over a set, estimated in one pass over
+ * the set with a t-digest. The set is evaluated as {@link PercentileCalc}
+ * evaluates it, unrelated dimensions and the iteration limit included.
+ */
+public class ApproxPercentileCalc extends AbstractProfilingNestedDoubleCalc {
+
+    public ApproxPercentileCalc(Type type, TupleListCalc tupleListCalc, Calc<?> calc, DoubleCalc percentCalc) {
+        super(type, tupleListCalc, calc, percentCalc);
+    }
+
+    @Override
+    public Double evaluateInternal(Evaluator evaluator) {
+        TupleList list = AbstractAggregateFunDef.evaluateCurrentList(getChildCalc(0, TupleListCalc.class), evaluator);
+        Double percentArg = getChildCalc(2, DoubleCalc.class).evaluate(evaluator);
+        if (percentArg == null) {
+            return null;
+        }
+        final int savepoint = evaluator.savepoint();
+        try {
+            evaluator.setNonEmpty(false);
+            return FunUtil.approxPercentile(evaluator, list, getChildCalc(1, Calc.class), percentArg * 0.01);
+        } finally {
+            evaluator.restore(savepoint);
+        }
+    }
+
+    @Override
+    public boolean dependsOn(Hierarchy hierarchy) {
+        return HierarchyDependsChecker.checkAnyDependsButFirst(getChildCalcs(), hierarchy);
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.percentile;
+
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.DoubleCalc;
+import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.function.FunctionMetaData;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
+import org.eclipse.daanse.olap.function.def.aggregate.AbstractAggregateFunDef;
+
+public class ApproxPercentileFunDef extends AbstractAggregateFunDef {
+
+    public ApproxPercentileFunDef(FunctionMetaData functionMetaData) {
+        super(functionMetaData);
+    }
+
+    @Override
+    public Calc<?> compileCall(ResolvedFunCall call, ExpressionCompiler compiler) {
+        final TupleListCalc tupleListCalc = compiler.compileList(call.getArg(0));
+        final Calc<?> calc = compiler.compileIterated(call.getArg(0).getType(),
+                () -> compiler.compileScalar(call.getArg(1), true));
+        final DoubleCalc percentCalc = compiler.compileDouble(call.getArg(2));
+        return new ApproxPercentileCalc(call.getType(), tupleListCalc, calc, percentCalc);
+    }
+}
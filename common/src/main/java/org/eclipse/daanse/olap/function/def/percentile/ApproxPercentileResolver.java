@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.percentile;
+
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.olap.api.DataType;
+import org.eclipse.daanse.olap.api.function.FunctionInterface;
+import org.eclipse.daanse.olap.api.function.FunctionMetaData;
+import org.eclipse.daanse.olap.api.function.FunctionResolver;
+import org.eclipse.daanse.olap.function.core.FunctionMetaDataR;
+import org.eclipse.daanse.olap.function.core.FunctionParameterR;
+import org.eclipse.daanse.olap.function.core.resolver.AbstractFunctionDefinitionMultiResolver;
+import org.osgi.service.component.annotations.Component;
+
+@Component(service = FunctionResolver.class)
+public class ApproxPercentileResolver extends AbstractFunctionDefinitionMultiResolver {
+    private static FunctionOperationAtom atom = new FunctionOperationAtom("ApproxPercentile");
+    private static String DESCRIPTION = "Returns an estimate of the value at a given percentile of a numeric expression evaluated over a set, computed in one pass with bounded memory.";
+    private static FunctionParameterR[] xnn = { FunctionParameterR.param(DataType.SET),
+            FunctionParameterR.param(DataType.NUMERIC), FunctionParameterR.param(DataType.NUMERIC) };
+
+    private static FunctionMetaData functionMetaData = new FunctionMetaDataR(atom, DESCRIPTION,
+            DataType.NUMERIC, xnn).interfaceName(FunctionInterface.STATISTICAL);
+
+    public ApproxPercentileResolver() {
+        super(List.of(new ApproxPercentileFunDef(functionMetaData)));
+    }
+}
@@ -13,9 +13,6 @@
  */
 package org.eclipse.daanse.olap.function.def.rank;
 
-import java.util.Arrays;
-import java.util.List;
-
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.TupleCalc;
 import org.eclipse.daanse.olap.api.element.Member;
@@ -54,8 +51,7 @@ public class Rank2TupleCalc extends AbstractProfilingNestedIntegerCalc {
         }
 
         // Find position of member in list. -1 signifies not found.
-        final List<Member> memberList = Arrays.asList( members );
-        final int i = rankedTupleList.indexOf( memberList );
+        final int i = rankedTupleList.indexOf( members );
         // Return 1-based rank. 0 signifies not found.
         return i + 1;
       } finally {
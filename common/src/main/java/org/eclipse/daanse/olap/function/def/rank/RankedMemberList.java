@@ -14,33 +14,42 @@
 package org.eclipse.daanse.olap.function.def.rank;
 
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.daanse.olap.api.element.Member;
 
-public class RankedMemberList{
-    Map<Member, Integer> map = new HashMap<>();
+/**
+ * Members of the set of a two-argument {@code Rank}, indexed by position.
+ *
+ * <p>
+ * Members are found by identity first, as the member asked for is almost
+ * always the very object in the set, and by equality otherwise. Each member
+ * object is indexed at the position of the first member equal to it, so that
+ * a set holding equal but distinct members ranks as it does by equality.
+ * </p>
+ */
+public class RankedMemberList {
+    private final Map<Member, Integer> byIdentity;
+    private final Map<Member, Integer> byEquality;
 
-    RankedMemberList( List<Member> members ) {
-      int i = -1;
-      for ( final Member member : members ) {
-        ++i;
-        final Integer value = map.put( member, i );
-        if ( value != null ) {
-          // The list already contained a value for this key -- put
-          // it back.
-          map.put( member, value );
+    RankedMemberList(List<Member> members) {
+        this.byIdentity = new IdentityHashMap<>(members.size());
+        this.byEquality = new HashMap<>(members.size() * 2);
+        int i = -1;
+        for (final Member member : members) {
+            // The first occurrence ranks.
+            final Integer first = byEquality.putIfAbsent(member, ++i);
+            byIdentity.putIfAbsent(member, first == null ? i : first);
         }
-      }
     }
 
-    int indexOf( Member m ) {
-      Integer integer = map.get( m );
-      if ( integer == null ) {
-        return -1;
-      } else {
-        return integer;
-      }
+    int indexOf(Member m) {
+        Integer integer = byIdentity.get(m);
+        if (integer == null) {
+            integer = byEquality.get(m);
+        }
+        return integer == null ? -1 : integer;
     }
-  }
+}
@@ -13,35 +13,98 @@
  */
 package org.eclipse.daanse.olap.function.def.rank;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCursor;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.element.Member;
 
+/**
+ * Tuples of the set of a two-argument {@code Rank}, indexed by position.
+ *
+ * <p>
+ * The set is evaluated once and ranked for every cell; looking a tuple up must
+ * not cost more than hashing it. Tuples are held flat and found by the
+ * identity of their members, without building a list per lookup: the tuple
+ * asked for is almost always made of the very member objects of the set.
+ * Equal but distinct members fall back to a lookup by equality. Each tuple is
+ * indexed at the position of the first tuple equal to it, so that a set
+ * holding equal but distinct tuples ranks as it does by equality.
+ * </p>
+ */
 public class RankedTupleList {
-    final Map<List<Member>, Integer> map = new HashMap<>();
+    private final int arity;
+    private final int size;
+    private final Member[] members;
+    // Open-addressing table of 1-based positions of first occurrences.
+    private final int[] table;
+    private final Map<List<Member>, Integer> byEquality;
 
     RankedTupleList(TupleList tupleList) {
-        int i = -1;
-        for (final List<Member> tupleMembers : tupleList.fix()) {
+        tupleList = tupleList.fix();
+        this.arity = tupleList.getArity();
+        this.size = tupleList.size();
+        this.members = new Member[size * arity];
+        this.table = new int[tableSize(size)];
+        this.byEquality = new HashMap<>(size * 2);
+        final List<Member> flat = Arrays.asList(members);
+        final TupleCursor cursor = tupleList.tupleCursor();
+        int i = 0;
+        while (cursor.forward()) {
+            cursor.currentToArray(members, i * arity);
+            // The first occurrence ranks.
+            final Integer first = byEquality.putIfAbsent(flat.subList(i * arity, (i + 1) * arity), i);
+            final int slot = find(members, i * arity);
+            if (table[slot] == 0) {
+                table[slot] = (first == null ? i : first) + 1;
+            }
             ++i;
-            final Integer value = map.put(tupleMembers, i);
-            if (value != null) {
-                // The list already contained a value for this key -- put
-                // it back.
-                map.put(tupleMembers, value);
+        }
+    }
+
+    int indexOf(Member[] tuple) {
+        final int position = table[find(tuple, 0)];
+        if (position != 0) {
+            return position - 1;
+        }
+        Integer index = byEquality.get(Arrays.asList(tuple));
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the slot of a tuple, or of the free slot where it belongs.
+     */
+    private int find(Member[] tuple, int offset) {
+        final int mask = table.length - 1;
+        int slot = hash(tuple, offset) & mask;
+        while (table[slot] != 0 && !same(tuple, offset, (table[slot] - 1) * arity)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private boolean same(Member[] tuple, int offset, int start) {
+        for (int k = 0; k < arity; k++) {
+            if (tuple[offset + k] != members[start + k]) {
+                return false;
             }
         }
+        return true;
     }
 
-    int indexOf(List<Member> tupleMembers) {
-        Integer integer = map.get(tupleMembers);
-        if (integer == null) {
-            return -1;
-        } else {
-            return integer;
+    private int hash(Member[] tuple, int offset) {
+        int h = 1;
+        for (int k = 0; k < arity; k++) {
+            h = 31 * h + System.identityHashCode(tuple[offset + k]);
         }
+        return h ^ (h >>> 16);
+    }
+
+    static int tableSize(int size) {
+        // At most half full.
+        return Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
     }
 }
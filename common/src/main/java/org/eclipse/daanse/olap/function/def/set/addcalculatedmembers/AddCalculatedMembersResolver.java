@@ -44,4 +44,9 @@ public class AddCalculatedMembersResolver extends ParametersCheckingFunctionDefi
         }
         return false;
     }
+
+    @Override
+    public boolean isResolvedByCategories() {
+        return false;
+    }
 }
\ No newline at end of file
@@ -81,7 +81,8 @@ public class FilterFunDef extends AbstractFunctionDefinition {
     protected TupleIteratorCalc compileCallIterable(final ResolvedFunCall call, ExpressionCompiler compiler) {
         // want iterable, mutable list or immutable list in that order
         Calc<?> imlcalc = compiler.compileAs(call.getArg(0), null, ResultStyle.ITERABLE_LIST_MUTABLELIST);
-        BooleanCalc bcalc = compiler.compileBoolean(call.getArg(1));
+        BooleanCalc bcalc = compiler.compileIterated(call.getArg(0).getType(),
+                () -> compiler.compileBoolean(call.getArg(1)));
         Calc<?>[] calcs = new Calc[] { imlcalc, bcalc };
 
         // check returned calc ResultStyles
@@ -105,7 +106,8 @@ public class FilterFunDef extends AbstractFunctionDefinition {
      */
     protected TupleListCalc compileCallList(final ResolvedFunCall call, ExpressionCompiler compiler) {
         Calc<?> ilcalc = compiler.compileList(call.getArg(0), false);
-        BooleanCalc bcalc = compiler.compileBoolean(call.getArg(1));
+        BooleanCalc bcalc = compiler.compileIterated(call.getArg(0).getType(),
+                () -> compiler.compileBoolean(call.getArg(1)));
         Calc<?>[] calcs = new Calc[] { ilcalc, bcalc };
 
         // Note that all of the TupleListCalc's return will be mutable
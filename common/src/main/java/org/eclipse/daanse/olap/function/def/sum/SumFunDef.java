@@ -73,7 +73,9 @@ public class SumFunDef extends AbstractAggregateFunDef {
             return null;
           }
           final Calc<?> calc =
-              call.getArgCount() > 1 ? compiler.compileScalar( call.getArg( 1 ), true ) : new CurrentValueUnknownCalc( call.getType() );
+              call.getArgCount() > 1
+                  ? compiler.compileIterated( call.getArg( 0 ).getType(), () -> compiler.compileScalar( call.getArg( 1 ), true ) )
+                  : new CurrentValueUnknownCalc( call.getType() );
           // we may have asked for one sort of Calc, but here's what we got.
           if ( ncalc instanceof TupleListCalc ) {
             return genListCalc( call, (TupleListCalc) ncalc, calc );
@@ -40,7 +40,8 @@ public class TopBottomCountFunDef extends AbstractFunctionDefinition {
         compiler.compileInteger( call.getArg( 1 ) );
       final Calc<?> orderCalc =
         call.getArgCount() > 2
-          ? compiler.compileScalar( call.getArg( 2 ), true )
+          ? compiler.compileIterated( call.getArg( 0 ).getType(),
+              () -> compiler.compileScalar( call.getArg( 2 ), true ) )
           : null;
       return new TopBottomCountCalc(
               call.getType(), tupleListCalc, integerCalc, orderCalc, call, top) {
@@ -14,16 +14,32 @@
 package org.eclipse.daanse.olap.function.def.udf.matches;
 
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
-import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.calc.ConstantCalc;
 import org.eclipse.daanse.olap.api.calc.StringCalc;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedBooleanCalc;
 
 public class MatchesCalc extends AbstractProfilingNestedBooleanCalc {
 
+    // The compiled regex, when it is constant; otherwise the last one used,
+    // as the regex of a cell predicate rarely changes between cells.
+    private volatile Pattern pattern;
+
     protected MatchesCalc(Type type, StringCalc stringCalc, StringCalc regexCalc) {
         super(type, stringCalc, regexCalc);
+        if (regexCalc instanceof ConstantCalc<?>) {
+            final String regex = regexCalc.evaluate(null);
+            if (regex != null) {
+                try {
+                    pattern = Pattern.compile(regex);
+                } catch (PatternSyntaxException e) {
+                    // Left for evaluation to report, as it always did.
+                }
+            }
+        }
     }
 
     @Override
@@ -32,8 +48,17 @@ public class MatchesCalc extends AbstractProfilingNestedBooleanCalc {
         final StringCalc regexCalc = getChildCalc(1, StringCalc.class);
         String string = stringCalc.evaluate(evaluator);
         String regex = regexCalc.evaluate(evaluator);
-        return Boolean.valueOf(Pattern.matches(regex, string));
+        return Boolean.valueOf(pattern(regex).matcher(string).matches());
+
+    }
 
+    private Pattern pattern(String regex) {
+        Pattern p = pattern;
+        if (p == null || !p.pattern().equals(regex)) {
+            p = Pattern.compile(regex);
+            pattern = p;
+        }
+        return p;
     }
 
 }
@@ -13,18 +13,13 @@
  */
 package org.eclipse.daanse.olap.function.def.union;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-
 import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
 import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
-import org.eclipse.daanse.olap.api.element.Member;
 import org.eclipse.daanse.olap.api.evaluator.Evaluator;
 import org.eclipse.daanse.olap.api.type.Type;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
 import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleCollections;
-import org.eclipse.daanse.olap.fun.FunUtil;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleHashSet;
 
 public class UnionCalc extends AbstractProfilingNestedTupleListCalc {
 
@@ -59,10 +54,10 @@ public class UnionCalc extends AbstractProfilingNestedTupleListCalc {
             result.addAll(list1);
             return result;
         } else {
-            Set<List<Member>> added = new HashSet<>();
+            TupleHashSet added = new TupleHashSet(list0.getArity(), list0.size() + list1.size());
             TupleList result = TupleCollections.createList(list0.getArity());
-            FunUtil.addUnique(result, list0, added);
-            FunUtil.addUnique(result, list1, added);
+            added.addDistinct(list0, result);
+            added.addDistinct(list1, result);
             return result;
         }
     }
@@ -24,6 +24,11 @@ import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCal
 
 public class ValCalc extends AbstractProfilingNestedDoubleCalc {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+    private static final Pattern HEX_DIGITS = Pattern.compile("[0-9a-fA-F]*");
+    private static final Pattern OCTAL_DIGITS = Pattern.compile("[0-7]*");
+    private static final Pattern DECIMAL = Pattern.compile("-?[0-9]*[.]?[0-9]*");
+
     protected ValCalc(Type type, Calc<?> doubleCalc) {
         super(type, doubleCalc);
     }
@@ -50,23 +55,20 @@ public class ValCalc extends AbstractProfilingNestedDoubleCalc {
         // international applications, use CDbl instead to convert a string to
         // a number.
 
-        string = string.replaceAll("\\s", ""); // remove all whitespace
+        string = WHITESPACE.matcher(string).replaceAll(""); // remove all whitespace
         if (string.startsWith("&H")) {
             string = string.substring(2);
-            Pattern p = Pattern.compile("[0-9a-fA-F]*");
-            Matcher m = p.matcher(string);
+            Matcher m = HEX_DIGITS.matcher(string);
             m.find();
             return (double) Integer.parseInt(m.group(), 16);
         } else if (string.startsWith("&O")) {
             string = string.substring(2);
-            Pattern p = Pattern.compile("[0-7]*");
-            Matcher m = p.matcher(string);
+            Matcher m = OCTAL_DIGITS.matcher(string);
             m.find();
             return (double) Integer.parseInt(m.group(), 8);
         } else {
             // find the first number
-            Pattern p = Pattern.compile("-?[0-9]*[.]?[0-9]*");
-            Matcher m = p.matcher(string);
+            Matcher m = DECIMAL.matcher(string);
             m.find();
             return Double.parseDouble(m.group());
         }
@@ -19,6 +19,7 @@ import org.eclipse.daanse.olap.function.def.aggregate.AggregateResolver;
 import org.eclipse.daanse.olap.function.def.aggregate.avg.AvgResolver;
 import org.eclipse.daanse.olap.function.def.aggregate.children.AggregateChildrenResolver;
 import org.eclipse.daanse.olap.function.def.aggregate.count.CountResolver;
+import org.eclipse.daanse.olap.function.def.aggregate.median.ApproxMedianResolver;
 import org.eclipse.daanse.olap.function.def.aggregate.median.MedianResolver;
 import org.eclipse.daanse.olap.function.def.ancestor.AncestorResolver;
 import org.eclipse.daanse.olap.function.def.as.AsAliasResolver;
@@ -148,6 +149,7 @@ import org.eclipse.daanse.olap.function.def.order.OrderResolver;
 import org.eclipse.daanse.olap.function.def.parallelperiod.ParallelPeriodResolver;
 import org.eclipse.daanse.olap.function.def.parameter.ParameterResolver;
 import org.eclipse.daanse.olap.function.def.parameter.ParamRefResolver;
+import org.eclipse.daanse.olap.function.def.percentile.ApproxPercentileResolver;
 import org.eclipse.daanse.olap.function.def.percentile.PercentileResolver;
 import org.eclipse.daanse.olap.function.def.periodstodate.PeriodsToDateResolver;
 import org.eclipse.daanse.olap.function.def.periodstodate.xtd.MtdMultiResolver;
@@ -436,8 +438,10 @@ public final class StandardFunctions {
         svc.addResolver(new MaxResolver());
         svc.addResolver(new MinResolver());
         svc.addResolver(new MedianResolver());
+        svc.addResolver(new ApproxMedianResolver());
 
         svc.addResolver(new PercentileResolver());
+        svc.addResolver(new ApproxPercentileResolver());
         svc.addResolver(new RankResolver());
         svc.addResolver(new StddevResolver());
         svc.addResolver(new StdevResolver());
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.element.OlapElement;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.result.AllocationPolicy;
+import org.eclipse.daanse.olap.api.result.Axis;
+import org.eclipse.daanse.olap.api.result.Cell;
+import org.eclipse.daanse.olap.api.result.Property;
+import org.eclipse.daanse.olap.api.result.Result;
+import org.eclipse.daanse.olap.api.result.Scenario;
+import org.eclipse.daanse.olap.api.sql.SqlStatementI;
+import org.eclipse.daanse.olap.common.ResultBase;
+import org.eclipse.daanse.olap.common.StandardProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The axes and cell values of a query result, as the
+ * {@link org.eclipse.daanse.olap.api.cache.QueryResultCache} keeps them.
+ *
+ * <p>
+ * Cells are kept in ordinal order in parallel arrays: the value, the formatted
+ * value and, for each other cell property that any cell has a value of, the
+ * property's values. {@link #bind(Execution)} presents the snapshot as the
+ * {@link Result} of a later execution of the same query. Its cells cannot be
+ * drilled through or written back, as the evaluation context they were
+ * computed in is gone.
+ * </p>
+ */
+final class CachedResult {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachedResult.class);
+
+    private static final List<String> PROPERTY_NAMES = propertyNames();
+
+    private final Axis[] axes;
+    private final Axis slicerAxis;
+    private final int[] lengths;
+    private final Object[] values;
+    private final String[] formattedValues;
+    private final String[] propertyNames;
+    private final Object[][] propertyValues;
+
+    private CachedResult(Axis[] axes, Axis slicerAxis, int[] lengths, Object[] values, String[] formattedValues,
+            String[] propertyNames, Object[][] propertyValues) {
+        this.axes = axes;
+        this.slicerAxis = slicerAxis;
+        this.lengths = lengths;
+        this.values = values;
+        this.formattedValues = formattedValues;
+        this.propertyNames = propertyNames;
+        this.propertyValues = propertyValues;
+    }
+
+    private static List<String> propertyNames() {
+        final List<String> names = new ArrayList<>();
+        for (Property property : Property.StandardCellProperty.values()) {
+            if (property != Property.StandardCellProperty.VALUE
+                && property != Property.StandardCellProperty.FORMATTED_VALUE
+                && property != Property.StandardCellProperty.CELL_ORDINAL) {
+                names.add(property.getName());
+            }
+        }
+        names.add(StandardProperty.DATATYPE.getName());
+        return List.copyOf(names);
+    }
+
+    /**
+     * Takes a snapshot of a result.
+     *
+     * @param result   result, not closed yet
+     * @param maxCells largest number of cells worth keeping
+     * @return snapshot, or null if the result has more cells than that or a cell
+     *         whose calculation returned an error, which may not recur
+     */
+    static CachedResult of(Result result, long maxCells) {
+        final Axis[] axes = result.getAxes();
+        final int[] lengths = new int[axes.length];
+        long cellCount = 1;
+        for (int i = 0; i < axes.length; i++) {
+            lengths[i] = axes[i].getTupleList().size();
+            cellCount *= lengths[i];
+        }
+        if (cellCount > maxCells) {
+            return null;
+        }
+        final int n = (int) cellCount;
+        final Object[] values = new Object[n];
+        final String[] formattedValues = new String[n];
+        final Object[][] properties = new Object[PROPERTY_NAMES.size()][];
+        final int[] pos = new int[axes.length];
+        for (int ordinal = 0; ordinal < n; ordinal++) {
+            final Cell cell = result.getCell(pos);
+            if (cell.isError()) {
+                return null;
+            }
+            values[ordinal] = cell.getValue();
+            formattedValues[ordinal] = cell.getFormattedValue();
+            for (int p = 0; p < properties.length; p++) {
+                final Object value = cell.getPropertyValue(PROPERTY_NAMES.get(p));
+                if (value != null) {
+                    if (properties[p] == null) {
+                        properties[p] = new Object[n];
+                    }
+                    properties[p][ordinal] = value;
+                }
+            }
+            for (int i = 0; i < pos.length; i++) {
+                if (++pos[i] < lengths[i]) {
+                    break;
+                }
+                pos[i] = 0;
+            }
+        }
+        final List<String> names = new ArrayList<>();
+        final List<Object[]> columns = new ArrayList<>();
+        for (int p = 0; p < properties.length; p++) {
+            if (properties[p] != null) {
+                names.add(PROPERTY_NAMES.get(p));
+                columns.add(properties[p]);
+            }
+        }
+        return new CachedResult(axes.clone(), result.getSlicerAxis(), lengths, values, formattedValues,
+            names.toArray(new String[0]), columns.toArray(new Object[0][]));
+    }
+
+    /**
+     * Returns the number of cells.
+     */
+    int cellCount() {
+        return values.length;
+    }
+
+    /**
+     * Returns the snapshot as the result of an execution of its query.
+     */
+    Result bind(Execution execution) {
+        return new BoundResult(execution);
+    }
+
+    private int ordinal(int[] pos) {
+        if (pos.length != lengths.length) {
+            throw new IllegalArgumentException(
+                "coordinates should have dimension " + lengths.length);
+        }
+        int ordinal = 0;
+        for (int i = lengths.length - 1; i >= 0; i--) {
+            if (pos[i] < 0 || pos[i] >= lengths[i]) {
+                throw new IndexOutOfBoundsException("coordinates out of range");
+            }
+            ordinal = ordinal * lengths[i] + pos[i];
+        }
+        return ordinal;
+    }
+
+    private class BoundResult extends ResultBase {
+
+        BoundResult(Execution execution) {
+            super(execution, axes.clone());
+            this.slicerAxis = CachedResult.this.slicerAxis;
+        }
+
+        @Override
+        protected Logger getLogger() {
+            return LOGGER;
+        }
+
+        @Override
+        public Cell getCell(int[] pos) {
+            return new CachedCell(this, pos.clone(), ordinal(pos));
+        }
+
+        @Override
+        public Member[] getCellMembers(int[] coordinates) {
+            throw new UnsupportedOperationException(
+                "Cell members of a cached result are not known");
+        }
+    }
+
+    private class CachedCell implements Cell {
+
+        private final BoundResult result;
+        private final int[] pos;
+        private final int ordinal;
+
+        CachedCell(BoundResult result, int[] pos, int ordinal) {
+            this.result = result;
+            this.pos = pos;
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public List<Integer> getCoordinateList() {
+            final List<Integer> list = new ArrayList<>(pos.length);
+            for (int coordinate : pos) {
+                list.add(coordinate);
+            }
+            return list;
+        }
+
+        @Override
+        public Object getValue() {
+            return values[ordinal];
+        }
+
+        @Override
+        public String getCachedFormatString() {
+            return (String) getPropertyValue(Property.StandardCellProperty.FORMAT_STRING.getName());
+        }
+
+        @Override
+        public String getFormattedValue() {
+            return formattedValues[ordinal];
+        }
+
+        @Override
+        public boolean isNull() {
+            return values[ordinal] == null;
+        }
+
+        @Override
+        public boolean isError() {
+            return false;
+        }
+
+        @Override
+        public String getDrillThroughSQL(boolean extendedContext) {
+            return null;
+        }
+
+        @Override
+        public boolean canDrillThrough() {
+            return false;
+        }
+
+        @Override
+        public int getDrillThroughCount() {
+            return -1;
+        }
+
+        @Override
+        public Object getPropertyValue(String propertyName) {
+            if (Property.StandardCellProperty.VALUE.getName().equalsIgnoreCase(propertyName)) {
+                return getValue();
+            }
+            if (Property.StandardCellProperty.FORMATTED_VALUE.getName().equalsIgnoreCase(propertyName)) {
+                return getFormattedValue();
+            }
+            if (Property.StandardCellProperty.CELL_ORDINAL.getName().equalsIgnoreCase(propertyName)) {
+                return ordinal;
+            }
+            for (int p = 0; p < propertyNames.length; p++) {
+                if (propertyNames[p].equalsIgnoreCase(propertyName)) {
+                    return propertyValues[p][ordinal];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Member getContextMember(Hierarchy hierarchy) {
+            return result.getMember(pos, hierarchy);
+        }
+
+        @Override
+        public void setValue(Scenario scenario, Object newValue, AllocationPolicy allocationPolicy,
+                Object... allocationArgs) {
+            throw new UnsupportedOperationException("Cannot write to a cell of a cached result");
+        }
+
+        @Override
+        public SqlStatementI drillThroughInternal(int maxRowCount, int firstRowOrdinal, List<OlapElement> fields,
+                boolean extendedContext, Logger logger) {
+            throw new UnsupportedOperationException("Cannot drill through a cell of a cached result");
+        }
+    }
+}
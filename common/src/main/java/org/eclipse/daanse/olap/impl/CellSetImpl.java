@@ -14,22 +14,35 @@
 package org.eclipse.daanse.olap.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.daanse.olap.api.Parameter;
+import org.eclipse.daanse.olap.api.cache.QueryResultCache;
+import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
 import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.query.component.AxisOrdinal;
 import org.eclipse.daanse.olap.api.query.component.Query;
 import org.eclipse.daanse.olap.api.query.component.QueryAxis;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
 import org.eclipse.daanse.olap.api.result.Axis;
 import org.eclipse.daanse.olap.api.result.Cell;
+import org.eclipse.daanse.olap.api.result.CellCursor;
 import org.eclipse.daanse.olap.api.result.CellSet;
 import org.eclipse.daanse.olap.api.result.CellSetAxis;
 import org.eclipse.daanse.olap.api.result.CellSetMetaData;
 import org.eclipse.daanse.olap.api.result.Result;
+import org.eclipse.daanse.olap.api.result.Scenario;
 import org.eclipse.daanse.olap.api.result.SubtotalVisibility;
+import org.eclipse.daanse.olap.calc.base.cache.ShareabilityVisitor;
 import org.eclipse.daanse.olap.common.ExecuteDurationUtil;
+import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.olap.execution.ExecutionImpl;
+import org.eclipse.daanse.olap.query.component.MdxVisitorImpl;
 import org.eclipse.daanse.olap.query.component.QueryAxisImpl;
 
 public class CellSetImpl extends ExecutionImpl implements CellSet {
@@ -41,10 +54,21 @@ public class CellSetImpl extends ExecutionImpl implements CellSet {
     private Result result;
     protected boolean closed;
     private final Query query;
+    private final boolean useResultCache;
 
     public CellSetImpl(StatementImpl statement) {
+        this(statement, true);
+    }
+
+    /**
+     * @param useResultCache whether the result may come from, and go to, the
+     *                       context's query result cache; a drill-through needs
+     *                       live cells and passes false
+     */
+    public CellSetImpl(StatementImpl statement, boolean useResultCache) {
         super(statement, ExecuteDurationUtil.executeDurationValue(statement.context));
         this.statement = statement;
+        this.useResultCache = useResultCache;
         query = statement.getQuery();
         this.closed = false;
         if (statement instanceof PreparedStatement ps) {
@@ -81,6 +105,86 @@ public class CellSetImpl extends ExecutionImpl implements CellSet {
         return getCellInternal(coords);
     }
 
+    @Override
+    public Cell getCell(int... coordinates) {
+        return getCellInternal(coordinates.clone());
+    }
+
+    @Override
+    public Cell getCellByOrdinal(int ordinal) {
+        return getCellInternal(ordinalToCoordinates(ordinal));
+    }
+
+    @Override
+    public int coordinatesToOrdinal(int... coordinates) {
+        final int[] lengths = axisLengths();
+        if (coordinates.length != lengths.length) {
+            throw new IllegalArgumentException(
+                "Cell coordinates should have dimension " + lengths.length);
+        }
+        int ordinal = 0;
+        for (int i = lengths.length - 1; i >= 0; i--) {
+            if (coordinates[i] < 0 || coordinates[i] >= lengths[i]) {
+                throw new IndexOutOfBoundsException(
+                    new StringBuilder("Cell coordinates (").append(getCoordsAsString(coordinates))
+                        .append(") fall outside CellSet bounds (")
+                        .append(getCoordsAsString(lengths)).append(")").toString());
+            }
+            ordinal = ordinal * lengths[i] + coordinates[i];
+        }
+        return ordinal;
+    }
+
+    @Override
+    public int[] ordinalToCoordinates(int ordinal) {
+        final int[] lengths = axisLengths();
+        if (ordinal < 0 || ordinal >= cellCount(lengths)) {
+            throw new IndexOutOfBoundsException(
+                "Cell ordinal " + ordinal + " falls outside CellSet bounds ("
+                    + getCoordsAsString(lengths) + ")");
+        }
+        final int[] coordinates = new int[lengths.length];
+        toCoordinates(ordinal, lengths, coordinates);
+        return coordinates;
+    }
+
+    private static void toCoordinates(int ordinal, int[] lengths, int[] coordinates) {
+        for (int i = 0; i < lengths.length; i++) {
+            coordinates[i] = ordinal % lengths[i];
+            ordinal /= lengths[i];
+        }
+    }
+
+    @Override
+    public CellCursor cursor() {
+        return cursor(0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public CellCursor cursor(int beginOrdinal, int endOrdinal) {
+        if (beginOrdinal < 0 || endOrdinal < beginOrdinal) {
+            throw new IllegalArgumentException(
+                "Invalid cell range [" + beginOrdinal + ", " + endOrdinal + ")");
+        }
+        return new CursorImpl(axisLengths(), beginOrdinal, endOrdinal);
+    }
+
+    private int[] axisLengths() {
+        final int[] lengths = new int[axisList.size()];
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = axisList.get(i).getPositionCount();
+        }
+        return lengths;
+    }
+
+    private static int cellCount(int[] lengths) {
+        long count = 1;
+        for (int length : lengths) {
+            count *= length;
+        }
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
     @Override
     public Statement getStatement() {
         return statement;
@@ -113,6 +217,50 @@ public class CellSetImpl extends ExecutionImpl implements CellSet {
         return new CellImpl(result, pos, this, cell);
     }
 
+    /**
+     * Returns the key of this cell set's query in the query result cache, or
+     * null if its result must not be shared: the query calls a function whose
+     * value changes by itself, such as {@code Now()}, or the connection has
+     * writeback values that other connections do not see.
+     */
+    QueryResultCache.Key resultCacheKey() {
+        final Connection connection = statement.getConnection();
+        final Scenario scenario = connection.getScenario();
+        if (scenario != null
+            && (!scenario.getWritebackCells().isEmpty() || !scenario.pendingCubes().isEmpty()))
+        {
+            return null;
+        }
+        final boolean[] volatileCall = {false};
+        query.accept(new MdxVisitorImpl() {
+            @Override
+            public Object visitResolvedFunCall(ResolvedFunCall call) {
+                if (ShareabilityVisitor.isVolatile(call)) {
+                    volatileCall[0] = true;
+                }
+                return null;
+            }
+        });
+        if (volatileCall[0]) {
+            return null;
+        }
+        final Parameter[] parameters = query.getParameters();
+        final Object[] parameterValues = new Object[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            parameterValues[i] = parameters[i].getValue();
+        }
+        final Cube cube = query.getCube();
+        final Catalog catalog = cube.getCatalog();
+        return new QueryResultCache.Key(
+            cube,
+            Util.unparse(query),
+            Collections.unmodifiableList(Arrays.asList(parameterValues)),
+            connection.getRole(),
+            connection.getLocale(),
+            catalog.getId(),
+            catalog.getCatalogLoadDate());
+    }
+
     private static String getCoordsAsString(int[] pos) {
         StringBuilder buf = new StringBuilder();
         for (int i = 0; i < pos.length; i++) {
@@ -125,6 +273,118 @@ public class CellSetImpl extends ExecutionImpl implements CellSet {
         return buf.toString();
     }
 
+    /**
+     * Cursor over a range of the cells of the result. It keeps one coordinate
+     * array, advanced like an odometer, and reads the result's own cell at
+     * each position; a {@link CellImpl} is only made on {@link #getCell()}.
+     */
+    private class CursorImpl implements CellCursor {
+        private final int[] lengths;
+        private final int[] coordinates;
+        private final int begin;
+        private final int end;
+        private int ordinal;
+        private boolean positioned;
+        private Cell cell;
+
+        CursorImpl(int[] lengths, int begin, int end) {
+            this.lengths = lengths;
+            this.coordinates = new int[lengths.length];
+            this.begin = begin;
+            this.end = Math.max(begin, Math.min(end, cellCount(lengths)));
+            this.ordinal = begin - 1;
+        }
+
+        @Override
+        public boolean next() {
+            if (ordinal + 1 >= end) {
+                ordinal = end;
+                cell = null;
+                return false;
+            }
+            ordinal++;
+            if (positioned) {
+                for (int i = 0; i < coordinates.length; i++) {
+                    if (++coordinates[i] < lengths[i]) {
+                        break;
+                    }
+                    coordinates[i] = 0;
+                }
+            } else {
+                toCoordinates(ordinal, lengths, coordinates);
+                positioned = true;
+            }
+            cell = result.getCell(coordinates);
+            return true;
+        }
+
+        @Override
+        public void moveTo(int ordinal) {
+            if (ordinal < begin || ordinal >= end) {
+                throw new IndexOutOfBoundsException(
+                    "Cell ordinal " + ordinal + " falls outside cursor range ["
+                        + begin + ", " + end + ")");
+            }
+            toCoordinates(ordinal, lengths, coordinates);
+            positioned = true;
+            this.ordinal = ordinal;
+            cell = result.getCell(coordinates);
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        @Override
+        public int getCoordinate(int axisOrdinal) {
+            return coordinates[axisOrdinal];
+        }
+
+        @Override
+        public boolean isNull() {
+            return current().isNull();
+        }
+
+        @Override
+        public boolean isError() {
+            return current().isError();
+        }
+
+        @Override
+        public Object getValue() {
+            return current().getValue();
+        }
+
+        @Override
+        public double getDoubleValue() {
+            final Object value = current().getValue();
+            return value == null ? 0d : ((Number) value).doubleValue();
+        }
+
+        @Override
+        public String getFormattedValue() {
+            return current().getFormattedValue();
+        }
+
+        @Override
+        public Object getPropertyValue(String propertyName) {
+            return current().getPropertyValue(propertyName);
+        }
+
+        @Override
+        public Cell getCell() {
+            return new CellImpl(result, coordinates.clone(), CellSetImpl.this, current());
+        }
+
+        private Cell current() {
+            if (cell == null) {
+                throw new IllegalStateException("Cursor is not positioned on a cell");
+            }
+            return cell;
+        }
+    }
+
     @Override
     public void close() {
         if (closed) {
@@ -139,9 +399,26 @@ public class CellSetImpl extends ExecutionImpl implements CellSet {
 
     @Override
     public void execute() {
-        result =
-            statement.getConnection().execute(
-                this);
+        final QueryResultCache cache = useResultCache
+            ? statement.getConnection().getContext().getQueryResultCache().orElse(null)
+            : null;
+        final QueryResultCache.Key key = cache == null ? null : resultCacheKey();
+        final Object cached = key == null ? null : cache.get(key);
+        if (cached instanceof CachedResult cachedResult) {
+            result = cachedResult.bind(this);
+        } else {
+            final long generation = key == null ? 0 : cache.generation();
+            result =
+                statement.getConnection().execute(
+                    this);
+            if (key != null) {
+                final CachedResult snapshot = CachedResult.of(result,
+                    statement.getConnection().getContext().getConfig().queryResultCacheSize());
+                if (snapshot != null) {
+                    cache.put(key, snapshot, snapshot.cellCount(), generation);
+                }
+            }
+        }
 
         // initialize axes
         org.eclipse.daanse.olap.api.result.Axis[] axes = result.getAxes();
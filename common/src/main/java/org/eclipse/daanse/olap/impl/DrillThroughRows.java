@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Bounds the rows a drill-through reads.
+ *
+ * <p>
+ * The limit is first passed down to the SQL as the drill-through's row count,
+ * where the dialect can turn it into LIMIT/OFFSET. Reading is bounded here
+ * too, because not every database honors that, and the driver is asked to
+ * fetch in batches rather than all rows at once, which some drivers otherwise
+ * do before the first row is returned.
+ * </p>
+ */
+final class DrillThroughRows {
+
+    /**
+     * Rows the driver is asked to fetch per round trip.
+     */
+    static final int FETCH_SIZE = 1000;
+
+    private DrillThroughRows() {
+    }
+
+    /**
+     * Returns the number of rows a drill-through returns.
+     *
+     * @param requested MAXROWS of the statement, 0 or less if none
+     * @param limit     largest number the server returns, 0 or less if none
+     * @return number of rows, 0 or less if unlimited
+     */
+    static int maxRows(int requested, int limit) {
+        if (limit <= 0) {
+            return requested;
+        }
+        if (requested <= 0) {
+            return limit;
+        }
+        return Math.min(requested, limit);
+    }
+
+    /**
+     * Returns a view of a result set which ends after {@code maxRows} rows.
+     *
+     * @param resultSet result set, positioned before the first row
+     * @param maxRows   number of rows, 0 or less if unlimited
+     * @return result set
+     */
+    static ResultSet limit(ResultSet resultSet, int maxRows) {
+        try {
+            resultSet.setFetchSize(maxRows > 0 ? Math.min(maxRows, FETCH_SIZE) : FETCH_SIZE);
+        } catch (SQLException e) {
+            // Only a hint; a driver which cannot take it fetches as it always did.
+        }
+        if (maxRows <= 0) {
+            return resultSet;
+        }
+        return new LimitedResultSet(resultSet, maxRows);
+    }
+}
@@ -35,7 +35,6 @@
 package org.eclipse.daanse.olap.impl;
 
 import java.io.PrintWriter;
-import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -475,19 +474,13 @@ public class RectangularCellSetFormatter {
 
                     public Cell next() {
                         final int[] ints = coordIter.next();
-                        final AbstractList<Integer> intList =
-                            new AbstractList<Integer>() {
-                                public Integer get(int index) {
-                                    return index < ints.length
-                                        ? ints[index]
-                                        : pageCoords[index - ints.length];
-                                }
-
-                                public int size() {
-                                    return pageCoords.length + ints.length;
-                                }
-                            };
-                        return cellSet.getCell(intList);
+                        final int[] coords =
+                            new int[ints.length + pageCoords.length];
+                        System.arraycopy(ints, 0, coords, 0, ints.length);
+                        System.arraycopy(
+                            pageCoords, 0, coords, ints.length,
+                            pageCoords.length);
+                        return cellSet.getCell(coords);
                     }
 
                     public void remove() {
@@ -16,7 +16,6 @@ package org.eclipse.daanse.olap.impl;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.sql.ResultSet;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +25,7 @@ import org.eclipse.daanse.olap.api.connection.Connection;
 import org.eclipse.daanse.olap.api.element.DrillThroughAction;
 import org.eclipse.daanse.olap.api.element.OlapElement;
 import org.eclipse.daanse.olap.api.exception.OlapRuntimeException;
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Permit;
 import org.eclipse.daanse.olap.api.execution.ExecutionContext;
 import org.eclipse.daanse.olap.api.execution.QueryCanceledException;
 import org.eclipse.daanse.olap.api.execution.QueryTimeoutException;
@@ -71,7 +71,9 @@ public class StatementImpl extends org.eclipse.daanse.olap.execution.AbstractSta
     @Override
     public Result executeSelect(String mdx) {
     	Query query = connection.parseQuery(mdx);
-        return connection.execute(query);
+        try (Permit permit = admit()) {
+            return connection.execute(query);
+        }
     }
 
     @Override
@@ -111,40 +113,13 @@ public class StatementImpl extends org.eclipse.daanse.olap.execution.AbstractSta
         int[] rowCountSlot
     )  {
         if (queryComponent instanceof DrillThrough drillThrough) {
-            final Query query = drillThrough.getQuery();
-            query.setResultStyle(ResultStyle.LIST);
-            //setQuery(query);
-            CellSet cellSet = executeOlapQueryInternal(query);
-            final List<Integer> coords = Collections.nCopies(
-                cellSet.getAxes().size(), 0);
-            final Cell cell =
-                cellSet.getCell(coords);
-
-            List<OlapElement> fields = drillThrough.getReturnList();
-            if(fields.isEmpty()) {
-                org.eclipse.daanse.olap.api.element.Cube rolapCube = cellSet.getMetaData().getCube();
-
-
-                DrillThroughAction rolapDrillThroughAction =
-                    rolapCube.getDefaultDrillThroughAction();
-                if(rolapDrillThroughAction != null) {
-                    fields = rolapDrillThroughAction.getOlapElements();
-                }
+            // One admission for the cell and the opening of its rows. The rows
+            // stream from the database as the caller reads them, after the
+            // permit is given back: holding it until the caller closes the
+            // result set would let a result set left open block the queue.
+            try (Permit permit = admit()) {
+                return drillThrough(drillThrough, rowCountSlot);
             }
-
-            ResultSet resultSet =
-                ((CellImpl)cell).drillThroughInternal(
-                    drillThrough.getMaxRowCount(),
-                    drillThrough.getFirstRowOrdinal(),
-                    fields,
-                    true,
-                    null,
-                    rowCountSlot);
-            if (resultSet == null) {
-                throw new RuntimeException(
-                    "Cannot do DrillThrough operation on the cell");
-            }
-            return resultSet;
         } else if (queryComponent instanceof Explain explain) {
             String plan = explainInternal(explain.getQuery());
             return null;
@@ -160,6 +135,45 @@ public class StatementImpl extends org.eclipse.daanse.olap.execution.AbstractSta
         }
     }
 
+    private ResultSet drillThrough(DrillThrough drillThrough, int[] rowCountSlot) {
+        final Query query = drillThrough.getQuery();
+        query.setResultStyle(ResultStyle.LIST);
+        //setQuery(query);
+        CellSet cellSet = openCellSet(query, false);
+        final Cell cell =
+            cellSet.getCell(new int[cellSet.getAxes().size()]);
+
+        List<OlapElement> fields = drillThrough.getReturnList();
+        if(fields.isEmpty()) {
+            org.eclipse.daanse.olap.api.element.Cube rolapCube = cellSet.getMetaData().getCube();
+
+
+            DrillThroughAction rolapDrillThroughAction =
+                rolapCube.getDefaultDrillThroughAction();
+            if(rolapDrillThroughAction != null) {
+                fields = rolapDrillThroughAction.getOlapElements();
+            }
+        }
+
+        final int maxRowCount =
+            DrillThroughRows.maxRows(
+                drillThrough.getMaxRowCount(),
+                context.getConfig().drillThroughMaxRows());
+        ResultSet resultSet =
+            ((CellImpl)cell).drillThroughInternal(
+                maxRowCount,
+                drillThrough.getFirstRowOrdinal(),
+                fields,
+                true,
+                null,
+                rowCountSlot);
+        if (resultSet == null) {
+            throw new RuntimeException(
+                "Cannot do DrillThrough operation on the cell");
+        }
+        return DrillThroughRows.limit(resultSet, maxRowCount);
+    }
+
     private String explainInternal(QueryComponent query) {
         final StringWriter sw = new StringWriter();
         final PrintWriter pw = new PrintWriter(sw);
@@ -169,6 +183,20 @@ public class StatementImpl extends org.eclipse.daanse.olap.execution.AbstractSta
     }
 
     private CellSet executeOlapQueryInternal(Query query) {
+        try (Permit permit = admit()) {
+            return openCellSet(query, true);
+        }
+    }
+
+    /**
+     * Waits until the context's admission controller lets this statement's
+     * next query run.
+     */
+    private Permit admit() {
+        return context.getAdmissionController().admit(getAdmission());
+    }
+
+    private CellSet openCellSet(Query query, boolean useResultCache) {
         // Close the previous open CellSet, if there is one.
         synchronized (this) {
             if (openCellSet != null) {
@@ -186,7 +214,7 @@ public class StatementImpl extends org.eclipse.daanse.olap.execution.AbstractSta
             query.setResultStyle(ResultStyle.LIST);
             //}
             this.query = query;
-            openCellSet = new CellSetImpl(this);
+            openCellSet = new CellSetImpl(this, useResultCache);
         }
         // Release the monitor before executing, to give another thread the
         // opportunity to call cancel.
@@ -35,11 +35,10 @@
 package org.eclipse.daanse.olap.impl;
 
 import java.io.PrintWriter;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.daanse.olap.api.element.Member;
-import org.eclipse.daanse.olap.api.result.Cell;
+import org.eclipse.daanse.olap.api.result.CellCursor;
 import org.eclipse.daanse.olap.api.result.CellSet;
 import org.eclipse.daanse.olap.api.result.CellSetAxis;
 import org.eclipse.daanse.olap.api.result.Position;
@@ -68,46 +67,17 @@ public class TraditionalCellSetFormatter {
             pw.println("Axis #" + (i + 1) + ":");
             printAxis(pw, axis);
         }
-        // Usually there are 3 axes: {filter, columns, rows}. Position is a
-        // {column, row} pair. We call printRows with axis=2. When it
-        // recurses to axis=-1, it prints.
-        List<Integer> pos = new ArrayList<Integer>(axisCount);
-        for (int i = 0; i < axisCount; i++) {
-            pos.add(-1);
-        }
-        if (axisCount == 0) {
-            printCell(cellSet, pw, pos);
-        } else {
-            printRows(cellSet, pw, axisCount - 1, pos);
-        }
-    }
-
-    /**
-     * Prints the rows of cell set.
-     *
-     * @param cellSet Cell set
-     * @param pw Writer
-     * @param axis Axis ordinal
-     * @param pos Partial coordinate
-     */
-    private static void printRows(
-        CellSet cellSet, PrintWriter pw, int axis, List<Integer> pos)
-    {
-        final CellSetAxis _axis = cellSet.getAxes().get(axis);
-        final List<Position> positions = _axis.getPositions();
-        final int positionCount = positions.size();
-        for (int i = 0; i < positionCount; i++) {
-            pos.set(axis, i);
-            if (axis == 0) {
-                int row =
-                    axis + 1 < pos.size()
-                        ? pos.get(axis + 1)
-                        : 0;
+        // One line per cell, in ordinal order: the column varies fastest,
+        // then the row, then the page.
+        final CellCursor cursor = cellSet.cursor();
+        while (cursor.next()) {
+            if (axisCount == 0) {
+                pw.print(cursor.getFormattedValue());
+            } else {
+                int row = axisCount > 1 ? cursor.getCoordinate(1) : 0;
                 pw.print("Row #" + row + ": ");
-                printCell(cellSet, pw, pos);
+                pw.print(cursor.getFormattedValue());
                 pw.println();
-            } else {
-                printRows(cellSet, pw, axis - 1, pos);
             }
         }
     }
@@ -133,18 +103,4 @@ public class TraditionalCellSetFormatter {
             pw.println("}");
         }
     }
-
-    /**
-     * Prints the formatted value of a Cell at a given position.
-     *
-     * @param cellSet Cell set
-     * @param pw Print writer
-     * @param pos Cell coordinates
-     */
-    private static void printCell(
-        CellSet cellSet, PrintWriter pw, List<Integer> pos)
-    {
-        Cell cell = cellSet.getCell(pos);
-        pw.print(cell.getFormattedValue());
-    }
 }
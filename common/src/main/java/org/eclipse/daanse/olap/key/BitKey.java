@@ -30,6 +30,7 @@
 package org.eclipse.daanse.olap.key;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Iterator;
 
@@ -128,6 +129,33 @@ public interface BitKey
      */
     BitKey andNot(BitKey bitKey);
 
+    /**
+     * Sets {@code target} to the boolean AND of this bitkey and the given
+     * bitkey, and returns it. Unlike {@link #and(BitKey)}, no key is
+     * allocated when {@code target} is wide enough to hold the result;
+     * otherwise a new key is returned and {@code target} is left alone.
+     * {@code target} may be this bitkey or the given one.
+     *
+     * @param bitKey Bit key
+     * @param target Key to receive the result
+     * @return {@code target}, or a new key if {@code target} is too narrow
+     */
+    default BitKey andInto(BitKey bitKey, BitKey target) {
+        return and(bitKey);
+    }
+
+    /**
+     * Sets {@code target} to the boolean OR of this bitkey and the given
+     * bitkey, and returns it; see {@link #andInto(BitKey, BitKey)}.
+     *
+     * @param bitKey Bit key
+     * @param target Key to receive the result
+     * @return {@code target}, or a new key if {@code target} is too narrow
+     */
+    default BitKey orInto(BitKey bitKey, BitKey target) {
+        return or(bitKey);
+    }
+
     /**
      * Returns a copy of this BitKey.
      *
@@ -289,21 +317,74 @@ public interface BitKey
          * representation of the specified long value.  This function
          * is sometimes referred to as the population count.
          *
-         * (Copied from {@link java.lang.Long#bitCount(long)}, which was
-         * introduced in JDK 1.5, but we need the functionality in JDK 1.4.)
+         * <p>Delegates to {@link Long#bitCount(long)}, which the JIT compiles
+         * to a single population-count instruction.</p>
          *
          * @return the number of one-bits in the two's complement binary
          *     representation of the specified long value.
-         * @since 1.5
          */
-         protected static int bitCount(long i) {
-            i = i - ((i >>> 1) & 0x5555555555555555L);
-            i = (i & 0x3333333333333333L) + ((i >>> 2) & 0x3333333333333333L);
-            i = (i + (i >>> 4)) & 0x0f0f0f0f0f0f0f0fL;
-            i = i + (i >>> 8);
-            i = i + (i >>> 16);
-            i = i + (i >>> 32);
-            return (int)i & 0x7f;
+        protected static int bitCount(long i) {
+            return Long.bitCount(i);
+        }
+
+        /**
+         * Returns the number of 64-bit words holding the bits.
+         */
+        protected abstract int wordCount();
+
+        /**
+         * Returns a 64-bit word of the bits.
+         */
+        protected abstract long word(int index);
+
+        /**
+         * Sets a 64-bit word of the bits.
+         */
+        protected abstract void setWord(int index, long word);
+
+        @Override
+        public BitKey andInto(BitKey bitKey, BitKey target) {
+            if (!(bitKey instanceof AbstractBitKey other)) {
+                throw createException(bitKey);
+            }
+            if (!(target instanceof AbstractBitKey into)) {
+                return and(bitKey);
+            }
+            final int n = Math.min(wordCount(), other.wordCount());
+            final int targetCount = into.wordCount();
+            for (int i = targetCount; i < n; i++) {
+                if ((word(i) & other.word(i)) != 0) {
+                    return and(bitKey);
+                }
+            }
+            // Each word is read before the same word is written, so the
+            // target may be one of the operands.
+            for (int i = 0; i < targetCount; i++) {
+                into.setWord(i, i < n ? word(i) & other.word(i) : 0);
+            }
+            return into;
+        }
+
+        @Override
+        public BitKey orInto(BitKey bitKey, BitKey target) {
+            if (!(bitKey instanceof AbstractBitKey other)) {
+                throw createException(bitKey);
+            }
+            if (!(target instanceof AbstractBitKey into)) {
+                return or(bitKey);
+            }
+            final int count = wordCount();
+            final int otherCount = other.wordCount();
+            final int targetCount = into.wordCount();
+            for (int i = targetCount; i < Math.max(count, otherCount); i++) {
+                if ((i < count ? word(i) : 0) != 0 || (i < otherCount ? other.word(i) : 0) != 0) {
+                    return or(bitKey);
+                }
+            }
+            for (int i = 0; i < targetCount; i++) {
+                into.setWord(i, (i < count ? word(i) : 0) | (i < otherCount ? other.word(i) : 0));
+            }
+            return into;
         }
 
         @Override
@@ -509,6 +590,21 @@ public interface BitKey
             return bitCount(bits);
         }
 
+        @Override
+        protected int wordCount() {
+            return 1;
+        }
+
+        @Override
+        protected long word(int index) {
+            return bits;
+        }
+
+        @Override
+        protected void setWord(int index, long word) {
+            bits = word;
+        }
+
         private void or(long bits) {
             this.bits |= bits;
         }
@@ -890,6 +986,25 @@ public interface BitKey
                + bitCount(bits1);
         }
 
+        @Override
+        protected int wordCount() {
+            return 2;
+        }
+
+        @Override
+        protected long word(int index) {
+            return index == 0 ? bits0 : bits1;
+        }
+
+        @Override
+        protected void setWord(int index, long word) {
+            if (index == 0) {
+                bits0 = word;
+            } else {
+                bits1 = word;
+            }
+        }
+
         private void or(long bits0, long bits1) {
             this.bits0 |= bits0;
             this.bits1 |= bits1;
@@ -1323,12 +1438,64 @@ public interface BitKey
         @Override
 		public int cardinality() {
             int n = 0;
-            for (int i = 0; i < bits.length; i++) {
-                n += bitCount(bits[i]);
+            for (long word : bits) {
+                n += Long.bitCount(word);
             }
             return n;
         }
 
+        @Override
+        protected int wordCount() {
+            return bits.length;
+        }
+
+        @Override
+        protected long word(int index) {
+            return bits[index];
+        }
+
+        @Override
+        protected void setWord(int index, long word) {
+            bits[index] = word;
+        }
+
+        @Override
+        public BitKey andInto(BitKey bitKey, BitKey target) {
+            if (bitKey instanceof Big other && target instanceof Big into
+                    && into.bits.length >= Math.min(bits.length, other.bits.length)) {
+                // Plain loops over the arrays, which the JIT vectorizes.
+                final long[] a = bits;
+                final long[] b = other.bits;
+                final long[] c = into.bits;
+                final int n = Math.min(a.length, b.length);
+                for (int i = 0; i < n; i++) {
+                    c[i] = a[i] & b[i];
+                }
+                Arrays.fill(c, n, c.length, 0L);
+                return into;
+            }
+            return super.andInto(bitKey, target);
+        }
+
+        @Override
+        public BitKey orInto(BitKey bitKey, BitKey target) {
+            if (bitKey instanceof Big other && target instanceof Big into
+                    && into.bits.length >= Math.max(bits.length, other.bits.length)) {
+                final long[] a = bits;
+                final long[] b = other.bits;
+                final long[] c = into.bits;
+                final int n = Math.min(a.length, b.length);
+                for (int i = 0; i < n; i++) {
+                    c[i] = a[i] | b[i];
+                }
+                final long[] longer = a.length > b.length ? a : b;
+                System.arraycopy(longer, n, c, n, longer.length - n);
+                Arrays.fill(c, longer.length, c.length, 0L);
+                return into;
+            }
+            return super.orInto(bitKey, target);
+        }
+
         private void or(long bits0) {
             this.bits[0] |= bits0;
         }
@@ -1472,7 +1639,8 @@ public interface BitKey
         }
 
         private void andNot(long[] bits) {
-            for (int i = 0; i < bits.length; i++) {
+            final int length = Math.min(bits.length, this.bits.length);
+            for (int i = 0; i < length; i++) {
                 this.bits[i] &= ~bits[i];
             }
         }
@@ -1678,10 +1846,9 @@ public interface BitKey
 
             } else if (o instanceof BitKey.Big other) {
                 int len = Math.min(bits.length, other.bits.length);
-                for (int i = 0; i < len; i++) {
-                    if (this.bits[i] != other.bits[i]) {
-                        return false;
-                    }
+                // vectorized by the JDK
+                if (!Arrays.equals(this.bits, 0, len, other.bits, 0, len)) {
+                    return false;
                 }
                 if (this.bits.length > other.bits.length) {
                     for (int i = len; i < this.bits.length; i++) {
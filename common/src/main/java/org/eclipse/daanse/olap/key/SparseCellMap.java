@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.key;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map from cell coordinates to values for sparse segments, without an object
+ * per cell.
+ *
+ * <p>
+ * A {@code Map<CellKey, Object>} costs a key object, an entry and usually a
+ * boxed value per cell. This map packs the coordinates of a cell into a
+ * {@code long} - its raster-scan offset, as {@link CellKey#getOffset} but in
+ * 64 bits - and keeps keys and values in parallel arrays found by open
+ * addressing. Should the product of the axis lengths not fit in a
+ * {@code long}, the coordinates are kept as they are, {@code axisCount} ints
+ * per cell. Values are kept in an {@code Object[]}, or, for maps of numbers,
+ * in a {@code double[]} with a bitmap of the cells whose value is null.
+ * </p>
+ *
+ * <p>
+ * {@link #asMap()} presents the map as a {@code Map<CellKey, Object>} for
+ * code written against {@link CellKey}; its entries are made as they are
+ * iterated.
+ * </p>
+ */
+public final class SparseCellMap implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MIN_CAPACITY = 8;
+
+    private final int[] axisLengths;
+    // For packed keys, the multiplier of each axis; null if keys are wide.
+    private final long[] multipliers;
+    private final boolean numeric;
+
+    private long[] packedKeys;
+    private int[] wideKeys;
+    private Object[] objectValues;
+    private double[] doubleValues;
+    private final BitSet nulls;
+    private int size;
+    // Entry number plus one of the cell in each slot; zero marks a free slot.
+    private int[] table;
+
+    /**
+     * Creates an empty map.
+     *
+     * @param axisLengths  number of coordinates of each axis
+     * @param numeric      whether values are numbers, kept as doubles
+     * @param expectedSize number of cells the map is expected to hold
+     */
+    public SparseCellMap(int[] axisLengths, boolean numeric, int expectedSize) {
+        this.axisLengths = axisLengths.clone();
+        this.multipliers = multipliers(axisLengths);
+        this.numeric = numeric;
+        final int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        if (multipliers != null) {
+            packedKeys = new long[capacity];
+        } else {
+            wideKeys = new int[capacity * axisLengths.length];
+        }
+        if (numeric) {
+            doubleValues = new double[capacity];
+            nulls = new BitSet();
+        } else {
+            objectValues = new Object[capacity];
+            nulls = null;
+        }
+        table = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+    }
+
+    /**
+     * Creates a map holding the cells of a map keyed by {@link CellKey}. The
+     * map is numeric if every value is a {@link Double} or null.
+     *
+     * @param map         cells
+     * @param axisLengths number of coordinates of each axis
+     */
+    public static SparseCellMap of(Map<CellKey, Object> map, int[] axisLengths) {
+        boolean numeric = true;
+        for (Object value : map.values()) {
+            if (value != null && !(value instanceof Double)) {
+                numeric = false;
+                break;
+            }
+        }
+        final SparseCellMap cells = new SparseCellMap(axisLengths, numeric, map.size());
+        for (Map.Entry<CellKey, Object> entry : map.entrySet()) {
+            cells.put(entry.getKey().getOrdinals(), entry.getValue());
+        }
+        return cells;
+    }
+
+    private static long[] multipliers(int[] axisLengths) {
+        final long[] multipliers = new long[axisLengths.length];
+        long product = 1;
+        try {
+            for (int i = axisLengths.length - 1; i >= 0; i--) {
+                multipliers[i] = product;
+                product = Math.multiplyExact(product, Math.max(1, axisLengths[i]));
+            }
+        } catch (ArithmeticException e) {
+            return null;
+        }
+        return multipliers;
+    }
+
+    /**
+     * Returns the number of cells.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether values are kept as doubles.
+     */
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    /**
+     * Returns the number of coordinates of each axis.
+     */
+    public int[] getAxisLengths() {
+        return axisLengths.clone();
+    }
+
+    /**
+     * Sets the value of a cell. In a numeric map, the value must be a number
+     * or null.
+     *
+     * @param ordinals coordinates of the cell
+     * @param value    value
+     */
+    public void put(int[] ordinals, Object value) {
+        final int entry = entryFor(ordinals);
+        if (numeric) {
+            if (value == null) {
+                nulls.set(entry);
+                doubleValues[entry] = 0;
+            } else {
+                nulls.clear(entry);
+                doubleValues[entry] = ((Number) value).doubleValue();
+            }
+        } else {
+            objectValues[entry] = value;
+        }
+    }
+
+    /**
+     * Sets the value of a cell of a numeric map.
+     *
+     * @param ordinals coordinates of the cell
+     * @param value    value
+     */
+    public void putDouble(int[] ordinals, double value) {
+        if (!numeric) {
+            put(ordinals, value);
+            return;
+        }
+        final int entry = entryFor(ordinals);
+        nulls.clear(entry);
+        doubleValues[entry] = value;
+    }
+
+    /**
+     * Returns whether the map holds a cell, be its value null or not.
+     */
+    public boolean containsKey(int[] ordinals) {
+        return find(ordinals) >= 0;
+    }
+
+    /**
+     * Returns the value of a cell, or null if the map does not hold it or its
+     * value is null. Values of a numeric map are returned as {@link Double}.
+     */
+    public Object get(int[] ordinals) {
+        final int entry = find(ordinals);
+        return entry < 0 ? null : value(entry);
+    }
+
+    /**
+     * Returns the value of a cell of a numeric map, or 0 if the map does not
+     * hold it or its value is null; see {@link #isNull}.
+     */
+    public double getDouble(int[] ordinals) {
+        final int entry = find(ordinals);
+        if (entry < 0) {
+            return 0;
+        }
+        return numeric ? doubleValues[entry] : ((Number) objectValues[entry]).doubleValue();
+    }
+
+    /**
+     * Returns whether a cell is missing or has a null value.
+     */
+    public boolean isNull(int[] ordinals) {
+        final int entry = find(ordinals);
+        return entry < 0 || (numeric ? nulls.get(entry) : objectValues[entry] == null);
+    }
+
+    /**
+     * Returns a read-only view of this map keyed by {@link CellKey}.
+     */
+    public Map<CellKey, Object> asMap() {
+        return new CellKeyMapView();
+    }
+
+    private Object value(int entry) {
+        if (numeric) {
+            return nulls.get(entry) ? null : doubleValues[entry];
+        }
+        return objectValues[entry];
+    }
+
+    private long pack(int[] ordinals) {
+        checkArity(ordinals);
+        long key = 0;
+        for (int i = 0; i < ordinals.length; i++) {
+            key += ordinals[i] * multipliers[i];
+        }
+        return key;
+    }
+
+    private void checkArity(int[] ordinals) {
+        if (ordinals.length != axisLengths.length) {
+            throw new IllegalArgumentException(
+                "Expected " + axisLengths.length + " coordinates, got " + ordinals.length);
+        }
+    }
+
+    private int[] ordinals(int entry) {
+        final int[] ordinals = new int[axisLengths.length];
+        if (multipliers != null) {
+            long key = packedKeys[entry];
+            for (int i = 0; i < ordinals.length; i++) {
+                ordinals[i] = (int) (key / multipliers[i]);
+                key %= multipliers[i];
+            }
+        } else {
+            System.arraycopy(wideKeys, entry * ordinals.length, ordinals, 0, ordinals.length);
+        }
+        return ordinals;
+    }
+
+    private int hash(int[] ordinals) {
+        long h;
+        if (multipliers != null) {
+            h = pack(ordinals);
+        } else {
+            checkArity(ordinals);
+            h = 1;
+            for (int ordinal : ordinals) {
+                h = 31 * h + ordinal;
+            }
+        }
+        return mix(h);
+    }
+
+    private int hashOfEntry(int entry) {
+        if (multipliers != null) {
+            return mix(packedKeys[entry]);
+        }
+        long h = 1;
+        for (int i = 0, n = axisLengths.length; i < n; i++) {
+            h = 31 * h + wideKeys[entry * n + i];
+        }
+        return mix(h);
+    }
+
+    private static int mix(long h) {
+        h *= 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private boolean keyEquals(int entry, int[] ordinals) {
+        if (multipliers != null) {
+            return packedKeys[entry] == pack(ordinals);
+        }
+        final int offset = entry * ordinals.length;
+        for (int i = 0; i < ordinals.length; i++) {
+            if (wideKeys[offset + i] != ordinals[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int find(int[] ordinals) {
+        final int mask = table.length - 1;
+        int slot = hash(ordinals) & mask;
+        int e;
+        while ((e = table[slot]) != 0) {
+            if (keyEquals(e - 1, ordinals)) {
+                return e - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the entry of a cell, adding the cell if the map does not hold it.
+     */
+    private int entryFor(int[] ordinals) {
+        for (int i = 0; i < ordinals.length && i < axisLengths.length; i++) {
+            if (ordinals[i] < 0 || ordinals[i] >= axisLengths[i]) {
+                throw new IllegalArgumentException(
+                    "Coordinate " + ordinals[i] + " of axis " + i + " out of range");
+            }
+        }
+        final int mask = table.length - 1;
+        int slot = hash(ordinals) & mask;
+        int e;
+        while ((e = table[slot]) != 0) {
+            if (keyEquals(e - 1, ordinals)) {
+                return e - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        final int entry = size++;
+        ensureCapacity(size);
+        if (multipliers != null) {
+            packedKeys[entry] = pack(ordinals);
+        } else {
+            System.arraycopy(ordinals, 0, wideKeys, entry * ordinals.length, ordinals.length);
+        }
+        table[slot] = entry + 1;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return entry;
+    }
+
+    private void ensureCapacity(int capacity) {
+        final int current = numeric ? doubleValues.length : objectValues.length;
+        if (capacity <= current) {
+            return;
+        }
+        final int grown = Math.max(capacity, current * 2);
+        if (multipliers != null) {
+            packedKeys = Arrays.copyOf(packedKeys, grown);
+        } else {
+            wideKeys = Arrays.copyOf(wideKeys, grown * axisLengths.length);
+        }
+        if (numeric) {
+            doubleValues = Arrays.copyOf(doubleValues, grown);
+        } else {
+            objectValues = Arrays.copyOf(objectValues, grown);
+        }
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        final int mask = table.length - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = hashOfEntry(entry) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = entry + 1;
+        }
+    }
+
+    private class CellKeyMapView extends AbstractMap<CellKey, Object> {
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof CellKey cellKey
+                && cellKey.size() == axisLengths.length
+                && SparseCellMap.this.containsKey(cellKey.getOrdinals());
+        }
+
+        @Override
+        public Object get(Object key) {
+            return containsKey(key) ? SparseCellMap.this.get(((CellKey) key).getOrdinals()) : null;
+        }
+
+        @Override
+        public Set<Entry<CellKey, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public Iterator<Entry<CellKey, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < size;
+                        }
+
+                        @Override
+                        public Entry<CellKey, Object> next() {
+                            if (next >= size) {
+                                throw new NoSuchElementException();
+                            }
+                            final int entry = next++;
+                            return new SimpleImmutableEntry<>(
+                                CellKey.Generator.newCellKey(ordinals(entry)), value(entry));
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.query.component;
+
+import java.io.PrintWriter;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.DataType;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.ResultStyle;
+import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.element.NamedSet;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.Validator;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.eclipse.daanse.olap.api.query.component.visit.QueryComponentVisitor;
+import org.eclipse.daanse.olap.api.type.Type;
+import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedTupleListCalc;
+import org.eclipse.daanse.olap.common.Util;
+import org.eclipse.daanse.olap.query.component.expression.AbstractExpression;
+
+/**
+ * Expression of a static named set whose evaluated list is kept in an
+ * {@link ExpressionResultCache} beyond the query, typically one held by the
+ * session, so that the next query defining the same set does not evaluate it
+ * again.
+ *
+ * <p>
+ * The list is keyed by the canonical form of the expression and by the context
+ * it is evaluated in - the non-all members of the slicer, the NON EMPTY flag,
+ * the role and the catalog version - so a set which differs only in name is
+ * found too. It is kept only if it was evaluated without a cell miss.
+ * </p>
+ *
+ * @see QueryImpl#shareNamedSets(ExpressionResultCache)
+ */
+public class MaterializedSetExpression extends AbstractExpression implements Expression {
+    private final Expression exp;
+    private final Cube cube;
+    private final List<NamedSet> namedSets;
+    private final ExpressionResultCache cache;
+    private final String canonicalForm;
+
+    /**
+     * Creates a MaterializedSetExpression.
+     *
+     * @param exp       validated set expression, which means the same in every
+     *                  query of the cube
+     * @param cube      cube the query is against
+     * @param namedSets named sets of the cube the expression refers to
+     * @param cache     where the evaluated list is kept
+     */
+    public MaterializedSetExpression(
+        Expression exp,
+        Cube cube,
+        List<NamedSet> namedSets,
+        ExpressionResultCache cache)
+    {
+        this.exp = exp;
+        this.cube = cube;
+        this.namedSets = namedSets;
+        this.cache = cache;
+        this.canonicalForm = Util.unparse(exp);
+    }
+
+    /**
+     * Returns the expression whose list is kept.
+     */
+    public Expression getExp() {
+        return exp;
+    }
+
+    @Override
+    public String toString() {
+        return exp.toString();
+    }
+
+    @Override
+    public void unparse(PrintWriter pw) {
+        exp.unparse(pw);
+    }
+
+    @Override
+    public Object[] getChildren() {
+        return exp.getChildren();
+    }
+
+    @Override
+    public MaterializedSetExpression cloneExp() {
+        return new MaterializedSetExpression(exp.cloneExp(), cube, namedSets, cache);
+    }
+
+    @Override
+    public DataType getCategory() {
+        return exp.getCategory();
+    }
+
+    @Override
+    public Type getType() {
+        return exp.getType();
+    }
+
+    @Override
+    public Expression accept(Validator validator) {
+        final Expression validated = validator.validate(exp, false);
+        if (validated == exp) {
+            return this;
+        }
+        return new MaterializedSetExpression(validated, cube, namedSets, cache);
+    }
+
+    @Override
+    public Calc<?> accept(ExpressionCompiler compiler) {
+        // A kept list is shared, so a caller which wants to modify the result
+        // gets the expression compiled as usual.
+        final List<ResultStyle> styleList =
+            compiler.getAcceptableResultStyles();
+        if (!styleList.contains(ResultStyle.LIST)
+            && !styleList.contains(ResultStyle.ITERABLE)
+            && !styleList.contains(ResultStyle.ANY))
+        {
+            return exp.accept(compiler);
+        }
+        final TupleListCalc listCalc = compiler.compileList(exp);
+        // Not mutable: the list may be one kept for other queries.
+        return new AbstractProfilingNestedTupleListCalc(getType(), false, listCalc) {
+            @Override
+            public TupleList evaluateInternal(Evaluator evaluator) {
+                final ExpressionResultCache.Key key = key(evaluator);
+                if (key == null) {
+                    return listCalc.evaluate(evaluator);
+                }
+                final Object value = cache.get(key);
+                if (value != null) {
+                    return (TupleList) value;
+                }
+                final long generation = cache.generation();
+                final int missCount = evaluator.getMissCount();
+                final TupleList list = listCalc.evaluate(evaluator);
+                if (list != null && evaluator.getMissCount() == missCount) {
+                    cache.put(key, list, generation);
+                }
+                return list;
+            }
+        };
+    }
+
+    private ExpressionResultCache.Key key(Evaluator evaluator) {
+        final Query query = evaluator.getQuery();
+        if (query != null
+            && query.getSubcubeHierarchyCalcs() != null
+            && !query.getSubcubeHierarchyCalcs().isEmpty())
+        {
+            return null;
+        }
+        final Member[] context = evaluator.getNonAllMembers();
+        for (Member member : context) {
+            if (member.isCalculatedInQuery()) {
+                return null;
+            }
+        }
+        final Catalog catalog = cube.getCatalog();
+        return new ExpressionResultCache.Key(
+            cube,
+            canonicalForm,
+            namedSets,
+            List.of(context),
+            evaluator.isNonEmpty(),
+            evaluator.getCatalogReader().getRole(),
+            catalog.getId(),
+            catalog.getCatalogLoadDate());
+    }
+
+    @Override
+    public Object accept(QueryComponentVisitor visitor) {
+        return exp.accept(visitor);
+    }
+}
@@ -42,21 +42,21 @@ import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.daanse.mdx.model.api.expression.operation.BracesOperationAtom;
-import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
 import org.eclipse.daanse.mdx.model.api.expression.operation.InfixOperationAtom;
-import org.eclipse.daanse.mdx.model.api.expression.operation.PlainPropertyOperationAtom;
 import org.eclipse.daanse.olap.api.DataType;
 import org.eclipse.daanse.olap.api.NameResolver;
 import org.eclipse.daanse.olap.api.Parameter;
 import org.eclipse.daanse.olap.api.access.AccessMember;
 import org.eclipse.daanse.olap.api.access.Role;
 import org.eclipse.daanse.olap.api.agg.Segment;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
 import org.eclipse.daanse.olap.api.calc.Calc;
 import org.eclipse.daanse.olap.api.calc.ResultStyle;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
 import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompilerFactory;
 import org.eclipse.daanse.olap.api.calc.profile.CalculationProfile;
 import org.eclipse.daanse.olap.api.calc.profile.ProfileHandler;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
 import org.eclipse.daanse.olap.api.catalog.CatalogReader;
 import org.eclipse.daanse.olap.api.connection.Connection;
 import org.eclipse.daanse.olap.api.element.Cube;
@@ -103,6 +103,7 @@ import org.eclipse.daanse.olap.api.type.MemberType;
 import org.eclipse.daanse.olap.api.type.SetType;
 import org.eclipse.daanse.olap.api.type.TupleType;
 import org.eclipse.daanse.olap.api.type.Type;
+import org.eclipse.daanse.olap.calc.base.cache.ShareabilityVisitor;
 import org.eclipse.daanse.olap.calc.base.profile.SimpleCalculationProfileWriter;
 import org.eclipse.daanse.olap.common.AbstractQueryPart;
 import org.eclipse.daanse.olap.common.ConfigConstants;
@@ -116,6 +117,7 @@ import org.eclipse.daanse.olap.common.Util;
 import org.eclipse.daanse.olap.common.ValidatorImpl;
 import org.eclipse.daanse.olap.common.Walker;
 import org.eclipse.daanse.olap.element.OlapMetaDataBase;
+import org.eclipse.daanse.olap.element.SetBase;
 import org.eclipse.daanse.olap.exceptions.MdxAxisShowSubtotalsNotSupportedException;
 import org.eclipse.daanse.olap.exceptions.ParameterIsNotModifiableException;
 import org.eclipse.daanse.olap.exceptions.ResultStyleException;
@@ -640,70 +642,8 @@ public class QueryImpl extends AbstractQueryPart implements Query {
      */
     private void compile(ExpressionCompiler compiler) {
 
-        if(this.subcube != null) {
-
-            for(Hierarchy hierarchy : getCube().getHierarchies()) {
-
-                List<org.eclipse.daanse.olap.api.element.Level> levels = (List<Level>) hierarchy.getLevels();
-                org.eclipse.daanse.olap.api.element.Level lastLevel = levels.getLast();
-                LevelExpressionImpl levelExpr = new LevelExpressionImpl(lastLevel);
-                Expression levelMembers = new UnresolvedFunCallImpl( new PlainPropertyOperationAtom("AllMembers"),
-                  new Expression[] {levelExpr}
-                );
-
-                Expression resultExp = null;
-
-                List<Expression> subcubeAxisExps = this.subcube.getAxisExps();
-                ArrayList<Expression> hierarchyExps = new ArrayList<>();
-                for(int j = 0; j < subcubeAxisExps.size(); j++) {
-                    Expression subcubeAxisExp = subcubeAxisExps.get(j);
-                    subcubeAxisExp = subcubeAxisExp.accept(compiler.getValidator());
-                    Hierarchy[] subcubeAxisHierarchies = collectHierarchies(subcubeAxisExp);
-                    if(Arrays.asList(subcubeAxisHierarchies).contains(hierarchy)) {
-                        hierarchyExps.add(subcubeAxisExp);
-                    }
-                }
-                for(Expression hierarchyExp: hierarchyExps) {
-                    Expression prevExp;
-                    if(resultExp == null) {
-                        prevExp = levelMembers;
-                    }
-                    else {
-                        prevExp = resultExp;
-                    }
-                    Expression axisInBracesExp =
-                            new UnresolvedFunCallImpl(
-                                    new BracesOperationAtom(), new Expression[] {hierarchyExp});
-                    if(hierarchyExps.size() > 1) {
-                        resultExp = new UnresolvedFunCallImpl(
-                        		new FunctionOperationAtom("Exists"),
-                                new Expression[] {prevExp, axisInBracesExp}
-                        );
-                    }
-                    else {
-                        resultExp = axisInBracesExp;
-                    }
-                }
-
-                if(resultExp != null) {
-                    HierarchyExpressionImpl hierarchyExpr = new HierarchyExpressionImpl(hierarchy);
-                    Expression hierarchyAllMembersExp = new UnresolvedFunCallImpl(
-                    		new PlainPropertyOperationAtom("AllMembers"),
-                            new Expression[] {hierarchyExpr}
-                    );
-
-                    resultExp = new UnresolvedFunCallImpl(
-                    		new FunctionOperationAtom("Exists"),
-                            new Expression[] {hierarchyAllMembersExp, resultExp}
-                    );
-
-                    resultExp = resultExp.accept(compiler.getValidator());
-
-                    Calc calc = compiler.compileList(resultExp);
-                    subcubeHierarchyCalcs.put(hierarchy, calc);
-
-                }
-            }
+        if (this.subcube != null) {
+            compileSubcube(compiler);
         }
 
         if (formulas != null) {
@@ -723,6 +663,44 @@ public class QueryImpl extends AbstractQueryPart implements Query {
         }
     }
 
+    /**
+     * Compiles, for each hierarchy a subselect axis refers to, the members which
+     * remain visible in the subcube. Hierarchies the subselect does not mention
+     * are not restricted, and get no calc.
+     *
+     * @param compiler Compiler
+     */
+    private void compileSubcube(ExpressionCompiler compiler) {
+        final List<Expression> subcubeAxisExps = this.subcube.getAxisExps();
+        final List<TupleListCalc> axisCalcs = new ArrayList<>();
+        final List<List<Hierarchy>> axisHierarchies = new ArrayList<>();
+        for (Expression subcubeAxisExp : subcubeAxisExps) {
+            Expression exp = subcubeAxisExp.accept(compiler.getValidator());
+            axisHierarchies.add(Arrays.asList(collectHierarchies(exp)));
+            Expression axisInBracesExp =
+                new UnresolvedFunCallImpl(
+                    new BracesOperationAtom(), new Expression[] {exp});
+            axisCalcs.add(
+                compiler.compileList(
+                    axisInBracesExp.accept(compiler.getValidator())));
+        }
+        for (Hierarchy hierarchy : getCube().getHierarchies()) {
+            final List<TupleListCalc> hierarchyCalcs = new ArrayList<>();
+            for (int j = 0; j < axisCalcs.size(); j++) {
+                if (axisHierarchies.get(j).contains(hierarchy)) {
+                    hierarchyCalcs.add(axisCalcs.get(j));
+                }
+            }
+            if (!hierarchyCalcs.isEmpty()) {
+                subcubeHierarchyCalcs.put(
+                    hierarchy,
+                    new SubcubeMembersCalc(
+                        hierarchy,
+                        hierarchyCalcs.toArray(new TupleListCalc[0])));
+            }
+        }
+    }
+
     /**
      * Performs type-checking and validates internal consistency of a query.
      *
@@ -1263,6 +1241,35 @@ public class QueryImpl extends AbstractQueryPart implements Query {
         return formulas;
     }
 
+    @Override
+    public void shareNamedSets(ExpressionResultCache cache) {
+        shareNamedSets(formulas, cube, cache);
+    }
+
+    /**
+     * Wraps the expression of each named set among {@code formulas} which
+     * means the same in every query of {@code cube} in a
+     * {@link MaterializedSetExpression} keeping its list in {@code cache}.
+     */
+    static void shareNamedSets(Formula[] formulas, Cube cube, ExpressionResultCache cache) {
+        for (Formula formula : formulas) {
+            if (formula.isMember()
+                || !(formula.getNamedSet() instanceof SetBase set)
+                || !(set.getExp().getType() instanceof SetType)
+                || set.getExp() instanceof MaterializedSetExpression)
+            {
+                continue;
+            }
+            final ShareabilityVisitor visitor = new ShareabilityVisitor(cube);
+            set.getExp().accept(visitor);
+            if (visitor.isShareable()) {
+                set.setExp(
+                    new MaterializedSetExpression(
+                        set.getExp(), cube, visitor.getNamedSets(), cache));
+            }
+        }
+    }
+
     /**
      * Returns an array of this query's axes.
      */
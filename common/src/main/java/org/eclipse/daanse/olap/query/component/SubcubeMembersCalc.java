@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.query.component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.type.MemberType;
+import org.eclipse.daanse.olap.api.type.SetType;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.AbstractProfilingNestedTupleListCalc;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+
+/**
+ * Members of one hierarchy which remain visible in a subcube.
+ *
+ * <p>
+ * Equivalent to {@code Exists(h.AllMembers, {axis})} for one subselect axis
+ * restricting the hierarchy, and to
+ * {@code Exists(h.AllMembers, Exists(Exists(leaf.AllMembers, {axis1}), {axis2}))}
+ * for several: every member on the same chain as a selected member stays.
+ * Rather than testing every member of the hierarchy against the selection,
+ * the selection is closed over directly - its ancestors, walked up, and its
+ * descendants, fetched level by level below the selected members only.
+ * </p>
+ *
+ * <p>
+ * The result lists the members level by level.
+ * </p>
+ */
+class SubcubeMembersCalc extends AbstractProfilingNestedTupleListCalc {
+    private final Hierarchy hierarchy;
+
+    /**
+     * Creates a SubcubeMembersCalc.
+     *
+     * @param hierarchy hierarchy being restricted
+     * @param axisCalcs calcs of the subselect axes which restrict it
+     */
+    SubcubeMembersCalc(Hierarchy hierarchy, TupleListCalc... axisCalcs) {
+        super(new SetType(MemberType.forHierarchy(hierarchy)), axisCalcs);
+        this.hierarchy = hierarchy;
+    }
+
+    @Override
+    public TupleList evaluateInternal(Evaluator evaluator) {
+        final CatalogReader reader = evaluator.getCatalogReader();
+        final int axisCount = getChildCalcs().length;
+        Set<Member> selected = selectedMembers(
+            getChildCalc(0, TupleListCalc.class).evaluate(evaluator));
+        if (axisCount > 1) {
+            // Several axes restrict the hierarchy: what survives is the leaves
+            // related to every one of them.
+            Set<Member> leaves = leaves(reader, selected);
+            for (int i = 1; i < axisCount && !leaves.isEmpty(); i++) {
+                leaves.retainAll(leaves(reader, selectedMembers(
+                    getChildCalc(i, TupleListCalc.class).evaluate(evaluator))));
+            }
+            selected = leaves;
+        }
+        return new UnaryTupleList(closure(reader, selected));
+    }
+
+    /**
+     * Returns the distinct members of this hierarchy in a list of tuples.
+     */
+    private Set<Member> selectedMembers(TupleList tuples) {
+        final Set<Member> members = new LinkedHashSet<>();
+        for (List<Member> tuple : tuples) {
+            for (Member member : tuple) {
+                if (member.getHierarchy() == hierarchy) {
+                    members.add(member);
+                }
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Returns the members of the last level at or below the given members.
+     */
+    private Set<Member> leaves(CatalogReader reader, Set<Member> members) {
+        final int leafDepth = hierarchy.getLevels().getLast().getDepth();
+        final Set<Member> leaves = new LinkedHashSet<>();
+        List<Member> current = new ArrayList<>(members);
+        while (!current.isEmpty()) {
+            final List<Member> next = new ArrayList<>();
+            for (Member member : current) {
+                if (member.getDepth() >= leafDepth) {
+                    leaves.add(member);
+                } else if (!member.isCalculated()) {
+                    next.add(member);
+                }
+            }
+            current = next.isEmpty() ? next : reader.getMemberChildren(next);
+        }
+        return leaves;
+    }
+
+    /**
+     * Returns the given members with all their ancestors and descendants,
+     * level by level.
+     */
+    private List<Member> closure(CatalogReader reader, Set<Member> members) {
+        final List<Set<Member>> byDepth = new ArrayList<>();
+        for (Member member : members) {
+            for (Member m = member.getParentMember(); m != null; m = m.getParentMember()) {
+                if (!atDepth(byDepth, m.getDepth()).add(m)) {
+                    // The rest of the chain is there already.
+                    break;
+                }
+            }
+        }
+        // Members whose children have been fetched, or are about to be. Kept
+        // apart from byDepth: a member already there as the ancestor of another
+        // still has to be expanded when it is selected or below a selected one.
+        final Set<Member> expanded = new LinkedHashSet<>();
+        List<Member> current = new ArrayList<>();
+        for (Member member : members) {
+            atDepth(byDepth, member.getDepth()).add(member);
+            if (!member.isCalculated() && expanded.add(member)) {
+                current.add(member);
+            }
+        }
+        while (!current.isEmpty()) {
+            final List<Member> next = new ArrayList<>();
+            for (Member child : reader.getMemberChildren(current)) {
+                atDepth(byDepth, child.getDepth()).add(child);
+                if (expanded.add(child)) {
+                    next.add(child);
+                }
+            }
+            current = next;
+        }
+        final List<Member> result = new ArrayList<>();
+        for (Set<Member> level : byDepth) {
+            result.addAll(level);
+        }
+        return result;
+    }
+
+    private static Set<Member> atDepth(List<Set<Member>> byDepth, int depth) {
+        while (byDepth.size() <= depth) {
+            byDepth.add(new LinkedHashSet<>());
+        }
+        return byDepth.get(depth);
+    }
+}
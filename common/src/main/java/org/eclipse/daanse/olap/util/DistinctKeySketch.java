@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.util;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.util.Date;
+
+import org.eclipse.daanse.olap.api.aggregator.DistinctCountSketch;
+
+/**
+ * Sketch of the distinct keys of a distinct-count cell.
+ *
+ * <p>
+ * Keys are reduced to 64-bit hashes. Up to a limit the sketch keeps the
+ * hashes themselves, in an open-addressing set, and counts them exactly; the
+ * chance of two of a few thousand keys sharing a hash is negligible. Above the
+ * limit it switches to a HyperLogLog of 2<sup>14</sup> one-byte registers,
+ * whose estimate is within about one percent (linear counting is used while
+ * many registers are still empty, as in HyperLogLog++). Both forms merge: the
+ * union of two sketches is the sketch of both key sets.
+ * </p>
+ *
+ * <p>
+ * Integral numbers, floating-point numbers, decimals, strings, dates and
+ * timestamps are hashed from their full value. Keys of any other type are
+ * hashed from their {@link Object#hashCode()}, which carries only 32 bits:
+ * beyond some tens of thousands of such keys, colliding hashes make the exact
+ * count an undercount and bias the estimate low. Read keys of such columns
+ * as strings if their cardinality is high.
+ * </p>
+ *
+ * <p>
+ * Sketches are built by adding keys and are not modified once published;
+ * {@link #union} returns a new sketch.
+ * </p>
+ */
+public final class DistinctKeySketch implements DistinctCountSketch, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int PRECISION = 14;
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    private static final int MIN_CAPACITY = 16;
+
+    private final int exactLimit;
+
+    // Exact form: open-addressing set of hashes. Zero marks a free slot, so
+    // a hash of zero is recorded in containsZero.
+    private long[] hashes;
+    private int hashCount;
+    private boolean containsZero;
+
+    // Estimating form, null while exact.
+    private byte[] registers;
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param exactLimit number of distinct keys counted exactly before the
+     *                   sketch switches to an estimate
+     */
+    public DistinctKeySketch(int exactLimit) {
+        this.exactLimit = exactLimit;
+        this.hashes = new long[MIN_CAPACITY];
+    }
+
+    private DistinctKeySketch(DistinctKeySketch source) {
+        this.exactLimit = source.exactLimit;
+        this.hashes = source.hashes == null ? null : source.hashes.clone();
+        this.hashCount = source.hashCount;
+        this.containsZero = source.containsZero;
+        this.registers = source.registers == null ? null : source.registers.clone();
+    }
+
+    /**
+     * Adds a key. Null keys are not counted, as in {@code COUNT(DISTINCT)}.
+     *
+     * @param key key value read from the database
+     */
+    public void add(Object key) {
+        if (key != null) {
+            addHash(hash(key));
+        }
+    }
+
+    @Override
+    public DistinctCountSketch union(DistinctCountSketch other) {
+        if (!(other instanceof DistinctKeySketch that)) {
+            throw new IllegalArgumentException(
+                "Cannot merge a sketch of type " + other.getClass().getName());
+        }
+        final DistinctKeySketch result = new DistinctKeySketch(this);
+        if (that.registers == null) {
+            that.forEachHash(result);
+        } else {
+            result.toRegisters();
+            for (int i = 0; i < REGISTER_COUNT; i++) {
+                if (that.registers[i] > result.registers[i]) {
+                    result.registers[i] = that.registers[i];
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public long cardinality() {
+        if (registers == null) {
+            return hashCount + (containsZero ? 1 : 0);
+        }
+        double sum = 0;
+        int empty = 0;
+        for (byte register : registers) {
+            sum += Math.scalb(1.0, -register);
+            if (register == 0) {
+                empty++;
+            }
+        }
+        final double m = REGISTER_COUNT;
+        final double alpha = 0.7213 / (1 + 1.079 / m);
+        final double estimate = alpha * m * m / sum;
+        if (estimate <= 2.5 * m && empty > 0) {
+            return Math.round(m * Math.log(m / empty));
+        }
+        return Math.round(estimate);
+    }
+
+    @Override
+    public boolean isExact() {
+        return registers == null;
+    }
+
+    private void addHash(long hash) {
+        if (registers != null) {
+            addToRegisters(hash);
+        } else if (hash == 0) {
+            containsZero = true;
+        } else if (insert(hash) && hashCount + (containsZero ? 1 : 0) > exactLimit) {
+            toRegisters();
+        }
+    }
+
+    private boolean insert(long hash) {
+        final int mask = hashes.length - 1;
+        int i = (int) hash & mask;
+        while (hashes[i] != 0) {
+            if (hashes[i] == hash) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        hashes[i] = hash;
+        if (++hashCount * 2 > hashes.length) {
+            rehash();
+        }
+        return true;
+    }
+
+    private void rehash() {
+        final long[] old = hashes;
+        hashes = new long[old.length * 2];
+        final int mask = hashes.length - 1;
+        for (long hash : old) {
+            if (hash != 0) {
+                int i = (int) hash & mask;
+                while (hashes[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                hashes[i] = hash;
+            }
+        }
+    }
+
+    private void forEachHash(DistinctKeySketch target) {
+        if (containsZero) {
+            target.addHash(0);
+        }
+        for (long hash : hashes) {
+            if (hash != 0) {
+                target.addHash(hash);
+            }
+        }
+    }
+
+    private void toRegisters() {
+        if (registers != null) {
+            return;
+        }
+        registers = new byte[REGISTER_COUNT];
+        if (containsZero) {
+            addToRegisters(0);
+        }
+        for (long hash : hashes) {
+            if (hash != 0) {
+                addToRegisters(hash);
+            }
+        }
+        hashes = null;
+        hashCount = 0;
+        containsZero = false;
+    }
+
+    private void addToRegisters(long hash) {
+        final int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        // Position of the first one bit in the remaining bits, capped by the
+        // sentinel bit.
+        final byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    /**
+     * Returns a 64-bit hash of a key. Integral numbers of any width hash alike,
+     * as a key column may be read as {@code Integer} by one query and as
+     * {@code Long} by another.
+     */
+    static long hash(Object key) {
+        final long h;
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            h = ((Number) key).longValue();
+        } else if (key instanceof CharSequence chars) {
+            h = fnv(chars);
+        } else if (key instanceof Double || key instanceof Float) {
+            h = Double.doubleToLongBits(((Number) key).doubleValue());
+        } else if (key instanceof BigDecimal decimal) {
+            // 1.0 and 1.00 are the same key, as they are to the database.
+            h = fnv(decimal.stripTrailingZeros().toString());
+        } else if (key instanceof BigInteger integer) {
+            h = integer.bitLength() < Long.SIZE ? integer.longValue() : fnv(integer.toString());
+        } else if (key instanceof Timestamp timestamp) {
+            h = timestamp.getTime() * 1_000_000L + timestamp.getNanos() % 1_000_000;
+        } else if (key instanceof Date date) {
+            h = date.getTime();
+        } else {
+            // Only 32 bits of information; see the class comment.
+            h = key.hashCode();
+        }
+        return mix(h);
+    }
+
+    // FNV-1a over the characters.
+    private static long fnv(CharSequence chars) {
+        long fnv = 0xcbf29ce484222325L;
+        for (int i = 0; i < chars.length(); i++) {
+            fnv ^= chars.charAt(i);
+            fnv *= 0x100000001b3L;
+        }
+        return fnv;
+    }
+
+    // Finalizer of MurmurHash3, spreading the bits over the whole word.
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "DistinctKeySketch(" + (isExact() ? "" : "~") + cardinality() + ")";
+    }
+}
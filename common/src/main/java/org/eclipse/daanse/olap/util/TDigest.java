@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Merging t-digest: a summary of a stream of numbers from which quantiles can
+ * be estimated, in memory bounded by its compression rather than by the
+ * number of values.
+ *
+ * <p>
+ * Values are collected in a buffer; when it is full they are sorted and merged
+ * into a list of centroids - weighted means of neighbouring values - whose
+ * sizes are limited by the arcsine scale function, so that centroids near the
+ * tails stay small and extreme quantiles stay accurate. A digest of compression
+ * 100 holds at most about 100 centroids and estimates quantiles to within a
+ * fraction of a percent of rank. Digests of disjoint parts of a set merge into
+ * the digest of the whole.
+ * </p>
+ *
+ * <p>
+ * While all values still fit the buffer - five times the compression - they
+ * are kept as they are and quantiles are exact, interpolated as by the
+ * {@code Percentile} function.
+ * </p>
+ */
+public final class TDigest implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Compression used unless another one is asked for. */
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+    private double centroidWeight;
+
+    private final double[] buffer;
+    private int bufferCount;
+
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates an empty digest.
+     *
+     * @param compression bound on the number of centroids; higher is more
+     *                    accurate and larger
+     */
+    public TDigest(double compression) {
+        this.compression = compression;
+        final int capacity = (int) Math.ceil(compression) + 2;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.buffer = new double[5 * capacity];
+    }
+
+    /**
+     * Adds a value. NaN values are ignored.
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (bufferCount == buffer.length) {
+            flush();
+        }
+        buffer[bufferCount++] = value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the values summarized by another digest to this one.
+     */
+    public void merge(TDigest other) {
+        other.flush();
+        flush();
+        if (other.centroidCount == 0) {
+            return;
+        }
+        compress(other.means, other.weights, other.centroidCount);
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the number of values added.
+     */
+    public long size() {
+        return Math.round(centroidWeight) + bufferCount;
+    }
+
+    /**
+     * Estimates the value at a quantile.
+     *
+     * @param q quantile, between 0 and 1
+     * @return estimated value, or NaN if the digest is empty
+     */
+    public double quantile(double q) {
+        if (centroidCount == 0) {
+            return exactQuantile(q);
+        }
+        flush();
+        if (q <= 0) {
+            return min;
+        }
+        if (q >= 1) {
+            return max;
+        }
+        // Position of the quantile on the weight axis, placed so that for
+        // centroids of one value each the estimate is the exact percentile.
+        final double target = q * (centroidWeight - 1) + 0.5;
+        double center = weights[0] / 2;
+        if (target < center) {
+            return interpolate(min, means[0], target / center);
+        }
+        for (int i = 1; i < centroidCount; i++) {
+            final double next = center + (weights[i - 1] + weights[i]) / 2;
+            if (target <= next) {
+                return interpolate(means[i - 1], means[i], (target - center) / (next - center));
+            }
+            center = next;
+        }
+        final double rest = centroidWeight - center;
+        return interpolate(means[centroidCount - 1], max, rest <= 0 ? 0 : (target - center) / rest);
+    }
+
+    /**
+     * Returns a quantile of the values in the buffer, interpolated between
+     * ranks as by the {@code Percentile} function.
+     */
+    private double exactQuantile(double q) {
+        if (bufferCount == 0) {
+            return Double.NaN;
+        }
+        Arrays.sort(buffer, 0, bufferCount);
+        if (q <= 0) {
+            return buffer[0];
+        }
+        if (q >= 1) {
+            return buffer[bufferCount - 1];
+        }
+        final double rank = (bufferCount - 1) * q;
+        final int index = (int) Math.floor(rank);
+        if (index + 1 >= bufferCount) {
+            return buffer[index];
+        }
+        return interpolate(buffer[index], buffer[index + 1], rank - index);
+    }
+
+    private static double interpolate(double from, double to, double fraction) {
+        return from + (to - from) * fraction;
+    }
+
+    private void flush() {
+        if (bufferCount == 0) {
+            return;
+        }
+        Arrays.sort(buffer, 0, bufferCount);
+        final double[] ones = new double[bufferCount];
+        Arrays.fill(ones, 1);
+        final int count = bufferCount;
+        bufferCount = 0;
+        compress(buffer, ones, count);
+    }
+
+    /**
+     * Merges sorted weighted points into the centroids.
+     */
+    private void compress(double[] pointMeans, double[] pointWeights, int pointCount) {
+        final double total = centroidWeight + sum(pointWeights, pointCount);
+        final double[] oldMeans = means;
+        final double[] oldWeights = weights;
+        final int oldCount = centroidCount;
+        final int capacity = Math.max(oldMeans.length, (int) Math.ceil(compression) + 2);
+        means = new double[capacity];
+        weights = new double[capacity];
+        centroidCount = 0;
+        centroidWeight = 0;
+
+        double soFar = 0;
+        double limit = 0;
+        int i = 0;
+        int j = 0;
+        while (i < oldCount || j < pointCount) {
+            final double mean;
+            final double weight;
+            if (j >= pointCount || (i < oldCount && oldMeans[i] <= pointMeans[j])) {
+                mean = oldMeans[i];
+                weight = oldWeights[i++];
+            } else {
+                mean = pointMeans[j];
+                weight = pointWeights[j++];
+            }
+            final int last = centroidCount - 1;
+            if (last >= 0 && soFar + weights[last] + weight <= limit) {
+                weights[last] += weight;
+                means[last] += (mean - means[last]) * weight / weights[last];
+            } else {
+                if (last >= 0) {
+                    soFar += weights[last];
+                }
+                if (centroidCount == means.length) {
+                    means = Arrays.copyOf(means, centroidCount * 2);
+                    weights = Arrays.copyOf(weights, centroidCount * 2);
+                }
+                means[centroidCount] = mean;
+                weights[centroidCount++] = weight;
+                limit = total * upperQuantile(soFar / total);
+            }
+            centroidWeight += weight;
+        }
+    }
+
+    /**
+     * Returns the highest quantile a centroid starting at quantile {@code q}
+     * may reach: one step further on the scale
+     * {@code k(q) = compression / (2 pi) * asin(2q - 1)}.
+     */
+    private double upperQuantile(double q) {
+        final double normalizer = compression / (2 * Math.PI);
+        final double k = normalizer * Math.asin(2 * q - 1) + 1;
+        if (k >= compression / 4) {
+            return 1;
+        }
+        return (Math.sin(k / normalizer) + 1) / 2;
+    }
+
+    private static double sum(double[] values, int count) {
+        double sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.access.AccessHierarchy;
+import org.eclipse.daanse.olap.api.access.AccessMember;
+import org.eclipse.daanse.olap.api.access.HierarchyAccess;
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.access.RollupPolicy;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Dimension;
+import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.Level;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compiled lookups of an immutable {@link RoleImpl} give the same answers as
+ * the mutable role, but compute them only once.
+ */
+class RoleImplTest {
+
+    private Hierarchy hierarchy;
+    private Level topLevel;
+    private Level bottomLevel;
+    private Member parent;
+    private Member child;
+    private Member otherParent;
+
+    @BeforeEach
+    void setUp() {
+        Catalog catalog = mock(Catalog.class);
+        Dimension dimension = mock(Dimension.class);
+        hierarchy = mock(Hierarchy.class);
+        topLevel = level(0);
+        bottomLevel = level(1);
+        when(dimension.getCatalog()).thenReturn(catalog);
+        doReturn(List.of(hierarchy)).when(dimension).getHierarchies();
+        when(hierarchy.getDimension()).thenReturn(dimension);
+        doReturn(List.of(topLevel, bottomLevel)).when(hierarchy).getLevels();
+        parent = member("[H].[P]", topLevel, null);
+        child = member("[H].[P].[C]", bottomLevel, parent);
+        otherParent = member("[H].[Q]", topLevel, null);
+    }
+
+    private Level level(int depth) {
+        Level level = mock(Level.class);
+        when(level.getDepth()).thenReturn(depth);
+        when(level.getHierarchy()).thenReturn(hierarchy);
+        return level;
+    }
+
+    private Member member(String uniqueName, Level level, Member parentMember) {
+        Member member = mock(Member.class);
+        when(member.getUniqueName()).thenReturn(uniqueName);
+        when(member.getLevel()).thenReturn(level);
+        when(member.getHierarchy()).thenReturn(hierarchy);
+        when(member.getParentMember()).thenReturn(parentMember);
+        return member;
+    }
+
+    private RoleImpl createRole() {
+        RoleImpl role = new RoleImpl();
+        role.grant(hierarchy, AccessHierarchy.CUSTOM, null, null, RollupPolicy.FULL);
+        role.grant(parent, AccessMember.ALL);
+        return role;
+    }
+
+    @Test
+    void immutableRoleAnswersLikeMutableRole() {
+        RoleImpl mutable = createRole();
+        RoleImpl immutable = createRole();
+        immutable.makeImmutable();
+
+        for (Member member : List.of(parent, child, otherParent)) {
+            assertThat(immutable.getAccess(member)).isEqualTo(mutable.getAccess(member));
+        }
+        assertThat(immutable.getAccess(child)).isEqualTo(AccessMember.ALL);
+        assertThat(immutable.getAccess(otherParent)).isEqualTo(AccessMember.NONE);
+        assertThat(immutable.getAccess(hierarchy)).isEqualTo(mutable.getAccess(hierarchy));
+        assertThat(immutable.getAccess(bottomLevel)).isEqualTo(mutable.getAccess(bottomLevel));
+    }
+
+    @Test
+    void immutableRoleResolvesMemberAccessOnce() {
+        RoleImpl role = createRole();
+        role.makeImmutable();
+
+        role.getAccess(child);
+        role.getAccess(child);
+        role.getAccess(child);
+
+        // The parent chain is walked by the first check only.
+        verify(child, times(1)).getParentMember();
+    }
+
+    @Test
+    void immutableRoleSharesHierarchyAccessDetails() {
+        RoleImpl role = createRole();
+        role.makeImmutable();
+
+        HierarchyAccess first = role.getAccessDetails(hierarchy);
+        assertThat(role.getAccessDetails(hierarchy)).isSameAs(first);
+    }
+
+    @Test
+    void unionOfImmutableRolesSharesHierarchyAccessDetails() {
+        RoleImpl role1 = createRole();
+        role1.makeImmutable();
+        RoleImpl role2 = createRole();
+        role2.makeImmutable();
+        Role union = RoleImpl.union(List.of(role1, role2));
+
+        HierarchyAccess first = union.getAccessDetails(hierarchy);
+        assertThat(union.getAccessDetails(hierarchy)).isSameAs(first);
+        assertThat(union.getAccess(child)).isEqualTo(AccessMember.ALL);
+        assertThat(union.getAccess(otherParent)).isEqualTo(AccessMember.NONE);
+    }
+
+    @Test
+    void mutableCloneIsNotCompiled() {
+        RoleImpl role = createRole();
+        role.makeImmutable();
+        RoleImpl clone = role.makeMutableClone();
+
+        clone.grant(otherParent, AccessMember.ALL);
+
+        assertThat(clone.getAccess(otherParent)).isEqualTo(AccessMember.ALL);
+        assertThat(role.getAccess(otherParent)).isEqualTo(AccessMember.NONE);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.daanse.olap.api.Context;
+import org.eclipse.daanse.olap.api.cache.CacheControl;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache.Key;
+import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.VirtualCube;
+import org.junit.jupiter.api.Test;
+
+class ExpressionResultCacheImplTest {
+
+    private final Cube sales = mock(Cube.class);
+    private final Cube warehouse = mock(Cube.class);
+    private final VirtualCube warehouseAndSales = mock(VirtualCube.class);
+
+    private static Key key(Cube cube, String expression) {
+        return new Key(cube, expression, List.of(), List.of(), false, null, "catalog", null);
+    }
+
+    @Test
+    void storedResultIsFound() {
+        ExpressionResultCacheImpl cache = new ExpressionResultCacheImpl(100);
+
+        cache.put(key(sales, "TopCount(x)"), "result", cache.generation());
+
+        assertThat(cache.get(key(sales, "TopCount(x)"))).isEqualTo("result");
+        assertThat(cache.get(key(sales, "TopCount(y)"))).isNull();
+        assertThat(cache.get(key(warehouse, "TopCount(x)"))).isNull();
+    }
+
+    @Test
+    void resultComputedDuringFlushIsNotStored() {
+        ExpressionResultCacheImpl cache = new ExpressionResultCacheImpl(100);
+        long generation = cache.generation();
+
+        cache.flush(warehouse);
+        cache.put(key(sales, "TopCount(x)"), "stale", generation);
+
+        assertThat(cache.get(key(sales, "TopCount(x)"))).isNull();
+    }
+
+    @Test
+    void flushDropsResultsOfCubeAndOfVirtualCubes() {
+        ExpressionResultCacheImpl cache = new ExpressionResultCacheImpl(100);
+        cache.put(key(sales, "a"), "sales", cache.generation());
+        cache.put(key(warehouse, "a"), "warehouse", cache.generation());
+        cache.put(key(warehouseAndSales, "a"), "virtual", cache.generation());
+
+        cache.flush(sales);
+
+        assertThat(cache.get(key(sales, "a"))).isNull();
+        assertThat(cache.get(key(warehouseAndSales, "a"))).isNull();
+        assertThat(cache.get(key(warehouse, "a"))).isEqualTo("warehouse");
+    }
+
+    @Test
+    void clearDropsEverything() {
+        ExpressionResultCacheImpl cache = new ExpressionResultCacheImpl(100);
+        cache.put(key(sales, "a"), "sales", cache.generation());
+        cache.put(key(warehouse, "a"), "warehouse", cache.generation());
+
+        cache.clear();
+
+        assertThat(cache.get(key(sales, "a"))).isNull();
+        assertThat(cache.get(key(warehouse, "a"))).isNull();
+    }
+
+    @Test
+    void flushingACubeThroughTheContextDropsItsResults() {
+        ExpressionResultCacheImpl cache = new ExpressionResultCacheImpl(100);
+        cache.put(key(sales, "a"), "sales", cache.generation());
+        cache.put(key(warehouse, "a"), "warehouse", cache.generation());
+        Context<?> context = mock(Context.class, CALLS_REAL_METHODS);
+        doReturn(Optional.of(cache)).when(context).getExpressionResultCache();
+        CacheControl cacheControl = mock(CacheControl.class);
+        CacheControl.CellRegion region = mock(CacheControl.CellRegion.class);
+        when(cacheControl.createMeasuresRegion(sales)).thenReturn(region);
+        Connection connection = mock(Connection.class);
+        when(connection.getCacheControl(null)).thenReturn(cacheControl);
+
+        context.flushCube(connection, sales);
+
+        verify(cacheControl).flush(region);
+        assertThat(cache.get(key(sales, "a"))).isNull();
+        assertThat(cache.get(key(warehouse, "a"))).isEqualTo("warehouse");
+
+        context.flushSchemaCache(connection);
+
+        verify(cacheControl).flushSchemaCache();
+        assertThat(cache.get(key(warehouse, "a"))).isNull();
+    }
+}
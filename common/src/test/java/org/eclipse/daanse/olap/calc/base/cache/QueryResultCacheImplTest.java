@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.eclipse.daanse.olap.api.Context;
+import org.eclipse.daanse.olap.api.cache.CacheControl;
+import org.eclipse.daanse.olap.api.cache.QueryResultCache.Key;
+import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.VirtualCube;
+import org.junit.jupiter.api.Test;
+
+class QueryResultCacheImplTest {
+
+    private final Cube sales = mock(Cube.class);
+    private final Cube warehouse = mock(Cube.class);
+    private final VirtualCube warehouseAndSales = mock(VirtualCube.class);
+
+    private static Key key(Cube cube, String mdx, Object... parameters) {
+        return key(Locale.ENGLISH, cube, mdx, parameters);
+    }
+
+    private static Key key(Locale locale, Cube cube, String mdx, Object... parameters) {
+        return new Key(cube, mdx, Arrays.asList(parameters), null, locale, "catalog", null);
+    }
+
+    @Test
+    void storedResultIsFoundForTheSameQueryAndParameters() {
+        QueryResultCacheImpl cache = new QueryResultCacheImpl(100, 0);
+
+        cache.put(key(sales, "select", 1), "result", 10, cache.generation());
+
+        assertThat(cache.get(key(sales, "select", 1))).isEqualTo("result");
+        assertThat(cache.get(key(sales, "select", 2))).isNull();
+        assertThat(cache.get(key(sales, "select", (Object) null))).isNull();
+        assertThat(cache.get(key(warehouse, "select", 1))).isNull();
+    }
+
+    @Test
+    void resultIsNotSharedBetweenLocales() {
+        QueryResultCacheImpl cache = new QueryResultCacheImpl(100, 0);
+
+        cache.put(key(Locale.ENGLISH, sales, "select"), "1,000.00", 1, cache.generation());
+
+        assertThat(cache.get(key(Locale.GERMAN, sales, "select"))).isNull();
+        assertThat(cache.get(key(Locale.ENGLISH, sales, "select"))).isEqualTo("1,000.00");
+    }
+
+    @Test
+    void resultLargerThanTheCacheIsNotStored() {
+        QueryResultCacheImpl cache = new QueryResultCacheImpl(100, 0);
+
+        cache.put(key(sales, "select"), "result", 101, cache.generation());
+
+        assertThat(cache.get(key(sales, "select"))).isNull();
+    }
+
+    @Test
+    void resultComputedDuringFlushIsNotStored() {
+        QueryResultCacheImpl cache = new QueryResultCacheImpl(100, 0);
+        long generation = cache.generation();
+
+        cache.flush(warehouse);
+        cache.put(key(sales, "select"), "stale", 1, generation);
+
+        assertThat(cache.get(key(sales, "select"))).isNull();
+    }
+
+    @Test
+    void flushDropsResultsOfCubeAndOfVirtualCubes() {
+        QueryResultCacheImpl cache = new QueryResultCacheImpl(100, 0);
+        for (Cube cube : List.of(sales, warehouse, warehouseAndSales)) {
+            cache.put(key(cube, "a"), cube, 1, cache.generation());
+        }
+
+        cache.flush(sales);
+
+        assertThat(cache.get(key(sales, "a"))).isNull();
+        assertThat(cache.get(key(warehouseAndSales, "a"))).isNull();
+        assertThat(cache.get(key(warehouse, "a"))).isSameAs(warehouse);
+
+        cache.clear();
+        assertThat(cache.get(key(warehouse, "a"))).isNull();
+    }
+
+    @Test
+    void flushingACubeThroughTheContextDropsItsResultsAndAdvancesTheGeneration() {
+        QueryResultCacheImpl cache = new QueryResultCacheImpl(100, 0);
+        cache.put(key(sales, "select"), "sales", 1, cache.generation());
+        cache.put(key(warehouse, "select"), "warehouse", 1, cache.generation());
+        long generation = cache.generation();
+        Context<?> context = mock(Context.class, CALLS_REAL_METHODS);
+        doReturn(Optional.of(cache)).when(context).getQueryResultCache();
+        CacheControl cacheControl = mock(CacheControl.class);
+        Connection connection = mock(Connection.class);
+        when(connection.getCacheControl(null)).thenReturn(cacheControl);
+
+        context.flushCube(connection, sales);
+
+        assertThat(cache.generation()).isNotEqualTo(generation);
+        assertThat(cache.get(key(sales, "select"))).isNull();
+        assertThat(cache.get(key(warehouse, "select"))).isEqualTo("warehouse");
+
+        context.flushSchemaCache(connection);
+
+        assertThat(cache.get(key(warehouse, "select"))).isNull();
+    }
+}
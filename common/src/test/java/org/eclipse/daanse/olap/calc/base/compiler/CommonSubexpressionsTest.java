@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.compiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.olap.api.cache.ExpCacheDescriptor;
+import org.eclipse.daanse.olap.api.calc.DoubleCalc;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
+import org.eclipse.daanse.olap.api.type.NumericType;
+import org.eclipse.daanse.olap.common.ExpCacheDescriptorImpl;
+import org.junit.jupiter.api.Test;
+
+class CommonSubexpressionsTest {
+
+    private static Expression leaf(String text) {
+        Expression leaf = mock(Expression.class);
+        doAnswer(invocation -> {
+            invocation.<PrintWriter>getArgument(0).print(text);
+            return null;
+        }).when(leaf).unparse(any());
+        return leaf;
+    }
+
+    private static ResolvedFunCall call(String name, Expression... args) {
+        ResolvedFunCall call = mock(ResolvedFunCall.class);
+        when(call.getOperationAtom()).thenReturn(new FunctionOperationAtom(name));
+        when(call.getArgs()).thenReturn(args);
+        doAnswer(invocation -> {
+            PrintWriter pw = invocation.getArgument(0);
+            pw.print(name);
+            pw.print('(');
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    pw.print(", ");
+                }
+                args[i].unparse(pw);
+            }
+            pw.print(')');
+            return null;
+        }).when(call).unparse(any());
+        return call;
+    }
+
+    @Test
+    void repeatedNestedCallIsShared() {
+        ResolvedFunCall first = call("Sum", call("Ytd"), leaf("[Measures].[Sales]"));
+        ResolvedFunCall second = call("Sum", call("Ytd"), leaf("[Measures].[Sales]"));
+        ResolvedFunCall once = call("Sum", call("Mtd"), leaf("[Measures].[Sales]"));
+        CommonSubexpressions cse = new CommonSubexpressions(call("IIf", first, once, second));
+
+        assertThat(cse.keyOf(first)).isEqualTo("Sum(Ytd(), [Measures].[Sales])").isEqualTo(cse.keyOf(second));
+        assertThat(cse.isRepeated(cse.keyOf(first))).isTrue();
+        assertThat(cse.isRepeated(cse.keyOf(once))).isFalse();
+    }
+
+    @Test
+    void callsWithoutNestedCallsOrWithVolatileOnesAreNotShared() {
+        ResolvedFunCall trivial = call("Abs", leaf("[Measures].[Sales]"));
+        ResolvedFunCall trivialAgain = call("Abs", leaf("[Measures].[Sales]"));
+        ResolvedFunCall volatileCall = call("Plus", call("Now"), leaf("1"));
+        ResolvedFunCall volatileAgain = call("Plus", call("Now"), leaf("1"));
+        CommonSubexpressions cse = new CommonSubexpressions(
+            call("Add", trivial, trivialAgain, volatileCall, volatileAgain));
+
+        assertThat(cse.isRepeated(cse.keyOf(trivial))).isFalse();
+        assertThat(cse.keyOf(volatileCall)).isNull();
+    }
+
+    @Test
+    void sharedCalcEvaluatesThroughTheExpressionCache() {
+        ResolvedFunCall first = call("Sum", call("Ytd"), leaf("[Measures].[Sales]"));
+        ResolvedFunCall second = call("Sum", call("Ytd"), leaf("[Measures].[Sales]"));
+        CommonSubexpressions cse = new CommonSubexpressions(call("Divide", first, second));
+        String key = cse.keyOf(first);
+
+        DoubleCalc calc = mock(DoubleCalc.class);
+        when(calc.getType()).thenReturn(NumericType.INSTANCE);
+        Evaluator evaluator = mock(Evaluator.class);
+        when(evaluator.getMembers()).thenReturn(new Member[] { mock(Member.class) });
+        when(evaluator.getCachedResult(any(ExpCacheDescriptorImpl.class))).thenReturn(42.0);
+
+        DoubleCalc shared = (DoubleCalc) cse.share(key, first, calc, evaluator);
+
+        assertThat(cse.get(key)).isSameAs(shared);
+        assertThat(shared.evaluate(evaluator)).isEqualTo(42.0);
+        verify(calc, never()).evaluate(any());
+    }
+
+    @Test
+    void nonEmptyEvaluationHasACacheKeyOfItsOwn() {
+        ResolvedFunCall first = call("Sum", call("Ytd"), leaf("[Measures].[Sales]"));
+        ResolvedFunCall copy = call("Sum", call("Ytd"), leaf("[Measures].[Sales]"));
+        when(first.cloneExp()).thenReturn(copy);
+        CommonSubexpressions cse = new CommonSubexpressions(call("Divide", first, first));
+
+        DoubleCalc calc = mock(DoubleCalc.class);
+        when(calc.getType()).thenReturn(NumericType.INSTANCE);
+        Evaluator evaluator = mock(Evaluator.class);
+        when(evaluator.getMembers()).thenReturn(new Member[] { mock(Member.class) });
+        List<ExpCacheDescriptor> descriptors = new ArrayList<>();
+        when(evaluator.getCachedResult(any(ExpCacheDescriptorImpl.class))).thenAnswer(invocation -> {
+            descriptors.add(invocation.getArgument(0));
+            return 42.0;
+        });
+        DoubleCalc shared = (DoubleCalc) cse.share(cse.keyOf(first), first, calc, evaluator);
+
+        shared.evaluate(evaluator);
+        when(evaluator.isNonEmpty()).thenReturn(true);
+        shared.evaluate(evaluator);
+        shared.evaluate(evaluator);
+
+        assertThat(descriptors.get(0).getExp()).isSameAs(first);
+        assertThat(descriptors.get(1).getExp()).isSameAs(copy);
+        assertThat(descriptors.get(2)).isSameAs(descriptors.get(1));
+    }
+}
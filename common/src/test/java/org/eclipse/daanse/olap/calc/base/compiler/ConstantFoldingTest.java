@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.compiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.ConstantCalc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleCalc;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
+import org.eclipse.daanse.olap.api.type.NumericType;
+import org.eclipse.daanse.olap.calc.base.constant.ConstantDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.nested.AbstractProfilingNestedDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.TupleValueCalc;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A call over constants is evaluated once at compile time, unless its value
+ * is data.
+ */
+class ConstantFoldingTest {
+
+    private Evaluator evaluator;
+    private BaseExpressionCompiler compiler;
+    private ResolvedFunCall call;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = mock(Evaluator.class);
+        when(evaluator.getMembers()).thenReturn(new Member[0]);
+        compiler = new BaseExpressionCompiler(evaluator, null);
+        call = mock(ResolvedFunCall.class);
+        when(call.getOperationAtom()).thenReturn(new FunctionOperationAtom("Twice"));
+    }
+
+    /** Twice the current cell value, over a constant argument. */
+    private static Calc<?> twiceCurrentValue() {
+        return new AbstractProfilingNestedDoubleCalc(NumericType.INSTANCE,
+            new ConstantDoubleCalc(NumericType.INSTANCE, 2.0)) {
+            @Override
+            public Double evaluateInternal(Evaluator evaluator) {
+                return 2 * ((Number) evaluator.evaluateCurrent()).doubleValue();
+            }
+        };
+    }
+
+    @Test
+    void callOverConstantsIsFolded() {
+        when(evaluator.evaluateCurrent()).thenReturn(21.0);
+
+        Calc<?> folded = compiler.fold(call, twiceCurrentValue());
+
+        assertThat(folded).isInstanceOf(ConstantDoubleCalc.class);
+        assertThat(folded.evaluate(evaluator)).isEqualTo(42.0);
+    }
+
+    @Test
+    void callMissingACellIsNotFolded() {
+        when(evaluator.evaluateCurrent()).thenReturn(21.0);
+        when(evaluator.getMissCount()).thenReturn(0, 1);
+        Calc<?> calc = twiceCurrentValue();
+
+        assertThat(compiler.fold(call, calc)).isSameAs(calc);
+    }
+
+    @Test
+    void valueOfAConstantTupleIsNotEvaluatedAtCompileTime() {
+        TupleCalc tupleCalc = mock(TupleCalc.class, withSettings().extraInterfaces(ConstantCalc.class));
+        when(tupleCalc.evaluate(any())).thenReturn(new Member[] { mock(Member.class) });
+        Calc<?> calc = new TupleValueCalc(NumericType.INSTANCE, tupleCalc, false);
+
+        assertThat(compiler.fold(call, calc)).isSameAs(calc);
+        verify(evaluator, never()).evaluateCurrent();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.calc.base.type.tuplebase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+@MockitoSettings
+class TupleHashSetTest {
+
+    @Mock
+    private Member m1;
+    @Mock
+    private Member m2;
+    @Mock
+    private Member m3;
+
+    private static TupleList list(Member[]... tuples) {
+        ArrayTupleList list = new ArrayTupleList(2, tuples.length, 0);
+        for (Member[] tuple : tuples) {
+            list.addTuple(tuple);
+        }
+        return list;
+    }
+
+    @Test
+    void addDistinctKeepsFirstOccurrences() {
+        TupleList source = list(
+            new Member[] { m1, m2 }, new Member[] { m2, m1 }, new Member[] { m1, m2 }, new Member[] { m3, m3 });
+        TupleList target = new ArrayTupleList(2, 4, 0);
+
+        TupleHashSet set = new TupleHashSet(2, 1);
+        set.addDistinct(source, target);
+
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(target).containsExactly(List.of(m1, m2), List.of(m2, m1), List.of(m3, m3));
+        assertThat(set.contains(source, 2)).isTrue();
+        assertThat(set.add(source, 0)).isFalse();
+    }
+
+    @Test
+    void addMissingLeavesTheSetAlone() {
+        TupleHashSet set = TupleHashSet.of(list(new Member[] { m1, m2 }));
+        TupleList target = new ArrayTupleList(2, 4, 0);
+
+        set.addMissing(list(new Member[] { m1, m2 }, new Member[] { m1, m3 }, new Member[] { m1, m3 }), target);
+
+        assertThat(target).containsExactly(List.of(m1, m3), List.of(m1, m3));
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void manyTuplesOfOneColumn() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            members.add(i % 3 == 0 ? m1 : i % 3 == 1 ? m2 : m3);
+        }
+        TupleList target = new UnaryTupleList();
+        new TupleHashSet(1, 0).addDistinct(new UnaryTupleList(members), target);
+        assertThat(target.slice(0)).containsExactly(m1, m2, m3);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Admission;
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Permit;
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Priority;
+import org.eclipse.daanse.olap.api.execution.QueryAdmissionException;
+import org.eclipse.daanse.olap.api.monitor.event.Event;
+import org.eclipse.daanse.olap.api.monitor.event.QueryAdmissionEvent;
+import org.eclipse.daanse.olap.common.ConfigConstants;
+import org.eclipse.daanse.olap.common.MapContextConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class FairAdmissionControllerTest {
+
+    private final Map<String, Object> configuration = new HashMap<>();
+    private final List<Event> events = Collections.synchronizedList(new ArrayList<>());
+    private final FairAdmissionController controller = new FairAdmissionController(
+        new MapContextConfig(() -> configuration), events::add, "test");
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+    private final List<String> admitted = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void stopThreads() {
+        threads.shutdownNow();
+    }
+
+    private static Admission admission(String user, String tenant, Priority priority) {
+        return new Admission(user, List.of(), tenant, priority);
+    }
+
+    /** Queues a query that records its name once admitted and finishes at once. */
+    private Future<?> queue(String name, Admission admission) throws InterruptedException {
+        final int depth = controller.queueDepth();
+        final Future<?> future = threads.submit(() -> {
+            try (Permit permit = controller.admit(admission)) {
+                admitted.add(name);
+            }
+        });
+        while (controller.queueDepth() == depth) {
+            Thread.sleep(1);
+        }
+        return future;
+    }
+
+    @Test
+    void interactiveQueryOvertakesBatchQuery() throws Exception {
+        configuration.put(ConfigConstants.ADMISSION_LIMIT, 1);
+        final Permit running = controller.admit(admission("a", "", Priority.INTERACTIVE));
+        assertThat(controller.available()).isZero();
+
+        final Future<?> export = queue("export", admission("a", "", Priority.BATCH));
+        final Future<?> dashboard = queue("dashboard", admission("b", "", Priority.INTERACTIVE));
+        running.close();
+        export.get(5, TimeUnit.SECONDS);
+        dashboard.get(5, TimeUnit.SECONDS);
+
+        assertThat(admitted).containsExactly("dashboard", "export");
+        assertThat(controller.available()).isEqualTo(1);
+    }
+
+    @Test
+    void queryOverUserQuotaIsRefusedAfterQueueTimeout() {
+        configuration.put(ConfigConstants.ADMISSION_USER_LIMIT, 1);
+        configuration.put(ConfigConstants.ADMISSION_QUEUE_TIMEOUT, 20L);
+        final Permit first = controller.admit(admission("a", "", Priority.BATCH));
+
+        assertThatThrownBy(() -> controller.admit(admission("a", "", Priority.BATCH)))
+            .isInstanceOf(QueryAdmissionException.class);
+        controller.admit(admission("b", "", Priority.BATCH)).close();
+        first.close();
+        controller.admit(admission("a", "", Priority.BATCH)).close();
+
+        assertThat(events).hasSize(4);
+        final QueryAdmissionEvent refused = (QueryAdmissionEvent) events.get(1);
+        assertThat(refused.admitted()).isFalse();
+        assertThat(refused.user()).isEqualTo("a");
+        assertThat(refused.waitMillis()).isPositive();
+        assertThat(refused.running()).isEqualTo(1);
+        assertThat(controller.running()).isZero();
+    }
+
+    @Test
+    void tenantsAreAdmittedByWeight() throws Exception {
+        configuration.put(ConfigConstants.ADMISSION_LIMIT, 1);
+        configuration.put(ConfigConstants.ADMISSION_TENANT_WEIGHTS, "heavy=3, light = 1");
+        final Permit running = controller.admit(admission("x", "other", Priority.INTERACTIVE));
+        final List<Future<?>> queries = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            queries.add(queue("heavy", admission("h" + i, "heavy", Priority.INTERACTIVE)));
+        }
+        for (int i = 0; i < 4; i++) {
+            queries.add(queue("light", admission("l" + i, "light", Priority.INTERACTIVE)));
+        }
+
+        running.close();
+        for (Future<?> query : queries) {
+            query.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(admitted.subList(0, 4)).containsExactly("heavy", "light", "heavy", "heavy");
+    }
+
+    @Test
+    void malformedTenantWeightsAreIgnored() {
+        assertThat(FairAdmissionController.parseWeights("a=2,b,c=-1,d=x,,e = 0.5"))
+            .containsExactlyInAnyOrderEntriesOf(Map.of("a", 2d, "e", 0.5));
+        assertThat(FairAdmissionController.parseWeights(null)).isEmpty();
+    }
+}
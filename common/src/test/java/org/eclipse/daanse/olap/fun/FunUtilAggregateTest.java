@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.fun;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.evaluator.TupleValues;
+import org.eclipse.daanse.olap.api.result.NotLoaded;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+class FunUtilAggregateTest {
+
+    private Evaluator evaluator;
+    private Calc<?> calc;
+    private TupleList tuples;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = mock(Evaluator.class, RETURNS_DEEP_STUBS);
+        calc = mock(Calc.class);
+        tuples = new UnaryTupleList(List.of(mock(Member.class), mock(Member.class), mock(Member.class)));
+    }
+
+    @Test
+    void valuesComputedInBulkAreUsedWithoutEvaluatingPerTuple() {
+        BitSet nulls = new BitSet();
+        nulls.set(1);
+        when(evaluator.evaluateForTuples(tuples, calc))
+            .thenReturn(new TupleValues(new double[] { 2.0, 0.0, 4.0 }, nulls, 0));
+
+        assertThat(FunUtil.sumDouble(evaluator, tuples, calc)).isEqualTo(6.0);
+        assertThat(FunUtil.avg(evaluator, tuples, calc)).isEqualTo(3.0);
+        assertThat(FunUtil.min(evaluator, tuples, calc)).isEqualTo(2.0);
+        assertThat(FunUtil.max(evaluator, tuples, calc)).isEqualTo(4.0);
+        assertThat(FunUtil.var(evaluator, tuples, calc, true)).isEqualTo(1.0);
+        verify(calc, never()).evaluate(any());
+    }
+
+    @Test
+    void fallsBackToEvaluatingEachTuple() {
+        when(evaluator.evaluateForTuples(any(), any())).thenReturn(null);
+        when(calc.evaluate(evaluator)).thenAnswer(new Values(-1.0, null, 5));
+
+        TupleValues values = FunUtil.evaluateValues(evaluator, tuples, calc);
+
+        assertThat(values.values()).containsExactly(-1.0, 0.0, 5.0);
+        assertThat(values.isNull(1)).isTrue();
+        assertThat(values.valueCount()).isEqualTo(2);
+        assertThat(values.notLoadedCount()).isZero();
+    }
+
+    @Test
+    void valuesNotLoadedYetPoisonTheAggregate() {
+        when(evaluator.evaluateForTuples(any(), any())).thenReturn(null);
+        when(calc.evaluate(evaluator)).thenAnswer(new Values(1.0, NotLoaded.INSTANCE, 2.0));
+
+        assertThat(FunUtil.sumDouble(evaluator, tuples, calc)).isNaN();
+    }
+
+    @Test
+    void emptyOrAllNullIsNull() {
+        when(evaluator.evaluateForTuples(any(), any())).thenReturn(null);
+        when(calc.evaluate(evaluator)).thenAnswer(new Values(null, null, null));
+
+        assertThat(FunUtil.sumDouble(evaluator, tuples, calc)).isNull();
+        assertThat(FunUtil.max(evaluator, new UnaryTupleList(), calc)).isNull();
+    }
+
+    private static final class Values implements Answer<Object> {
+        private final Object[] values;
+        private int next;
+
+        Values(Object... values) {
+            this.values = values;
+        }
+
+        @Override
+        public Object answer(InvocationOnMock invocation) {
+            return values[next++ % values.length];
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.fun;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.Level;
+import org.eclipse.daanse.olap.api.element.LevelType;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LevelMemberIndexTest {
+
+    private Hierarchy hierarchy;
+    private Level yearLevel;
+    private Level quarterLevel;
+    private Level monthLevel;
+    private CatalogReader reader;
+    private Evaluator evaluator;
+    private final List<Member> years = new ArrayList<>();
+    private final List<Member> quarters = new ArrayList<>();
+    private final List<Member> months = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        hierarchy = mock(Hierarchy.class);
+        yearLevel = level("Year", LevelType.TIME_YEARS, null, 0);
+        quarterLevel = level("Quarter", LevelType.TIME_QUARTERS, yearLevel, 1);
+        monthLevel = level("Month", LevelType.TIME_MONTHS, quarterLevel, 2);
+        when(yearLevel.getChildLevel()).thenReturn(quarterLevel);
+        when(quarterLevel.getChildLevel()).thenReturn(monthLevel);
+        for (int y = 0; y < 2; y++) {
+            Member year = member(yearLevel, null, years);
+            for (int q = 0; q < 4; q++) {
+                Member quarter = member(quarterLevel, year, quarters);
+                for (int m = 0; m < 3; m++) {
+                    member(monthLevel, quarter, months);
+                }
+            }
+        }
+        reader = mock(CatalogReader.class);
+        when(reader.getLevelMembers(yearLevel, false)).thenReturn(years);
+        when(reader.getLevelMembers(quarterLevel, false)).thenReturn(quarters);
+        when(reader.getLevelMembers(monthLevel, false)).thenReturn(months);
+
+        Map<String, Object> evalCache = new HashMap<>();
+        Query query = mock(Query.class);
+        when(query.getEvalCache(anyString())).thenAnswer(invocation -> evalCache.get(invocation.getArgument(0)));
+        doAnswer(invocation -> evalCache.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(query).putEvalCache(anyString(), any());
+        evaluator = mock(Evaluator.class);
+        when(evaluator.getQuery()).thenReturn(query);
+        when(evaluator.getCatalogReader()).thenReturn(reader);
+    }
+
+    private Level level(String name, LevelType type, Level parent, int depth) {
+        Level level = mock(Level.class);
+        when(level.getUniqueName()).thenReturn("[Time].[" + name + "]");
+        when(level.getLevelType()).thenReturn(type);
+        when(level.getParentLevel()).thenReturn(parent);
+        when(level.getDepth()).thenReturn(depth);
+        when(level.getHierarchy()).thenReturn(hierarchy);
+        return level;
+    }
+
+    private Member member(Level level, Member parent, List<Member> levelMembers) {
+        Member member = mock(Member.class);
+        when(member.getLevel()).thenReturn(level);
+        when(member.getParentMember()).thenReturn(parent);
+        when(member.getHierarchy()).thenReturn(hierarchy);
+        levelMembers.add(member);
+        return member;
+    }
+
+    @Test
+    void indexIsBuiltOncePerQuery() {
+        LevelMemberIndex index = LevelMemberIndex.of(evaluator, monthLevel);
+        assertThat(LevelMemberIndex.of(evaluator, monthLevel)).isSameAs(index);
+        verify(reader, times(1)).getLevelMembers(eq(monthLevel), eq(false));
+
+        assertThat(index.size()).isEqualTo(24);
+        assertThat(index.ordinalOf(months.get(7))).isEqualTo(7);
+        assertThat(index.ordinalOf(mock(Member.class))).isEqualTo(-1);
+        assertThat(index.lead(months.get(7), -3)).isSameAs(months.get(4));
+        assertThat(index.lead(months.get(1), -3)).isNull();
+        assertThat(index.positionInParent(7)).isEqualTo(1);
+        assertThat(index.childOrdinal(quarters.get(5), 2)).isEqualTo(17);
+        assertThat(index.childOrdinal(quarters.get(5), 3)).isEqualTo(-1);
+    }
+
+    @Test
+    void levelsWhichAreNotTimeLevelsOrNotContiguousAreNotIndexed() {
+        when(monthLevel.getLevelType()).thenReturn(LevelType.REGULAR);
+        assertThat(LevelMemberIndex.of(evaluator, monthLevel)).isNull();
+
+        List<Member> shuffled = new ArrayList<>(quarters);
+        shuffled.add(shuffled.remove(0));
+        when(reader.getLevelMembers(quarterLevel, false)).thenReturn(shuffled);
+        assertThat(LevelMemberIndex.build(reader, quarterLevel)).isNull();
+    }
+
+    @Test
+    void periodsToDateIsARangeOfTheIndex() {
+        // YTD of the eighth month: the first two quarters' months up to it
+        assertThat(FunUtil.periodsToDate(evaluator, yearLevel, months.get(7)))
+            .containsExactlyElementsOf(months.subList(0, 8));
+        assertThat(FunUtil.periodsToDate(evaluator, quarterLevel, months.get(19)))
+            .containsExactlyElementsOf(months.subList(18, 20));
+    }
+
+    @Test
+    void memberRangeAndCousinUseTheIndex() {
+        assertThat(FunUtil.memberRange(evaluator, months.get(9), months.get(5)))
+            .containsExactlyElementsOf(months.subList(5, 10));
+        // second month of Q2 of the first year -> second month of Q2 of the second
+        assertThat(FunUtil.cousin(evaluator, months.get(4), quarters.get(5))).isSameAs(months.get(16));
+        assertThat(FunUtil.cousin(evaluator, months.get(4), years.get(1))).isSameAs(months.get(16));
+    }
+}
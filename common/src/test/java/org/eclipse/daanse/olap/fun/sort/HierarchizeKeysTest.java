@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.fun.sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.ArrayTupleList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HierarchizeKeysTest {
+
+    private Member all;
+    private Member usa;
+    private Member mexico;
+    private Member ca;
+    private Member or;
+    private Member sf;
+    private Member la;
+
+    @BeforeEach
+    void setUp() {
+        all = member(null, 0);
+        usa = member(all, 0);
+        mexico = member(all, 1);
+        ca = member(usa, 0);
+        or = member(usa, 1);
+        sf = member(ca, 1);
+        la = member(ca, 0);
+    }
+
+    private static Member member(Member parent, int ordinal) {
+        Member member = mock(Member.class);
+        when(member.getParentMember()).thenReturn(parent);
+        when(member.getDepth()).thenReturn(parent == null ? 0 : parent.getDepth() + 1);
+        when(member.getOrdinal()).thenReturn(ordinal);
+        return member;
+    }
+
+    @Test
+    void membersSortInPreOrderAndPostOrder() {
+        List<Member> pre = new ArrayList<>(List.of(mexico, sf, or, all, la, usa, ca));
+        Sorter.hierarchizeMemberList(pre, false);
+        assertThat(pre).containsExactly(all, usa, ca, la, sf, or, mexico);
+
+        List<Member> post = new ArrayList<>(List.of(mexico, sf, or, all, la, usa, ca));
+        Sorter.hierarchizeMemberList(post, true);
+        assertThat(post).containsExactly(la, sf, ca, or, usa, mexico, all);
+    }
+
+    @Test
+    void keysAgreeWithTheComparator() {
+        List<Member> members = List.of(sf, mexico, la, or);
+        HierarchizeKeys keys = HierarchizeKeys.of(members, false);
+        for (Member m1 : members) {
+            for (Member m2 : members) {
+                assertThat(Integer.signum(Integer.compare(keys.keyOf(m1), keys.keyOf(m2))))
+                    .isEqualTo(Integer.signum(Sorter.compareHierarchically(m1, m2, false)));
+            }
+        }
+    }
+
+    @Test
+    void repeatedMembersStayTogether() {
+        List<Member> list = new ArrayList<>(List.of(sf, la, mexico, la, sf));
+        Sorter.hierarchizeMemberList(list, false);
+        assertThat(list).containsExactly(la, la, sf, sf, mexico);
+    }
+
+    @Test
+    void raggedMembersFallBackToTheComparator() {
+        Member skipping = mock(Member.class);
+        when(skipping.getParentMember()).thenReturn(usa);
+        when(skipping.getDepth()).thenReturn(3);
+        assertThat(HierarchizeKeys.of(List.of(ca, skipping), false)).isNull();
+        assertThat(HierarchizeKeys.of(Arrays.asList(ca, null), false)).isNull();
+    }
+
+    @Test
+    void tuplesSortByEachColumnInTurn() {
+        TupleList list = new ArrayTupleList(2, 4, 0);
+        list.add(List.of(mexico, la));
+        list.add(List.of(usa, sf));
+        list.add(List.of(mexico, ca));
+        list.add(List.of(usa, la));
+
+        TupleList sorted = Sorter.hierarchizeTupleList(list, false);
+
+        assertThat(sorted).containsExactly(
+            List.of(usa, la), List.of(usa, sf), List.of(mexico, ca), List.of(mexico, la));
+    }
+}
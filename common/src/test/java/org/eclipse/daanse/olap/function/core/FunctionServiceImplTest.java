@@ -75,4 +75,38 @@ class FunctionServiceImplTest {
 
         assertThat(functionService.getResolvers()).isEmpty();
     }
+
+    @Test
+    void resolverIsRememberedByArgumentCategories() {
+        when(resolver.isResolvedByCategories()).thenReturn(true);
+        functionService.addResolver(resolver);
+
+        functionService.putResolver(resolver.getFunctionAtom(), List.of(DataType.SET), resolver);
+
+        assertThat(functionService.getResolver(new FunctionOperationAtom("testfun"), List.of(DataType.SET)))
+                .contains(resolver);
+        assertThat(functionService.getResolver(resolver.getFunctionAtom(), List.of(DataType.MEMBER))).isEmpty();
+    }
+
+    @Test
+    void resolverIsNotRememberedUnlessEveryResolverGoesByCategory() {
+        functionService.addResolver(resolver);
+
+        functionService.putResolver(resolver.getFunctionAtom(), List.of(DataType.SET), resolver);
+
+        assertThat(functionService.getResolver(resolver.getFunctionAtom(), List.of(DataType.SET))).isEmpty();
+    }
+
+    @Test
+    void changingResolversForgetsRememberedOnes() {
+        when(resolver.isResolvedByCategories()).thenReturn(true);
+        functionService.addResolver(resolver);
+        functionService.putResolver(resolver.getFunctionAtom(), List.of(DataType.SET), resolver);
+
+        FunctionResolver other = mock(FunctionResolver.class);
+        when(other.getFunctionAtom()).thenReturn(new FunctionOperationAtom("OtherFun"));
+        functionService.addResolver(other);
+
+        assertThat(functionService.getResolver(resolver.getFunctionAtom(), List.of(DataType.SET))).isEmpty();
+    }
 }
@@ -159,7 +159,8 @@ class FunctionMetaDataExportTest {
         CATEGORY_KEYWORDS.put("aggregate", Set.of("Sum", "Avg", "Count", "Min", "Max", "Median", "Aggregate"));
         CATEGORY_KEYWORDS.put("statistical",
                 Set.of("Stdev", "StdevP", "Var", "VarP", "Correlation", "Covariance", "LinRegIntercept", "LinRegPoint",
-                        "LinRegR2", "LinRegSlope", "LinRegVariance", "Percentile", "NthQuartile"));
+                        "LinRegR2", "LinRegSlope", "LinRegVariance", "Percentile", "NthQuartile", "ApproxPercentile",
+                        "ApproxMedian"));
         CATEGORY_KEYWORDS.put("operators", Set.of("+", "-", "*", "/", "AND", "OR", "NOT", "XOR", "=", "<>", "<", ">",
                 "<=", ">=", "IS", "IS EMPTY", "IS NULL", "MATCHES", "NOT MATCHES"));
         CATEGORY_KEYWORDS.put("type-introspection",
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.Context;
+import org.eclipse.daanse.olap.api.ContextConfig;
+import org.eclipse.daanse.olap.api.aggregator.Aggregator;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.eclipse.daanse.olap.common.StandardProperty;
+import org.eclipse.daanse.olap.util.DistinctKeySketch;
+import org.eclipse.daanse.sql.dialect.api.Dialect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A distinct count over a list of cells whose segments keep sketches is the
+ * cardinality of the union of the sketches; no key at all is an empty cell.
+ */
+class AggregateCalcTest {
+
+    private Evaluator evaluator;
+    private Evaluator aggregation;
+    private final TupleList tuples = new UnaryTupleList(List.of(mock(Member.class), mock(Member.class)));
+
+    @BeforeEach
+    void setUp() {
+        Aggregator distinctCount = mock(Aggregator.class);
+        when(distinctCount.getName()).thenReturn("distinct-count");
+        when(distinctCount.getRollup()).thenReturn(mock(Aggregator.class));
+        ContextConfig config = mock(ContextConfig.class);
+        when(config.enableDistinctCountSketches()).thenReturn(true);
+        Dialect dialect = mock(Dialect.class);
+        when(dialect.supportsUnlimitedValueList()).thenReturn(true);
+        Context<?> context = mock(Context.class);
+        when(context.getConfig()).thenReturn(config);
+        when(context.getDialect()).thenReturn(dialect);
+        CatalogReader catalogReader = mock(CatalogReader.class);
+        doReturn(context).when(catalogReader).getContext();
+
+        evaluator = mock(Evaluator.class);
+        when(evaluator.getProperty(StandardProperty.AGGREGATION_TYPE.getName(), null)).thenReturn(distinctCount);
+        when(evaluator.getCatalogReader()).thenReturn(catalogReader);
+        aggregation = mock(Evaluator.class);
+        when(aggregation.evaluateCurrent()).thenReturn(7L);
+        when(evaluator.pushAggregation(any())).thenReturn(aggregation);
+    }
+
+    @Test
+    void distinctCountIsTheUnionOfTheSketches() {
+        DistinctKeySketch first = new DistinctKeySketch(100);
+        DistinctKeySketch second = new DistinctKeySketch(100);
+        for (long key = 0; key < 30; key++) {
+            first.add(key);
+        }
+        for (long key = 20; key < 60; key++) {
+            second.add(key);
+        }
+        when(evaluator.evaluateSketch()).thenReturn(first, second);
+
+        assertThat(AggregateCalc.aggregate(mock(Calc.class), evaluator, tuples)).isEqualTo(60L);
+        verify(evaluator, never()).pushAggregation(any());
+    }
+
+    @Test
+    void unionWithoutKeysIsAnEmptyCell() {
+        when(evaluator.evaluateSketch()).thenReturn(new DistinctKeySketch(100), new DistinctKeySketch(100));
+
+        assertThat(AggregateCalc.aggregate(mock(Calc.class), evaluator, tuples)).isNull();
+        verify(evaluator, never()).pushAggregation(any());
+    }
+
+    @Test
+    void cellWithoutASketchIsCountedByTheQuery() {
+        DistinctKeySketch first = new DistinctKeySketch(100);
+        first.add(1L);
+        when(evaluator.evaluateSketch()).thenReturn(first, null);
+
+        assertThat(AggregateCalc.aggregate(mock(Calc.class), evaluator, tuples)).isEqualTo(7L);
+        verify(evaluator).pushAggregation(tuples);
+    }
+}
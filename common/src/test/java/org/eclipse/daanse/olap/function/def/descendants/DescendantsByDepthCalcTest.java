@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.descendants;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.calc.IntegerCalc;
+import org.eclipse.daanse.olap.api.calc.MemberCalc;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.type.SetType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Descendants read level by level come out in hierarchical order, siblings
+ * ordered by their ordinals, without sorting the whole result.
+ */
+class DescendantsByDepthCalcTest {
+
+    private final Map<Member, List<Member>> children = new LinkedHashMap<>();
+    private Evaluator evaluator;
+    private Member all;
+    private Member usa;
+    private Member mexico;
+    private Member ca;
+    private Member or;
+    private Member sf;
+    private Member la;
+
+    @BeforeEach
+    void setUp() {
+        all = member(null, 0);
+        // Siblings are read out of order; their ordinals decide.
+        mexico = member(all, 1);
+        usa = member(all, 0);
+        or = member(usa, 1);
+        ca = member(usa, 0);
+        sf = member(ca, 0);
+        la = member(ca, 1);
+
+        CatalogReader reader = mock(CatalogReader.class);
+        when(reader.getMemberChildren(anyList())).thenAnswer(invocation -> {
+            List<Member> result = new ArrayList<>();
+            for (Member parent : invocation.<List<Member>>getArgument(0)) {
+                result.addAll(children.getOrDefault(parent, List.of()));
+            }
+            return result;
+        });
+        evaluator = mock(Evaluator.class);
+        when(evaluator.getCatalogReader()).thenReturn(reader);
+    }
+
+    private Member member(Member parent, int ordinal) {
+        Member member = mock(Member.class);
+        when(member.getParentMember()).thenReturn(parent);
+        when(member.getDepth()).thenReturn(parent == null ? 0 : parent.getDepth() + 1);
+        when(member.getOrdinal()).thenReturn(ordinal);
+        if (parent != null) {
+            children.computeIfAbsent(parent, p -> new ArrayList<>()).add(member);
+        }
+        return member;
+    }
+
+    private List<Member> descendants(Member member, int depth, Flag flag) {
+        MemberCalc memberCalc = mock(MemberCalc.class);
+        when(memberCalc.evaluate(any())).thenReturn(member);
+        IntegerCalc depthCalc = mock(IntegerCalc.class);
+        when(depthCalc.evaluate(any())).thenReturn(depth);
+        return new DescendantsByDepthCalc(mock(SetType.class), memberCalc, depthCalc, flag)
+            .evaluateInternal(evaluator).slice(0);
+    }
+
+    @Test
+    void selfBeforeAfterIsInPreOrder() {
+        assertThat(descendants(all, 1, Flag.SELF_BEFORE_AFTER)).containsExactly(all, usa, ca, sf, la, or, mexico);
+    }
+
+    @Test
+    void selfAndAfterSkipsTheLevelsAbove() {
+        assertThat(descendants(all, 2, Flag.SELF_AND_AFTER)).containsExactly(ca, sf, la, or);
+    }
+
+    @Test
+    void selfKeepsOneLevel() {
+        assertThat(descendants(all, 1, Flag.SELF)).containsExactly(usa, mexico);
+    }
+}
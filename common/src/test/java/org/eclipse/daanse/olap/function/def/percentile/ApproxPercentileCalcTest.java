@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.percentile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.Context;
+import org.eclipse.daanse.olap.api.ContextConfig;
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.execution.Statement;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.eclipse.daanse.olap.api.type.NumericType;
+import org.eclipse.daanse.olap.calc.base.constant.ConstantDoubleCalc;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.eclipse.daanse.olap.exceptions.ResourceLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ApproxPercentile evaluates its set as the exact Percentile does.
+ */
+class ApproxPercentileCalcTest {
+
+    private Evaluator evaluator;
+    private ContextConfig config;
+    private Calc<?> exp;
+    private ApproxPercentileCalc calc;
+
+    @BeforeEach
+    void setUp() {
+        config = mock(ContextConfig.class);
+        Context<?> context = mock(Context.class);
+        when(context.getConfig()).thenReturn(config);
+        Connection connection = mock(Connection.class);
+        doReturn(context).when(connection).getContext();
+        Query query = mock(Query.class);
+        when(query.getConnection()).thenReturn(connection);
+        when(query.getStatement()).thenReturn(mock(Statement.class));
+
+        evaluator = mock(Evaluator.class);
+        when(evaluator.getQuery()).thenReturn(query);
+        when(evaluator.getIterationLength()).thenReturn(1);
+        Member measure = mock(Member.class);
+        when(measure.isCalculated()).thenReturn(true);
+        when(evaluator.getMembers()).thenReturn(new Member[] { measure });
+
+        TupleListCalc tupleListCalc = mock(TupleListCalc.class);
+        when(tupleListCalc.evaluate(any())).thenReturn(
+            new UnaryTupleList(List.of(mock(Member.class), mock(Member.class), mock(Member.class))));
+        exp = mock(Calc.class);
+        doReturn(1.0, 2.0, 3.0).when(exp).evaluate(evaluator);
+        calc = new ApproxPercentileCalc(NumericType.INSTANCE, tupleListCalc, exp,
+            new ConstantDoubleCalc(NumericType.INSTANCE, 50.0));
+    }
+
+    @Test
+    void medianOfASmallSetIsExact() {
+        assertThat(calc.evaluate(evaluator)).isEqualTo(2.0);
+    }
+
+    @Test
+    void setOverTheIterationLimitIsRefused() {
+        when(config.iterationLimit()).thenReturn(4);
+        when(evaluator.getIterationLength()).thenReturn(2);
+
+        assertThatThrownBy(() -> calc.evaluate(evaluator)).isInstanceOf(ResourceLimitExceededException.class);
+        verify(exp, never()).evaluate(any());
+    }
+}
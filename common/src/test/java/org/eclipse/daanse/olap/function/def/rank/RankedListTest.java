@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.rank;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.ArrayTupleList;
+import org.junit.jupiter.api.Test;
+
+class RankedListTest {
+
+    /** A member equal to every member of the same name, but not the same object. */
+    private static Member named(String name) {
+        return (Member) Proxy.newProxyInstance(Member.class.getClassLoader(), new Class<?>[] { Member.class },
+            (proxy, method, args) -> switch (method.getName()) {
+            case "equals" -> args[0] instanceof Member other && name.equals(other.getName());
+            case "hashCode" -> name.hashCode();
+            case "getName", "toString" -> name;
+            default -> null;
+            });
+    }
+
+    @Test
+    void tuplesAreFoundByPositionOfTheirFirstOccurrence() {
+        Member a = mock(Member.class);
+        Member b = mock(Member.class);
+        Member x = mock(Member.class);
+        TupleList list = new ArrayTupleList(2, 4, 0);
+        list.addTuple(a, x);
+        list.addTuple(b, x);
+        list.addTuple(a, x);
+        list.addTuple(x, a);
+
+        RankedTupleList ranked = new RankedTupleList(list);
+
+        assertThat(ranked.indexOf(new Member[] { a, x })).isZero();
+        assertThat(ranked.indexOf(new Member[] { b, x })).isEqualTo(1);
+        assertThat(ranked.indexOf(new Member[] { x, a })).isEqualTo(3);
+        assertThat(ranked.indexOf(new Member[] { x, b })).isEqualTo(-1);
+    }
+
+    @Test
+    void membersAreFoundByPositionOfTheirFirstOccurrence() {
+        Member a = mock(Member.class);
+        Member b = mock(Member.class);
+
+        RankedMemberList ranked = new RankedMemberList(List.of(a, b, a));
+
+        assertThat(ranked.indexOf(a)).isZero();
+        assertThat(ranked.indexOf(b)).isEqualTo(1);
+        assertThat(ranked.indexOf(mock(Member.class))).isEqualTo(-1);
+    }
+
+    @Test
+    void equalMembersRankAtTheFirstOfThem() {
+        Member a = named("a");
+        Member b = named("b");
+        Member anotherA = named("a");
+
+        RankedMemberList ranked = new RankedMemberList(List.of(a, b, anotherA));
+
+        assertThat(ranked.indexOf(anotherA)).isZero();
+        assertThat(ranked.indexOf(a)).isZero();
+        assertThat(ranked.indexOf(named("a"))).isZero();
+    }
+
+    @Test
+    void equalTuplesRankAtTheFirstOfThem() {
+        Member a = named("a");
+        Member x = named("x");
+        Member anotherA = named("a");
+        TupleList list = new ArrayTupleList(2, 3, 0);
+        list.addTuple(a, x);
+        list.addTuple(x, a);
+        list.addTuple(anotherA, x);
+
+        RankedTupleList ranked = new RankedTupleList(list);
+
+        assertThat(ranked.indexOf(new Member[] { anotherA, x })).isZero();
+        assertThat(ranked.indexOf(new Member[] { named("a"), named("x") })).isZero();
+        assertThat(ranked.indexOf(new Member[] { x, anotherA })).isEqualTo(1);
+    }
+}
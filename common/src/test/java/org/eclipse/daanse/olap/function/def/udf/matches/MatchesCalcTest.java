@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.function.def.udf.matches;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.daanse.olap.api.calc.StringCalc;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.type.BooleanType;
+import org.eclipse.daanse.olap.api.type.StringType;
+import org.eclipse.daanse.olap.calc.base.constant.ConstantStringCalc;
+import org.junit.jupiter.api.Test;
+
+class MatchesCalcTest {
+
+    private final Evaluator evaluator = mock(Evaluator.class);
+
+    @Test
+    void constantRegexMatchesWholeString() {
+        StringCalc stringCalc = mock(StringCalc.class);
+        MatchesCalc calc = new MatchesCalc(BooleanType.INSTANCE, stringCalc,
+                new ConstantStringCalc(StringType.INSTANCE, "Bay.*"));
+
+        when(stringCalc.evaluate(evaluator)).thenReturn("Bayern");
+        assertThat(calc.evaluate(evaluator)).isTrue();
+        when(stringCalc.evaluate(evaluator)).thenReturn("Oberbayern");
+        assertThat(calc.evaluate(evaluator)).isFalse();
+    }
+
+    @Test
+    void changingRegexIsFollowed() {
+        StringCalc stringCalc = mock(StringCalc.class);
+        StringCalc regexCalc = mock(StringCalc.class);
+        MatchesCalc calc = new MatchesCalc(BooleanType.INSTANCE, stringCalc, regexCalc);
+        when(stringCalc.evaluate(evaluator)).thenReturn("Jena");
+
+        when(regexCalc.evaluate(evaluator)).thenReturn("J.*");
+        assertThat(calc.evaluate(evaluator)).isTrue();
+        when(regexCalc.evaluate(evaluator)).thenReturn("W.*");
+        assertThat(calc.evaluate(evaluator)).isFalse();
+    }
+
+    @Test
+    void invalidConstantRegexFailsAtEvaluation() {
+        StringCalc stringCalc = mock(StringCalc.class);
+        MatchesCalc calc = new MatchesCalc(BooleanType.INSTANCE, stringCalc,
+                new ConstantStringCalc(StringType.INSTANCE, "Bay("));
+        when(stringCalc.evaluate(evaluator)).thenReturn("Bayern");
+
+        assertThatThrownBy(() -> calc.evaluate(evaluator)).isInstanceOf(PatternSyntaxException.class);
+    }
+}
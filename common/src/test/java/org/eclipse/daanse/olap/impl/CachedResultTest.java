@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.execution.Statement;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.eclipse.daanse.olap.api.result.Axis;
+import org.eclipse.daanse.olap.api.result.Cell;
+import org.eclipse.daanse.olap.api.result.Property.StandardCellProperty;
+import org.eclipse.daanse.olap.api.result.Result;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A snapshot keeps every cell of a result in ordinal order, with the cell
+ * properties that have values, and answers for the result when bound to a
+ * later execution.
+ */
+class CachedResultTest {
+
+    private static final String FORMAT_STRING = StandardCellProperty.FORMAT_STRING.getName();
+
+    /**
+     * A result with axes of the given lengths. The value of a cell spells its
+     * coordinates: 1.0 plus one digit per axis, the first axis last.
+     */
+    static Result result(Query query, int... lengths) {
+        Result result = mock(Result.class);
+        Axis[] axes = new Axis[lengths.length];
+        for (int i = 0; i < lengths.length; i++) {
+            List<Member> members = new ArrayList<>();
+            for (int j = 0; j < lengths[i]; j++) {
+                members.add(mock(Member.class));
+            }
+            axes[i] = mock(Axis.class);
+            when(axes[i].getTupleList()).thenReturn(new UnaryTupleList(members));
+        }
+        when(result.getAxes()).thenReturn(axes);
+        when(result.getSlicerAxis()).thenReturn(mock(Axis.class));
+        when(result.getQuery()).thenReturn(query);
+        when(result.getCell(any())).thenAnswer(invocation -> cell(invocation.<int[]>getArgument(0)));
+        return result;
+    }
+
+    static double value(int... pos) {
+        double value = 1;
+        for (int i = pos.length - 1; i >= 0; i--) {
+            value = value * 10 + pos[i];
+        }
+        return value;
+    }
+
+    private static Cell cell(int[] pos) {
+        Cell cell = mock(Cell.class);
+        double value = value(pos);
+        when(cell.getValue()).thenReturn(value);
+        when(cell.getFormattedValue()).thenReturn(String.valueOf(value));
+        // Only the cells at the start of the first axis have a format.
+        if (pos[0] == 0) {
+            when(cell.getPropertyValue(FORMAT_STRING)).thenReturn("#,##0");
+        }
+        return cell;
+    }
+
+    private static Result bind(CachedResult snapshot) {
+        Query query = mock(Query.class);
+        Statement statement = mock(Statement.class);
+        when(statement.getQuery()).thenReturn(query);
+        Execution execution = mock(Execution.class);
+        when(execution.getDaanseStatement()).thenReturn(statement);
+        return snapshot.bind(execution);
+    }
+
+    @Test
+    void cellsAreKeptInOrdinalOrder() {
+        CachedResult snapshot = CachedResult.of(result(mock(Query.class), 2, 3, 2), 100);
+        Result bound = bind(snapshot);
+
+        assertThat(snapshot.cellCount()).isEqualTo(12);
+        for (int ordinal = 0; ordinal < 12; ordinal++) {
+            int[] pos = { ordinal % 2, ordinal / 2 % 3, ordinal / 6 };
+            Cell cell = bound.getCell(pos);
+            assertThat(cell.getValue()).isEqualTo(value(pos));
+            assertThat(cell.getFormattedValue()).isEqualTo(String.valueOf(value(pos)));
+            assertThat(cell.getPropertyValue(StandardCellProperty.CELL_ORDINAL.getName())).isEqualTo(ordinal);
+            assertThat(cell.getCoordinateList()).containsExactly(pos[0], pos[1], pos[2]);
+        }
+    }
+
+    @Test
+    void cellPropertiesWithValuesAreKept() {
+        Result bound = bind(CachedResult.of(result(mock(Query.class), 2, 2), 100));
+
+        Cell formatted = bound.getCell(new int[] { 0, 1 });
+        assertThat(formatted.getPropertyValue(FORMAT_STRING.toLowerCase())).isEqualTo("#,##0");
+        assertThat(formatted.getCachedFormatString()).isEqualTo("#,##0");
+        assertThat(formatted.getPropertyValue(StandardCellProperty.VALUE.getName())).isEqualTo(value(0, 1));
+        assertThat(bound.getCell(new int[] { 1, 1 }).getPropertyValue(FORMAT_STRING)).isNull();
+        assertThat(formatted.getPropertyValue(StandardCellProperty.FORE_COLOR.getName())).isNull();
+    }
+
+    @Test
+    void resultWithAnErrorCellIsNotKept() {
+        Result result = result(mock(Query.class), 2, 2);
+        Cell error = mock(Cell.class);
+        when(error.isError()).thenReturn(true);
+        when(result.getCell(new int[] { 1, 0 })).thenReturn(error);
+
+        assertThat(CachedResult.of(result, 100)).isNull();
+    }
+
+    @Test
+    void resultLargerThanTheLimitIsNotKept() {
+        assertThat(CachedResult.of(result(mock(Query.class), 3, 4), 11)).isNull();
+        assertThat(CachedResult.of(result(mock(Query.class), 3, 4), 12)).isNotNull();
+    }
+
+    @Test
+    void cellOfACachedResultIsOnlyRead() {
+        Result bound = bind(CachedResult.of(result(mock(Query.class), 2, 2), 100));
+        Cell cell = bound.getCell(new int[] { 0, 0 });
+
+        assertThat(cell.isError()).isFalse();
+        assertThat(cell.canDrillThrough()).isFalse();
+        assertThatThrownBy(() -> cell.setValue(null, 1.0, null)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> bound.getCell(new int[] { 2, 0 })).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> bound.getCell(new int[] { 0 })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
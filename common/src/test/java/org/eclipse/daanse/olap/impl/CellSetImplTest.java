@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.daanse.mdx.model.api.expression.operation.FunctionOperationAtom;
+import org.eclipse.daanse.olap.api.Context;
+import org.eclipse.daanse.olap.api.ContextConfig;
+import org.eclipse.daanse.olap.api.Parameter;
+import org.eclipse.daanse.olap.api.access.Role;
+import org.eclipse.daanse.olap.api.cache.QueryResultCache;
+import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.execution.AdmissionController;
+import org.eclipse.daanse.olap.api.execution.Execution;
+import org.eclipse.daanse.olap.api.query.component.Id;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.eclipse.daanse.olap.api.query.component.QueryAxis;
+import org.eclipse.daanse.olap.api.query.component.ResolvedFunCall;
+import org.eclipse.daanse.olap.api.query.component.visit.QueryComponentVisitor;
+import org.eclipse.daanse.olap.api.result.CellCursor;
+import org.eclipse.daanse.olap.api.result.Scenario;
+import org.eclipse.daanse.olap.api.result.WritebackCell;
+import org.eclipse.daanse.olap.calc.base.cache.QueryResultCacheImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A cell set numbers its cells with the first axis varying fastest, and takes
+ * its result from the query result cache when an equal query was run before,
+ * only offering results to the cache that another connection may see.
+ */
+class CellSetImplTest {
+
+    private static final String MDX = "SELECT FROM [Sales]";
+
+    private final QueryResultCache cache = new QueryResultCacheImpl(1000, 60);
+    private Connection connection;
+    private Query query;
+    private Parameter parameter;
+
+    @BeforeEach
+    void setUp() {
+        ContextConfig config = mock(ContextConfig.class);
+        when(config.queryResultCacheSize()).thenReturn(1000);
+        Context<?> context = mock(Context.class);
+        when(context.getConfig()).thenReturn(config);
+        doReturn(Optional.of(cache)).when(context).getQueryResultCache();
+        when(context.getAdmissionController()).thenReturn(AdmissionController.UNLIMITED);
+        connection = mock(Connection.class);
+        doReturn(context).when(connection).getContext();
+        when(connection.getRole()).thenReturn(mock(Role.class));
+        when(connection.getLocale()).thenReturn(Locale.GERMANY);
+        StatementImpl internal = new StatementImpl(connection);
+        when(connection.getInternalStatement()).thenReturn(internal);
+
+        query = query(2, 3);
+        parameter = mock(Parameter.class);
+        when(parameter.getValue()).thenReturn("USA");
+        when(query.getParameters()).thenReturn(new Parameter[] { parameter });
+    }
+
+    /** A query with axes of the given lengths, and a result to match. */
+    private Query query(int... lengths) {
+        Query query = mock(Query.class);
+        QueryAxis[] axes = new QueryAxis[lengths.length];
+        for (int i = 0; i < lengths.length; i++) {
+            axes[i] = mock(QueryAxis.class);
+            when(axes[i].getDimensionProperties()).thenReturn(new Id[0]);
+        }
+        when(query.getAxes()).thenReturn(axes);
+        when(query.getParameters()).thenReturn(new Parameter[0]);
+        Catalog catalog = mock(Catalog.class);
+        when(catalog.getId()).thenReturn("catalog");
+        when(catalog.getCatalogLoadDate()).thenReturn(Instant.EPOCH);
+        Cube cube = mock(Cube.class);
+        when(cube.getCatalog()).thenReturn(catalog);
+        when(query.getCube()).thenReturn(cube);
+        doAnswer(invocation -> {
+            invocation.<PrintWriter>getArgument(0).print(MDX);
+            return null;
+        }).when(query).unparse(any(PrintWriter.class));
+        when(connection.execute(any(Execution.class)))
+            .thenAnswer(invocation -> CachedResultTest.result(query, lengths));
+        return query;
+    }
+
+    private CellSetImpl execute(boolean useResultCache) {
+        StatementImpl statement = new StatementImpl(connection);
+        statement.setQuery(query);
+        CellSetImpl cellSet = new CellSetImpl(statement, useResultCache);
+        cellSet.execute();
+        return cellSet;
+    }
+
+    private QueryResultCache.Key key() {
+        StatementImpl statement = new StatementImpl(connection);
+        statement.setQuery(query);
+        return new CellSetImpl(statement).resultCacheKey();
+    }
+
+    @Test
+    void secondExecutionIsServedFromTheCache() {
+        CellSetImpl first = execute(true);
+        CellSetImpl second = execute(true);
+
+        verify(connection, times(1)).execute(any(Execution.class));
+        assertThat(second.getAxes()).hasSize(2);
+        assertThat(second.getAxes().get(1).getPositionCount()).isEqualTo(3);
+        for (int x = 0; x < 2; x++) {
+            for (int y = 0; y < 3; y++) {
+                assertThat(second.getCell(x, y).getValue())
+                    .isEqualTo(first.getCell(x, y).getValue())
+                    .isEqualTo(CachedResultTest.value(x, y));
+            }
+        }
+    }
+
+    @Test
+    void drillThroughNeitherReadsNorFillsTheCache() {
+        execute(false);
+        execute(false);
+        execute(true);
+
+        verify(connection, times(3)).execute(any(Execution.class));
+    }
+
+    @Test
+    void resultOfAConnectionWithPendingWritebackIsNotShared() {
+        Scenario scenario = mock(Scenario.class);
+        when(scenario.getWritebackCells()).thenReturn(List.of(mock(WritebackCell.class)));
+        when(scenario.pendingCubes()).thenReturn(Set.of());
+        when(connection.getScenario()).thenReturn(scenario);
+
+        assertThat(key()).isNull();
+        execute(true);
+        execute(true);
+        verify(connection, times(2)).execute(any(Execution.class));
+    }
+
+    @Test
+    void resultOfAVolatileCallIsNotShared() {
+        ResolvedFunCall now = mock(ResolvedFunCall.class);
+        when(now.getOperationAtom()).thenReturn(new FunctionOperationAtom("Now"));
+        when(query.accept(any(QueryComponentVisitor.class)))
+            .thenAnswer(invocation -> invocation.<QueryComponentVisitor>getArgument(0).visitResolvedFunCall(now));
+
+        assertThat(key()).isNull();
+        execute(true);
+        execute(true);
+        verify(connection, times(2)).execute(any(Execution.class));
+    }
+
+    @Test
+    void keyTellsApartWhatChangesTheResult() {
+        QueryResultCache.Key key = key();
+        assertThat(key()).isEqualTo(key);
+        assertThat(key.mdx()).isEqualTo(MDX);
+        assertThat(key.parameters()).containsExactly("USA");
+        assertThat(key.locale()).isEqualTo(Locale.GERMANY);
+        assertThat(key.catalogId()).isEqualTo("catalog");
+
+        when(connection.getLocale()).thenReturn(Locale.FRANCE);
+        assertThat(key()).isNotEqualTo(key);
+        when(connection.getLocale()).thenReturn(Locale.GERMANY);
+
+        when(parameter.getValue()).thenReturn("Mexico");
+        assertThat(key()).isNotEqualTo(key);
+        when(parameter.getValue()).thenReturn("USA");
+
+        when(connection.getRole()).thenReturn(mock(Role.class));
+        assertThat(key()).isNotEqualTo(key);
+    }
+
+    @Test
+    void ordinalsVaryTheFirstAxisFastest() {
+        query = query(2, 3, 2);
+        CellSetImpl cellSet = execute(false);
+
+        for (int ordinal = 0; ordinal < 12; ordinal++) {
+            int[] pos = { ordinal % 2, ordinal / 2 % 3, ordinal / 6 };
+            assertThat(cellSet.ordinalToCoordinates(ordinal)).containsExactly(pos);
+            assertThat(cellSet.coordinatesToOrdinal(pos)).isEqualTo(ordinal);
+            assertThat(cellSet.getCellByOrdinal(ordinal).getValue()).isEqualTo(CachedResultTest.value(pos));
+        }
+    }
+
+    @Test
+    void ordinalOrCoordinatesOutsideTheCellSetAreRefused() {
+        query = query(2, 3, 2);
+        CellSetImpl cellSet = execute(false);
+
+        assertThatThrownBy(() -> cellSet.ordinalToCoordinates(12)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> cellSet.ordinalToCoordinates(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> cellSet.coordinatesToOrdinal(0, 3, 0))
+            .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> cellSet.coordinatesToOrdinal(0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursorVisitsEveryCellInOrdinalOrder() {
+        query = query(2, 3, 2);
+        CellSetImpl cellSet = execute(false);
+        CellCursor cursor = cellSet.cursor();
+
+        for (int ordinal = 0; ordinal < 12; ordinal++) {
+            assertThat(cursor.next()).isTrue();
+            int[] pos = { ordinal % 2, ordinal / 2 % 3, ordinal / 6 };
+            assertThat(cursor.getOrdinal()).isEqualTo(ordinal);
+            assertThat(new int[] { cursor.getCoordinate(0), cursor.getCoordinate(1), cursor.getCoordinate(2) })
+                .containsExactly(pos);
+            assertThat(cursor.getValue()).isEqualTo(CachedResultTest.value(pos));
+            assertThat(cursor.getCell().getCoordinateList()).containsExactly(pos[0], pos[1], pos[2]);
+        }
+        assertThat(cursor.next()).isFalse();
+        assertThatThrownBy(cursor::getValue).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void cursorRangeStartsAtItsBeginAndEndsAtTheLastCell() {
+        query = query(2, 3, 2);
+        CellSetImpl cellSet = execute(false);
+        CellCursor cursor = cellSet.cursor(10, 100);
+
+        assertThat(cursor.getOrdinal()).isEqualTo(9);
+        assertThatThrownBy(cursor::getValue).isInstanceOf(IllegalStateException.class);
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.getOrdinal()).isEqualTo(10);
+        assertThat(cursor.getValue()).isEqualTo(CachedResultTest.value(0, 2, 1));
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.getValue()).isEqualTo(CachedResultTest.value(1, 2, 1));
+        assertThat(cursor.next()).isFalse();
+        assertThat(cursor.getOrdinal()).isEqualTo(12);
+    }
+
+    @Test
+    void cursorRangeBeyondTheCellsIsEmpty() {
+        query = query(2, 3, 2);
+        CellSetImpl cellSet = execute(false);
+
+        assertThat(cellSet.cursor(20, 30).next()).isFalse();
+        assertThat(cellSet.cursor(4, 4).next()).isFalse();
+        assertThatThrownBy(() -> cellSet.cursor(-1, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cellSet.cursor(5, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursorMovesOnlyWithinItsRange() {
+        query = query(2, 3, 2);
+        CellSetImpl cellSet = execute(false);
+        CellCursor cursor = cellSet.cursor(3, 7);
+
+        cursor.moveTo(5);
+        assertThat(cursor.getOrdinal()).isEqualTo(5);
+        assertThat(cursor.getValue()).isEqualTo(CachedResultTest.value(1, 2, 0));
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.getValue()).isEqualTo(CachedResultTest.value(0, 0, 1));
+        assertThat(cursor.next()).isFalse();
+
+        assertThatThrownBy(() -> cursor.moveTo(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> cursor.moveTo(7)).isInstanceOf(IndexOutOfBoundsException.class);
+        cursor.moveTo(3);
+        assertThat(cursor.getValue()).isEqualTo(CachedResultTest.value(1, 1, 0));
+    }
+}
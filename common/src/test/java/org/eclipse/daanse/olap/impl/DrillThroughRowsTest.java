@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+class DrillThroughRowsTest {
+
+    @Test
+    void serverLimitCapsWhatTheStatementAsksFor() {
+        assertThat(DrillThroughRows.maxRows(0, 0)).isZero();
+        assertThat(DrillThroughRows.maxRows(50, 0)).isEqualTo(50);
+        assertThat(DrillThroughRows.maxRows(0, 1000)).isEqualTo(1000);
+        assertThat(DrillThroughRows.maxRows(50, 1000)).isEqualTo(50);
+        assertThat(DrillThroughRows.maxRows(5000, 1000)).isEqualTo(1000);
+    }
+
+    @Test
+    void readingStopsAtTheLimit() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn("row");
+
+        ResultSet limited = DrillThroughRows.limit(resultSet, 2);
+
+        assertThat(limited.next()).isTrue();
+        assertThat(limited.getString(1)).isEqualTo("row");
+        assertThat(limited.next()).isTrue();
+        assertThat(limited.next()).isFalse();
+        verify(resultSet, times(2)).next();
+        verify(resultSet).setFetchSize(2);
+    }
+
+    /** A scrollable result set of ten rows. */
+    private static ResultSet tenRows() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.last()).thenReturn(true);
+        when(resultSet.getRow()).thenReturn(10);
+        when(resultSet.absolute(anyInt())).thenAnswer(invocation -> {
+            int row = invocation.<Integer>getArgument(0);
+            return row >= 1 && row <= 10;
+        });
+        return resultSet;
+    }
+
+    @Test
+    void positioningCannotReachPastTheLimit() throws SQLException {
+        ResultSet resultSet = tenRows();
+        ResultSet limited = DrillThroughRows.limit(resultSet, 3);
+
+        assertThat(limited.absolute(5)).isFalse();
+        assertThat(limited.isAfterLast()).isTrue();
+        assertThat(limited.getRow()).isZero();
+        verify(resultSet, never()).absolute(5);
+
+        assertThat(limited.last()).isTrue();
+        assertThat(limited.getRow()).isEqualTo(3);
+        assertThat(limited.isLast()).isTrue();
+        verify(resultSet).absolute(3);
+
+        assertThat(limited.relative(2)).isFalse();
+        assertThat(limited.isAfterLast()).isTrue();
+        assertThat(limited.next()).isFalse();
+        verify(resultSet, never()).next();
+    }
+
+    @Test
+    void positionsAreCountedFromTheEndOfTheView() throws SQLException {
+        ResultSet resultSet = tenRows();
+        ResultSet limited = DrillThroughRows.limit(resultSet, 3);
+
+        assertThat(limited.absolute(-1)).isTrue();
+        assertThat(limited.getRow()).isEqualTo(3);
+
+        limited.afterLast();
+        assertThat(limited.previous()).isTrue();
+        assertThat(limited.getRow()).isEqualTo(3);
+
+        assertThat(limited.first()).isTrue();
+        assertThat(limited.isFirst()).isTrue();
+        assertThat(limited.previous()).isFalse();
+        assertThat(limited.getRow()).isZero();
+        verify(resultSet, times(2)).absolute(3);
+        verify(resultSet).absolute(1);
+        verify(resultSet).beforeFirst();
+    }
+
+    @Test
+    void unlimitedResultSetIsOnlyAskedToFetchInBatches() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+
+        assertThat(DrillThroughRows.limit(resultSet, 0)).isSameAs(resultSet);
+        verify(resultSet).setFetchSize(DrillThroughRows.FETCH_SIZE);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.Context;
+import org.eclipse.daanse.olap.api.ContextConfig;
+import org.eclipse.daanse.olap.api.connection.Connection;
+import org.eclipse.daanse.olap.api.execution.AdmissionController;
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Admission;
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Permit;
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Priority;
+import org.eclipse.daanse.olap.api.execution.QueryAdmissionException;
+import org.eclipse.daanse.olap.api.query.component.Query;
+import org.eclipse.daanse.olap.api.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Every query a statement runs is admitted as the statement's admission, and
+ * its permit given back however the query ends.
+ */
+class StatementAdmissionTest {
+
+    private Connection connection;
+    private AdmissionController controller;
+    private Permit permit;
+    private Query query;
+
+    @BeforeEach
+    void setUp() {
+        ContextConfig config = mock(ContextConfig.class);
+        Context<?> context = mock(Context.class);
+        when(context.getConfig()).thenReturn(config);
+        controller = mock(AdmissionController.class);
+        permit = mock(Permit.class);
+        when(controller.admit(any())).thenReturn(permit);
+        when(context.getAdmissionController()).thenReturn(controller);
+        connection = mock(Connection.class);
+        doReturn(context).when(connection).getContext();
+        query = mock(Query.class);
+        when(connection.parseQuery("SELECT FROM [Sales]")).thenReturn(query);
+    }
+
+    @Test
+    void queryIsAdmittedAsTheStatementsAdmission() {
+        Result result = mock(Result.class);
+        when(connection.execute(query)).thenReturn(result);
+        StatementImpl statement = new StatementImpl(connection);
+        Admission export = new Admission("a", List.of("Analyst"), "Analyst", Priority.BATCH);
+        statement.setAdmission(export);
+
+        assertThat(statement.executeSelect("SELECT FROM [Sales]")).isSameAs(result);
+        verify(controller).admit(export);
+        verify(permit).close();
+    }
+
+    @Test
+    void statementOfNobodyInParticularIsAdmittedAnonymously() {
+        StatementImpl statement = new StatementImpl(connection);
+
+        statement.executeSelect("SELECT FROM [Sales]");
+
+        assertThat(statement.getAdmission()).isSameAs(Admission.ANONYMOUS);
+        verify(controller).admit(Admission.ANONYMOUS);
+    }
+
+    @Test
+    void permitIsGivenBackWhenTheQueryFails() {
+        when(connection.execute(query)).thenThrow(new IllegalStateException("boom"));
+        StatementImpl statement = new StatementImpl(connection);
+
+        assertThatThrownBy(() -> statement.executeSelect("SELECT FROM [Sales]"))
+            .isInstanceOf(IllegalStateException.class);
+        verify(permit).close();
+    }
+
+    @Test
+    void refusedQueryIsNotRun() {
+        when(controller.admit(any())).thenThrow(new QueryAdmissionException("queue full"));
+        StatementImpl statement = new StatementImpl(connection);
+
+        assertThatThrownBy(() -> statement.executeSelect("SELECT FROM [Sales]"))
+            .isInstanceOf(QueryAdmissionException.class);
+        verify(connection, never()).execute(query);
+    }
+}
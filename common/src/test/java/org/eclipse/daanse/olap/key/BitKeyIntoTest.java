@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BitKeyIntoTest {
+
+    private static BitKey key(int size, int... bits) {
+        BitKey key = BitKey.Factory.makeBitKey(size);
+        for (int bit : bits) {
+            key.set(bit);
+        }
+        return key;
+    }
+
+    @Test
+    void intoAWideEnoughTargetReusesIt() {
+        BitKey b1 = key(300, 3, 200, 250);
+        BitKey b2 = key(300, 5, 200, 299);
+        BitKey target = key(300, 1);
+
+        assertThat(b1.andInto(b2, target)).isSameAs(target).isEqualTo(b1.and(b2));
+        assertThat(b1.orInto(b2, target)).isSameAs(target).isEqualTo(b1.or(b2));
+        assertThat(target.cardinality()).isEqualTo(5);
+    }
+
+    @Test
+    void targetMayBeAnOperand() {
+        BitKey mid = key(100, 3, 70);
+        BitKey small = key(10, 3, 4);
+
+        assertThat(mid.andInto(small, small)).isSameAs(small).isEqualTo(key(10, 3));
+        assertThat(mid.orInto(key(100, 99), mid)).isSameAs(mid).isEqualTo(key(100, 3, 70, 99));
+    }
+
+    @Test
+    void tooNarrowATargetIsLeftAlone() {
+        BitKey b1 = key(300, 3, 200);
+        BitKey b2 = key(300, 200);
+        BitKey small = key(10, 1);
+
+        BitKey result = b1.andInto(b2, small);
+
+        assertThat(result).isNotSameAs(small).isEqualTo(key(300, 200));
+        assertThat(small).isEqualTo(key(10, 1));
+    }
+
+    @Test
+    void andNotWithAWiderKey() {
+        assertThat(key(200, 3, 150).andNot(key(300, 3, 250))).isEqualTo(key(200, 150));
+    }
+}
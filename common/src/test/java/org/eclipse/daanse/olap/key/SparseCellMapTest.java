@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.key;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class SparseCellMapTest {
+
+    @Test
+    void numericCellsAreKeptAsDoubles() {
+        SparseCellMap cells = new SparseCellMap(new int[] { 3, 4, 5 }, true, 0);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 4; j++) {
+                cells.putDouble(new int[] { i, j, (i + j) % 5 }, i * 10 + j);
+            }
+        }
+        cells.put(new int[] { 2, 3, 4 }, null);
+
+        assertThat(cells.size()).isEqualTo(13);
+        assertThat(cells.getDouble(new int[] { 1, 2, 3 })).isEqualTo(12.0);
+        assertThat(cells.get(new int[] { 2, 0, 2 })).isEqualTo(20.0);
+        assertThat(cells.containsKey(new int[] { 2, 3, 4 })).isTrue();
+        assertThat(cells.isNull(new int[] { 2, 3, 4 })).isTrue();
+        assertThat(cells.containsKey(new int[] { 0, 0, 1 })).isFalse();
+        assertThat(cells.get(new int[] { 0, 0, 1 })).isNull();
+    }
+
+    @Test
+    void viewMatchesTheCellKeyMap() {
+        Map<CellKey, Object> map = new HashMap<>();
+        map.put(CellKey.Generator.newCellKey(new int[] { 0, 1 }), "a");
+        map.put(CellKey.Generator.newCellKey(new int[] { 7, 0 }), 3);
+        map.put(CellKey.Generator.newCellKey(new int[] { 7, 9 }), null);
+
+        SparseCellMap cells = SparseCellMap.of(map, new int[] { 8, 10 });
+
+        assertThat(cells.isNumeric()).isFalse();
+        assertThat(cells.asMap()).isEqualTo(map);
+        assertThat(cells.asMap().get(CellKey.Generator.newCellKey(new int[] { 7, 0 }))).isEqualTo(3);
+    }
+
+    @Test
+    void keysTooWideForALongAreKeptAsInts() {
+        int[] lengths = new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE };
+        SparseCellMap cells = new SparseCellMap(lengths, false, 2);
+        for (int i = 0; i < 100; i++) {
+            cells.put(new int[] { i, Integer.MAX_VALUE - 1 - i, i * 7 }, i);
+        }
+        assertThat(cells.size()).isEqualTo(100);
+        assertThat(cells.get(new int[] { 42, Integer.MAX_VALUE - 43, 294 })).isEqualTo(42);
+        assertThat(cells.asMap()).containsEntry(
+            CellKey.Generator.newCellKey(new int[] { 99, Integer.MAX_VALUE - 100, 693 }), 99);
+    }
+
+    @Test
+    void coordinatesOutsideTheAxesAreRejected() {
+        SparseCellMap cells = new SparseCellMap(new int[] { 2, 2 }, true, 0);
+        assertThatThrownBy(() -> cells.put(new int[] { 2, 0 }, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.query.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.calc.Calc;
+import org.eclipse.daanse.olap.api.calc.ResultStyle;
+import org.eclipse.daanse.olap.api.calc.compiler.ExpressionCompiler;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.element.Catalog;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.element.NamedSet;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.api.query.component.Expression;
+import org.eclipse.daanse.olap.api.query.component.Formula;
+import org.eclipse.daanse.olap.api.query.component.ParameterExpression;
+import org.eclipse.daanse.olap.api.query.component.visit.QueryComponentVisitor;
+import org.eclipse.daanse.olap.api.type.MemberType;
+import org.eclipse.daanse.olap.api.type.SetType;
+import org.eclipse.daanse.olap.calc.base.cache.ExpressionResultCacheImpl;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.eclipse.daanse.olap.element.SetBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A static named set is evaluated once and its list kept for later queries,
+ * unless its evaluation missed cells or the cube was flushed since.
+ */
+class MaterializedSetExpressionTest {
+
+    private final ExpressionResultCacheImpl cache = new ExpressionResultCacheImpl(1000);
+    private Cube cube;
+    private Expression exp;
+    private TupleListCalc listCalc;
+    private ExpressionCompiler compiler;
+    private Evaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        cube = mock(Cube.class);
+        Catalog catalog = mock(Catalog.class);
+        when(catalog.getId()).thenReturn("catalog");
+        when(cube.getCatalog()).thenReturn(catalog);
+        when(cube.getNamedSets()).thenReturn(new NamedSet[0]);
+
+        exp = setExpression("{[Store].[USA].Children}");
+        listCalc = mock(TupleListCalc.class);
+        when(listCalc.evaluate(any())).thenAnswer(invocation -> new UnaryTupleList(List.of(mock(Member.class))));
+        compiler = mock(ExpressionCompiler.class);
+        when(compiler.getAcceptableResultStyles()).thenReturn(List.of(ResultStyle.ITERABLE, ResultStyle.LIST));
+        when(compiler.compileList(exp)).thenReturn(listCalc);
+
+        evaluator = mock(Evaluator.class);
+        when(evaluator.getNonAllMembers()).thenReturn(new Member[0]);
+        when(evaluator.getCatalogReader()).thenReturn(mock(CatalogReader.class));
+    }
+
+    private static Expression setExpression(String mdx) {
+        Expression exp = mock(Expression.class);
+        when(exp.getType()).thenReturn(new SetType(MemberType.Unknown));
+        doAnswer(invocation -> {
+            invocation.<PrintWriter>getArgument(0).print(mdx);
+            return null;
+        }).when(exp).unparse(any(PrintWriter.class));
+        return exp;
+    }
+
+    private TupleListCalc compile() {
+        return (TupleListCalc) new MaterializedSetExpression(exp, cube, List.of(), cache).accept(compiler);
+    }
+
+    @Test
+    void secondEvaluationIsServedFromTheCache() {
+        TupleListCalc calc = compile();
+
+        TupleList first = calc.evaluate(evaluator);
+        TupleList second = compile().evaluate(evaluator);
+
+        assertThat(second).isSameAs(first);
+        verify(listCalc, times(1)).evaluate(evaluator);
+    }
+
+    @Test
+    void keptListIsNotOfferedAsMutable() {
+        assertThat(compile().getResultStyle()).isEqualTo(ResultStyle.LIST);
+    }
+
+    @Test
+    void callerWantingAMutableListGetsThePlainExpression() {
+        Calc<?> plain = mock(Calc.class);
+        when(compiler.getAcceptableResultStyles()).thenReturn(List.of(ResultStyle.MUTABLE_LIST));
+        doReturn(plain).when(exp).accept(compiler);
+
+        assertThat(new MaterializedSetExpression(exp, cube, List.of(), cache).accept(compiler)).isSameAs(plain);
+    }
+
+    @Test
+    void listEvaluatedWithACellMissIsNotKept() {
+        when(evaluator.getMissCount()).thenReturn(0, 1, 1, 1);
+        TupleListCalc calc = compile();
+
+        calc.evaluate(evaluator);
+        calc.evaluate(evaluator);
+
+        verify(listCalc, times(2)).evaluate(evaluator);
+    }
+
+    @Test
+    void flushingTheCubeDropsTheList() {
+        TupleListCalc calc = compile();
+
+        TupleList first = calc.evaluate(evaluator);
+        cache.flush(cube);
+
+        assertThat(calc.evaluate(evaluator)).isNotSameAs(first);
+        verify(listCalc, times(2)).evaluate(evaluator);
+    }
+
+    @Test
+    void listIsNotSharedBetweenNonEmptyAndPlainEvaluation() {
+        TupleListCalc calc = compile();
+
+        calc.evaluate(evaluator);
+        when(evaluator.isNonEmpty()).thenReturn(true);
+        calc.evaluate(evaluator);
+
+        verify(listCalc, times(2)).evaluate(evaluator);
+    }
+
+    @Test
+    void shareNamedSetsWrapsOnlyShareableSets() {
+        SetBase shareable = new SetBase("Shareable", null, null, exp, true, null);
+        Expression parameterized = setExpression("{StrToSet(@Stores)}");
+        doAnswer(invocation -> invocation.<QueryComponentVisitor>getArgument(0)
+            .visitParameterExpression(mock(ParameterExpression.class)))
+            .when(parameterized).accept(any(QueryComponentVisitor.class));
+        SetBase notShareable = new SetBase("NotShareable", null, null, parameterized, true, null);
+        Formula member = mock(Formula.class);
+        when(member.isMember()).thenReturn(true);
+
+        QueryImpl.shareNamedSets(
+            new Formula[] { formula(shareable), formula(notShareable), member }, cube, cache);
+
+        assertThat(shareable.getExp()).isInstanceOf(MaterializedSetExpression.class);
+        assertThat(((MaterializedSetExpression) shareable.getExp()).getExp()).isSameAs(exp);
+        assertThat(notShareable.getExp()).isSameAs(parameterized);
+
+        // Sharing twice does not wrap twice.
+        QueryImpl.shareNamedSets(new Formula[] { formula(shareable) }, cube, cache);
+        assertThat(((MaterializedSetExpression) shareable.getExp()).getExp()).isSameAs(exp);
+    }
+
+    private static Formula formula(SetBase set) {
+        Formula formula = mock(Formula.class);
+        when(formula.getNamedSet()).thenReturn(set);
+        return formula;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.query.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.daanse.olap.api.calc.tuple.TupleList;
+import org.eclipse.daanse.olap.api.calc.tuple.TupleListCalc;
+import org.eclipse.daanse.olap.api.catalog.CatalogReader;
+import org.eclipse.daanse.olap.api.element.Hierarchy;
+import org.eclipse.daanse.olap.api.element.Level;
+import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.evaluator.Evaluator;
+import org.eclipse.daanse.olap.calc.base.type.tuplebase.UnaryTupleList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The members a subselect leaves visible are those on the same chain as the
+ * selection, found without looking at the rest of the hierarchy.
+ */
+class SubcubeMembersCalcTest {
+
+    private Hierarchy hierarchy;
+    private Evaluator evaluator;
+    private final Map<Member, List<Member>> children = new LinkedHashMap<>();
+    private Member all;
+    private Member usa;
+    private Member ca;
+    private Member or;
+    private Member sf;
+    private Member la;
+    private Member portland;
+    private Member mexico;
+
+    @BeforeEach
+    void setUp() {
+        hierarchy = mock(Hierarchy.class);
+        Level leafLevel = mock(Level.class);
+        when(leafLevel.getDepth()).thenReturn(3);
+        doReturn(List.of(mock(Level.class), mock(Level.class), mock(Level.class), leafLevel)).when(hierarchy)
+                .getLevels();
+        all = member(null);
+        usa = member(all);
+        mexico = member(all);
+        ca = member(usa);
+        or = member(usa);
+        sf = member(ca);
+        la = member(ca);
+        portland = member(or);
+
+        CatalogReader reader = mock(CatalogReader.class);
+        when(reader.getMemberChildren(anyList())).thenAnswer(invocation -> {
+            List<Member> result = new ArrayList<>();
+            for (Member parent : invocation.<List<Member>>getArgument(0)) {
+                result.addAll(children.getOrDefault(parent, List.of()));
+            }
+            return result;
+        });
+        evaluator = mock(Evaluator.class);
+        when(evaluator.getCatalogReader()).thenReturn(reader);
+    }
+
+    private Member member(Member parent) {
+        Member member = mock(Member.class);
+        when(member.getHierarchy()).thenReturn(hierarchy);
+        when(member.getParentMember()).thenReturn(parent);
+        when(member.getDepth()).thenReturn(parent == null ? 0 : parent.getDepth() + 1);
+        if (parent != null) {
+            children.computeIfAbsent(parent, p -> new ArrayList<>()).add(member);
+        }
+        return member;
+    }
+
+    private static TupleListCalc selecting(Member... members) {
+        TupleListCalc calc = mock(TupleListCalc.class);
+        when(calc.evaluate(org.mockito.ArgumentMatchers.any())).thenReturn(new UnaryTupleList(List.of(members)));
+        return calc;
+    }
+
+    private List<Member> visible(TupleListCalc... axisCalcs) {
+        TupleList list = new SubcubeMembersCalc(hierarchy, axisCalcs).evaluateInternal(evaluator);
+        return list.slice(0);
+    }
+
+    @Test
+    void oneAxisKeepsAncestorsAndDescendantsOfTheSelection() {
+        assertThat(visible(selecting(ca))).containsExactly(all, usa, ca, sf, la);
+    }
+
+    @Test
+    void selectingAMemberAndItsAncestorKeepsBothSubtrees() {
+        assertThat(visible(selecting(usa, ca))).containsExactlyInAnyOrder(all, usa, ca, or, sf, la, portland);
+    }
+
+    @Test
+    void selectingAMemberAndADescendantKeepsTheWholeSubtree() {
+        // ca is reached first as the ancestor of sf, and must still be expanded
+        // below usa - the selection skips the level of ca.
+        assertThat(visible(selecting(usa, sf))).containsExactlyInAnyOrder(all, usa, ca, or, sf, la, portland);
+        assertThat(visible(selecting(sf, usa))).containsExactlyInAnyOrder(all, usa, ca, or, sf, la, portland);
+    }
+
+    @Test
+    void selectingTheRootAndALeafKeepsEverything() {
+        assertThat(visible(selecting(sf, all))).containsExactlyInAnyOrder(all, usa, mexico, ca, or, sf, la,
+                portland);
+    }
+
+    @Test
+    void severalAxesKeepOnlyLeavesRelatedToEveryAxis() {
+        assertThat(visible(selecting(usa), selecting(ca, mexico))).containsExactly(all, usa, ca, sf, la);
+        assertThat(visible(selecting(or), selecting(ca))).isEmpty();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+
+import org.eclipse.daanse.olap.api.aggregator.DistinctCountSketch;
+import org.junit.jupiter.api.Test;
+
+class DistinctKeySketchTest {
+
+    private static DistinctKeySketch sketch(int exactLimit, long from, long to) {
+        DistinctKeySketch sketch = new DistinctKeySketch(exactLimit);
+        for (long key = from; key < to; key++) {
+            sketch.add(key);
+        }
+        return sketch;
+    }
+
+    @Test
+    void countsSmallKeySetsExactly() {
+        DistinctKeySketch sketch = sketch(100, 0, 50);
+        sketch.add(7);
+        sketch.add(7L);
+        sketch.add(null);
+
+        assertThat(sketch.isExact()).isTrue();
+        assertThat(sketch.cardinality()).isEqualTo(50);
+    }
+
+    @Test
+    void unionCountsOverlappingKeysOnce() {
+        DistinctCountSketch union = sketch(100, 0, 30).union(sketch(100, 20, 60));
+
+        assertThat(union.isExact()).isTrue();
+        assertThat(union.cardinality()).isEqualTo(60);
+    }
+
+    @Test
+    void switchesToAnEstimateAboveTheLimit() {
+        DistinctKeySketch sketch = sketch(1000, 0, 200_000);
+
+        assertThat(sketch.isExact()).isFalse();
+        assertThat((double) sketch.cardinality()).isCloseTo(200_000, within(200_000 * 0.03));
+    }
+
+    @Test
+    void exactAndEstimatingSketchesMerge() {
+        DistinctCountSketch union = sketch(1000, 0, 100_000).union(sketch(1000, 50_000, 50_500));
+        DistinctCountSketch other = sketch(1000, 90_000, 150_000).union(union);
+
+        assertThat((double) union.cardinality()).isCloseTo(100_000, within(100_000 * 0.03));
+        assertThat((double) other.cardinality()).isCloseTo(150_000, within(150_000 * 0.03));
+    }
+
+    @Test
+    void stringKeysAreCounted() {
+        DistinctKeySketch sketch = new DistinctKeySketch(10);
+        sketch.add("a");
+        sketch.add("b");
+        sketch.add(new StringBuilder("a"));
+
+        assertThat(sketch.cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void decimalKeysAreCountedByValue() {
+        DistinctKeySketch sketch = new DistinctKeySketch(10);
+        sketch.add(new BigDecimal("1.0"));
+        sketch.add(new BigDecimal("1.00"));
+        sketch.add(new BigDecimal("1.5"));
+        sketch.add(1.5d);
+        sketch.add(2.5d);
+
+        assertThat(sketch.cardinality()).isEqualTo(4);
+    }
+
+    @Test
+    void wideKeysAreHashedFromTheirFullValue() {
+        // Equal 32-bit hash codes, different values.
+        Timestamp t1 = new Timestamp(0);
+        t1.setNanos(1);
+        Timestamp t2 = new Timestamp(0);
+        t2.setNanos(2);
+        BigInteger b1 = BigInteger.ONE.shiftLeft(64).add(BigInteger.valueOf(31));
+        BigInteger b2 = BigInteger.ONE.shiftLeft(64).add(BigInteger.ONE.shiftLeft(32));
+
+        assertThat(t1.hashCode()).isEqualTo(t2.hashCode());
+        assertThat(DistinctKeySketch.hash(t1)).isNotEqualTo(DistinctKeySketch.hash(t2));
+        assertThat(b1.hashCode()).isEqualTo(b2.hashCode());
+        assertThat(DistinctKeySketch.hash(b1)).isNotEqualTo(DistinctKeySketch.hash(b2));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TDigestTest {
+
+    @Test
+    void smallSetsAreExact() {
+        TDigest digest = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        for (double value : new double[] { 5, 1, 4, 2, 3, Double.NaN }) {
+            digest.add(value);
+        }
+
+        assertThat(digest.size()).isEqualTo(5);
+        assertThat(digest.quantile(0.5)).isEqualTo(3.0);
+        assertThat(digest.quantile(0.3)).isEqualTo(2.2, within(1e-9));
+        assertThat(digest.quantile(0)).isEqualTo(1.0);
+        assertThat(digest.quantile(1)).isEqualTo(5.0);
+    }
+
+    @Test
+    void emptyDigestHasNoQuantile() {
+        assertThat(new TDigest(TDigest.DEFAULT_COMPRESSION).quantile(0.5)).isNaN();
+    }
+
+    @Test
+    void largeSetsAreEstimatedAndPartsMerge() {
+        Random random = new Random(42);
+        double[] values = new double[200_000];
+        TDigest whole = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        TDigest even = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        TDigest odd = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * 10 + 50;
+            whole.add(values[i]);
+            (i % 2 == 0 ? even : odd).add(values[i]);
+        }
+        even.merge(odd);
+        Arrays.sort(values);
+
+        assertThat(even.size()).isEqualTo(values.length);
+        for (double q : new double[] { 0.01, 0.25, 0.5, 0.75, 0.99 }) {
+            double exact = values[(int) (q * (values.length - 1))];
+            assertThat(whole.quantile(q)).isCloseTo(exact, within(0.2));
+            assertThat(even.quantile(q)).isCloseTo(exact, within(0.2));
+        }
+        assertThat(whole.quantile(1)).isEqualTo(values[values.length - 1]);
+    }
+}
@@ -29,7 +29,9 @@ import java.util.BitSet;
 import java.util.Map;
 import java.util.SortedSet;
 
+import org.eclipse.daanse.olap.api.aggregator.DistinctCountSketch;
 import org.eclipse.daanse.olap.key.CellKey;
+import org.eclipse.daanse.olap.key.SparseCellMap;
 
 /**
  * SegmentBody is the object which contains the cached data of a
@@ -49,6 +51,28 @@ public interface SegmentBody extends Serializable {
      */
     Map<CellKey, Object> getValueMap();
 
+    /**
+     * Returns the contents of this segment as a map from cell coordinates to
+     * values which holds no object per cell. Use only for sparse segments.
+     *
+     * <p>The default implementation copies {@link #getValueMap()}. Bodies
+     * which keep their cells in a {@link SparseCellMap} return it here, and
+     * its {@link SparseCellMap#asMap() view} from {@link #getValueMap()}.</p>
+     *
+     * @return Cell values keyed by their coordinates
+     */
+    default SparseCellMap getSparseCellMap() {
+        final SortedSet<Comparable>[] axisValueSets = getAxisValueSets();
+        final boolean[] nullAxisFlags = getNullAxisFlags();
+        final int[] axisLengths = new int[axisValueSets.length];
+        for (int i = 0; i < axisLengths.length; i++) {
+            // the null value, if any, is the last ordinal of its axis
+            axisLengths[i] = axisValueSets[i].size()
+                + (nullAxisFlags != null && nullAxisFlags[i] ? 1 : 0);
+        }
+        return SparseCellMap.of(getValueMap(), axisLengths);
+    }
+
     /**
      * Returns an array of values.
      *
@@ -84,4 +108,17 @@ public interface SegmentBody extends Serializable {
      * @return An array of boolean values.
      */
     boolean[] getNullAxisFlags();
+
+    /**
+     * Returns the sketch of the distinct keys counted by a cell of this
+     * segment. Only a segment of a distinct-count measure loaded with
+     * sketches has them; the evaluator answers
+     * {@code Evaluator#evaluateSketch()} from here.
+     *
+     * @param cellKey Coordinates of the cell within this segment
+     * @return Sketch of the cell, or null if this segment keeps none
+     */
+    default DistinctCountSketch getSketch(CellKey cellKey) {
+        return null;
+    }
 }
@@ -22,6 +22,7 @@ import org.eclipse.daanse.lcid.api.LcidService;
 import org.eclipse.daanse.olap.api.ContextGroup;
 import org.eclipse.daanse.olap.api.connection.Connection;
 import org.eclipse.daanse.olap.xmla.connector.execute.OlapExecute;
+import org.eclipse.daanse.olap.xmla.connector.session.SessionNamedSets;
 import org.eclipse.daanse.olap.xmla.connector.session.SessionScenarios;
 import org.eclipse.daanse.xmla.api.RowsetProvider;
 import org.eclipse.daanse.xmla.api.RowsetScope;
@@ -36,6 +37,7 @@ import org.eclipse.daanse.xmla.api.XmlaSessionHandler;
 import org.eclipse.daanse.xmla.api.auth.AuthenticatedIdentity;
 import org.eclipse.daanse.olap.xmla.connector.api.ocd.SessionConfig;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -125,15 +127,22 @@ public class OlapXmlaConnector extends SimpleSessionHandler implements XmlaConne
     private RowsetProvider<ContextListSupplyer> discoverSchemaRowsets;
 
     private ContextsSupplyerImpl contexts;
-    private OlapExecute execute;
+    private volatile OlapExecute execute;
 
     /**
      * The pending writeback values of each session, released when the session ends.
      */
     private final SessionScenarios scenarios = new SessionScenarios();
 
+    /**
+     * The named sets each session keeps between its queries, released when the
+     * session ends.
+     */
+    private final SessionNamedSets namedSets = new SessionNamedSets(() -> config.sessionNamedSetTuples());
+
     private volatile SessionConfig config;
     private ScheduledExecutorService sweeper;
+    private ExecutorService batchPool;
 
     /*
      * target must be configured. no auto fetch of a ContextGroup
@@ -202,7 +211,7 @@ public class OlapXmlaConnector extends SimpleSessionHandler implements XmlaConne
     void activate(SessionConfig config) {
         this.config = config;
         this.contexts = new ContextsSupplyerImpl(contextGroup);
-        this.execute = new OlapExecute(contexts, scenarios, lcidService, this::dispatch);
+        startBatchPool();
         startSweeper();
     }
 
@@ -217,6 +226,8 @@ public class OlapXmlaConnector extends SimpleSessionHandler implements XmlaConne
     void modified(SessionConfig config) {
         this.config = config;
         stopSweeper();
+        stopBatchPool();
+        startBatchPool();
         startSweeper();
     }
 
@@ -225,11 +236,41 @@ public class OlapXmlaConnector extends SimpleSessionHandler implements XmlaConne
         // The sweeper first, so it cannot race the drain and close the same connections
         // twice.
         stopSweeper();
+        stopBatchPool();
         for (XmlaSession session : sessions()) {
             expire(session.id());
         }
     }
 
+    /**
+     * The threads running the statements of a Batch beside the request thread,
+     * and the execute path that uses them - rebuilt together, so a changed
+     * parallelism takes effect for the next Batch.
+     */
+    private void startBatchPool() {
+        int parallelism = config.batchParallelism();
+        ExecutorService pool = null;
+        if (parallelism > 1) {
+            // The request thread runs statements too, so one thread fewer.
+            pool = Executors.newFixedThreadPool(parallelism - 1, runnable -> {
+                Thread thread = new Thread(runnable, "daanse-xmla-batch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        batchPool = pool;
+        execute = new OlapExecute(contexts, scenarios, namedSets, pool, parallelism, lcidService, this::dispatch);
+    }
+
+    private void stopBatchPool() {
+        ExecutorService running = batchPool;
+        batchPool = null;
+        if (running != null) {
+            // Not shutdownNow: a Batch already running finishes on the old threads.
+            running.shutdown();
+        }
+    }
+
     private void startSweeper() {
         long interval = config.sessionSweepIntervalSeconds();
         if (interval <= 0 || (config.sessionIdleTimeoutSeconds() <= 0 && config.sessionMaxLifetimeSeconds() <= 0)) {
@@ -365,6 +406,7 @@ public class OlapXmlaConnector extends SimpleSessionHandler implements XmlaConne
     @Override
     protected void onEndSession(String sessionId) {
         scenarios.clear(sessionId);
+        namedSets.clear(sessionId);
         close(contexts.getSessionCache().remove(sessionId));
     }
 
@@ -374,6 +416,7 @@ public class OlapXmlaConnector extends SimpleSessionHandler implements XmlaConne
      */
     @Override
     protected void onIdentityBound(String sessionId, AuthenticatedIdentity identity) {
+        namedSets.clear(sessionId);
         Map<String, Connection> held = contexts.getSessionCache().get(sessionId);
         if (held != null) {
             Map<String, Connection> opened = Map.copyOf(held);
@@ -63,4 +63,23 @@ public @interface SessionConfig {
      */
     @AttributeDefinition(name = "%maxSessions.name", description = "%maxSessions.description")
     int maxSessions() default 0;
+
+    /**
+     * How many tuples of evaluated named sets a session may keep for its next
+     * queries. Off by default: what is kept is memory held for as long as the
+     * session lasts, and only the deployment knows how many sessions it has.
+     */
+    @AttributeDefinition(name = "%sessionNamedSetTuples.name", description = "%sessionNamedSetTuples.description")
+    long sessionNamedSetTuples() default 0;
+
+    /**
+     * How many statements of one {@code Batch} may run at once. Only a batch that
+     * declares {@code <Parallel>} and holds nothing but queries runs in parallel -
+     * a writeback statement depends on the ones before it - and never wider than
+     * the catalog has SQL slots free. The answers come back in command order
+     * either way; {@code 1}, the default, runs every batch in order on the
+     * request thread.
+     */
+    @AttributeDefinition(name = "%batchParallelism.name", description = "%batchParallelism.description")
+    int batchParallelism() default 1;
 }
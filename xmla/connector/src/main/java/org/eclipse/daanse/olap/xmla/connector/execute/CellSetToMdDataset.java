@@ -30,7 +30,7 @@ import org.eclipse.daanse.olap.api.element.PseudoLeafMember;
 import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.query.NameSegment;
 import org.eclipse.daanse.olap.api.query.component.QueryComponent;
-import org.eclipse.daanse.olap.api.result.Cell;
+import org.eclipse.daanse.olap.api.result.CellCursor;
 import org.eclipse.daanse.olap.api.result.CellSet;
 import org.eclipse.daanse.olap.api.result.CellSetAxis;
 import org.eclipse.daanse.olap.api.result.CellSetAxisMetaData;
@@ -141,13 +141,23 @@ public final class CellSetToMdDataset {
 
     /** The whole dataset: OlapInfo, axes with slicer, cells. */
     public static MdDataset toMdDataset(CellSet cellSet, boolean omitDefaultSlicerInfo) {
+        return toMdDataset(cellSet, omitDefaultSlicerInfo, -1, -1);
+    }
+
+    /**
+     * The dataset with the cells whose ordinals lie between {@code beginRange}
+     * and {@code endRange}, both inclusive, as the XMLA properties of the same
+     * names ask; -1 leaves that end open. Axes are written in full.
+     */
+    public static MdDataset toMdDataset(CellSet cellSet, boolean omitDefaultSlicerInfo, int beginRange,
+            int endRange) {
         List<String> queryCellPropertyNames = queryCellPropertyNames(cellSet);
         List<Hierarchy> slicerAxisHierarchies = slicerAxisHierarchies(cellSet, omitDefaultSlicerInfo);
 
         MdDataset dataset = FACTORY.createMdDataset();
         dataset.setOlapInfo(olapInfo(cellSet, queryCellPropertyNames, omitDefaultSlicerInfo));
         dataset.setAxes(axes(cellSet, omitDefaultSlicerInfo, slicerAxisHierarchies));
-        dataset.setCellData(cellData(cellSet, queryCellPropertyNames));
+        dataset.setCellData(cellData(cellSet, queryCellPropertyNames, beginRange, endRange));
         return dataset;
     }
 
@@ -452,35 +462,25 @@ public final class CellSetToMdDataset {
 
     // --- cells ---
 
-    private static CellData cellData(CellSet cellSet, List<String> queryCellPropertyNames) {
+    private static CellData cellData(CellSet cellSet, List<String> queryCellPropertyNames, int beginRange,
+            int endRange) {
         CellData cellData = FACTORY.createCellData();
-        final int axisCount = cellSet.getAxes().size();
-        List<Integer> pos = new ArrayList<>();
-        for (int i = 0; i < axisCount; i++) {
-            pos.add(-1);
-        }
-        int[] cellOrdinal = new int[] { 0 };
-        recurse(cellSet, pos, axisCount - 1, cellOrdinal, queryCellPropertyNames, cellData.getCell());
-        return cellData;
-    }
-
-    private static void recurse(CellSet cellSet, List<Integer> pos, int axisOrdinal, int[] cellOrdinal,
-            List<String> queryCellPropertyNames, List<CellType> into) {
-        if (axisOrdinal < 0) {
-            cell(cellSet, pos, cellOrdinal[0]++, queryCellPropertyNames, into);
+        List<CellType> into = cellData.getCell();
+        CellCursor cursor;
+        if (beginRange < 0 && endRange < 0) {
+            cursor = cellSet.cursor();
         } else {
-            CellSetAxis axis = cellSet.getAxes().get(axisOrdinal);
-            List<Position> positions = axis.getPositions();
-            for (int i = 0, n = positions.size(); i < n; i++) {
-                pos.set(axisOrdinal, i);
-                recurse(cellSet, pos, axisOrdinal - 1, cellOrdinal, queryCellPropertyNames, into);
-            }
+            int end = endRange < 0 ? Integer.MAX_VALUE : (int) Math.min(Integer.MAX_VALUE, endRange + 1L);
+            cursor = cellSet.cursor(Math.max(0, beginRange), Math.max(Math.max(0, beginRange), end));
         }
+        while (cursor.next()) {
+            cell(cursor, queryCellPropertyNames, into);
+        }
+        return cellData;
     }
 
-    private static void cell(CellSet cellSet, List<Integer> pos, int ordinal, List<String> queryCellPropertyNames,
-            List<CellType> into) {
-        Cell cell = cellSet.getCell(pos);
+    private static void cell(CellCursor cell, List<String> queryCellPropertyNames, List<CellType> into) {
+        final int ordinal = cell.getOrdinal();
 
         boolean allPropertiesEmpty = true;
         for (String propertyName : queryCellPropertyNames) {
@@ -16,21 +16,28 @@ package org.eclipse.daanse.olap.xmla.connector.execute;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.daanse.lcid.api.LcidService;
 import org.eclipse.daanse.mdx.model.api.select.Allocation;
 import org.eclipse.daanse.olap.api.Command;
 import org.eclipse.daanse.olap.api.Context;
-import org.eclipse.daanse.olap.api.cache.CacheControl;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
 import org.eclipse.daanse.olap.api.connection.Connection;
 import org.eclipse.daanse.olap.api.connection.ConnectionProps;
 import org.eclipse.daanse.olap.api.element.Cube;
 import org.eclipse.daanse.olap.api.element.Measure;
 import org.eclipse.daanse.olap.api.element.Member;
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Admission;
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Priority;
 import org.eclipse.daanse.olap.api.query.component.CalculatedFormula;
 import org.eclipse.daanse.olap.api.query.component.DmvQuery;
 import org.eclipse.daanse.olap.api.query.component.DrillThrough;
@@ -47,6 +54,7 @@ import org.eclipse.daanse.olap.api.result.Cell;
 import org.eclipse.daanse.olap.api.result.CellSet;
 import org.eclipse.daanse.olap.api.result.CellSetAxis;
 import org.eclipse.daanse.olap.api.result.Scenario;
+import org.eclipse.daanse.olap.xmla.connector.session.SessionNamedSets;
 import org.eclipse.daanse.olap.xmla.connector.session.SessionScenarios;
 import org.eclipse.daanse.xmla.api.XmlaCommandFailedException;
 import org.eclipse.daanse.olap.common.StandardProperty;
@@ -66,6 +74,7 @@ import org.eclipse.daanse.xmla.model.xmla.Statement;
 import org.eclipse.daanse.xmla.model.xmla.XmlaFactory;
 import org.eclipse.daanse.xmla.api.XmlaRequest;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.util.ExtendedMetaData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -93,6 +102,12 @@ public class OlapExecute {
     /** What a client is told failed, in the place MSOLAP names its own engine. */
     private static final String SOURCE = "Eclipse Daanse OLAP";
 
+    /**
+     * The request property asking for a priority, as Analysis Services names its
+     * own.
+     */
+    static final String REQUEST_PRIORITY = "DbpropMsmdRequestPriority";
+
     /**
      * How a DMV query reaches the discover implementations without knowing them.
      */
@@ -102,13 +117,25 @@ public class OlapExecute {
 
     private final ContextListSupplyer contexts;
     private final SessionScenarios scenarios;
+    private final SessionNamedSets namedSets;
+    private final ExecutorService batchPool;
+    private final int batchParallelism;
     private final LcidService lcidService;
     private final Discoverer discoverer;
 
-    public OlapExecute(ContextListSupplyer contexts, SessionScenarios scenarios, LcidService lcidService,
-            Discoverer discoverer) {
+    /**
+     * @param batchPool        the threads running statements of a Batch beside the
+     *                         request thread; {@code null} runs every batch in order
+     * @param batchParallelism how many statements of one Batch may run at once,
+     *                         the request thread included
+     */
+    public OlapExecute(ContextListSupplyer contexts, SessionScenarios scenarios, SessionNamedSets namedSets,
+            ExecutorService batchPool, int batchParallelism, LcidService lcidService, Discoverer discoverer) {
         this.contexts = contexts;
         this.scenarios = scenarios;
+        this.namedSets = namedSets;
+        this.batchPool = batchPool;
+        this.batchParallelism = batchParallelism;
         this.lcidService = lcidService;
         this.discoverer = discoverer;
     }
@@ -118,8 +145,15 @@ public class OlapExecute {
      * none.
      */
     public EObject execute(Execute request, XmlaRequest context) {
+        return execute(request, context, Priority.INTERACTIVE);
+    }
+
+    /**
+     * Runs one command, its queries admitted with the given priority.
+     */
+    private EObject execute(Execute request, XmlaRequest context, Priority priority) {
         if (request.getCommand() instanceof Statement statement) {
-            return statement(statement, request, context);
+            return statement(statement, request, context, priority);
         }
         if (request.getCommand() instanceof Cancel) {
             return cancel(context);
@@ -131,7 +165,10 @@ public class OlapExecute {
                 || request.getCommand() instanceof ClearCache) {
             // The bridge answered both with an empty result: Alter because the schema comes
             // from a provider it cannot change, ClearCache because old mondrian never had
-            // it.
+            // it. The sets sessions keep are this connector's own, so those at least go.
+            if (request.getCommand() instanceof ClearCache) {
+                namedSets.clear();
+            }
             return null;
         }
         throw new UnsupportedOperationException(
@@ -139,6 +176,46 @@ public class OlapExecute {
                         + " is not run by this connector yet");
     }
 
+    /**
+     * Who the caller's queries are admitted as by the catalog's admission
+     * controller; the statements running them wait for it.
+     * <p>
+     * The tenant is the caller's first role in the catalog, or the caller when
+     * it has none: that is how a deployment serving several parties on one
+     * catalog tells them apart.
+     */
+    private static Admission admission(Context<?> olapContext, XmlaRequest request, Priority priority) {
+        List<String> roles = rolesOf(request, olapContext);
+        String user = request.userName();
+        String tenant = roles.isEmpty() ? user : roles.get(0);
+        return new Admission(user, roles, tenant, priority);
+    }
+
+    /**
+     * The priority a request asks for with {@value #REQUEST_PRIORITY}: {@code Low}
+     * or {@code Batch} admits its queries as {@link Priority#BATCH}, anything
+     * else as the command would otherwise run.
+     */
+    static Priority priority(EObject properties, Priority priority) {
+        EStructuralFeature feature = properties == null ? null : xmlFeature(properties, REQUEST_PRIORITY);
+        Object value = feature == null ? null : properties.eGet(feature);
+        if (value != null && ("Low".equalsIgnoreCase(value.toString().trim())
+                || "Batch".equalsIgnoreCase(value.toString().trim()))) {
+            return Priority.BATCH;
+        }
+        return priority;
+    }
+
+    /**
+     * A statement that runs its queries for the caller.
+     */
+    private static org.eclipse.daanse.olap.api.execution.Statement statementFor(Connection connection,
+            Admission admission) {
+        org.eclipse.daanse.olap.api.execution.Statement statement = connection.createStatement();
+        statement.setAdmission(admission);
+        return statement;
+    }
+
     /**
      * Cancels every running statement the caller's roles can reach, as the bridge
      * did.
@@ -159,7 +236,7 @@ public class OlapExecute {
         return null;
     }
 
-    private EObject statement(Statement statement, Execute request, XmlaRequest context) {
+    private EObject statement(Statement statement, Execute request, XmlaRequest context, Priority priority) {
         String mdx = statement.getStatement();
         if (mdx == null || mdx.isBlank()) {
             LOGGER.warn("Empty statement received");
@@ -208,11 +285,12 @@ public class OlapExecute {
             LOGGER.warn("no catalog named and more than one available; nothing is run");
             return null;
         }
+        Admission admission = admission(olapContext.get(), context, priority(properties, priority));
         if (queryComponent instanceof Query query) {
-            return runQuery(query, properties, sessionId);
+            return runQuery(query, properties, sessionId, admission);
         }
         if (queryComponent instanceof DrillThrough drillThrough) {
-            return drillThrough(drillThrough, properties, sessionId);
+            return drillThrough(drillThrough, properties, sessionId, admission);
         }
         if (queryComponent instanceof SqlQuery sqlQuery) {
             return sql(sqlQuery, properties);
@@ -221,7 +299,7 @@ public class OlapExecute {
             return transaction(connection, transaction, sessionId, context.userName());
         }
         if (queryComponent instanceof Update update) {
-            return update(connection, update, sessionId);
+            return update(connection, update, sessionId, admission);
         }
         if (queryComponent instanceof Refresh refresh) {
             return refresh(connection, refresh);
@@ -233,7 +311,7 @@ public class OlapExecute {
                 + " is not run by this connector yet");
     }
 
-    private EObject runQuery(Query query, PropertyList properties, String sessionId) {
+    private EObject runQuery(Query query, PropertyList properties, String sessionId, Admission admission) {
         Cube cube = query.getCube();
         // A writeback session's pending values take part in every query of that
         // session. Without one, the query gets a scenario of its own that nothing
@@ -244,13 +322,17 @@ public class OlapExecute {
             scenario = query.getConnection().createScenario();
         }
         query.getConnection().setScenario(scenario);
+        // Sets the session evaluated in an earlier query are not evaluated again.
+        ExpressionResultCache sessionSets = namedSets.of(sessionId);
+        if (sessionSets != null) {
+            query.shareNamedSets(sessionSets);
+        }
         // This cube's own pending values take part in the query; another cube's
         // would describe columns it does not have. The bracket holds the cube for
         // the whole query, so a second session cannot rewrite the fact underneath
         // this one.
         return cube.withPendingRows(scenario.pendingRows(cube), () -> {
-            org.eclipse.daanse.olap.api.execution.Statement statement = query.getConnection().createStatement();
-            CellSet cellSet = statement.executeQuery(query);
+            CellSet cellSet = statementFor(query.getConnection(), admission).executeQuery(query);
 
             // Content=Data (the default) omits the default slicer info, as SSAS does;
             // DATA_INCLUDE_DEFAULT_SLICER asks for it back.
@@ -265,7 +347,11 @@ public class OlapExecute {
                     && "Tabular".equalsIgnoreCase(properties.getFormat())) {
                 return applyContent(TabularResults.fromCellSet(cellSet, schemaIncluded(properties)), properties);
             }
-            return CellSetToMdDataset.toMdDataset(cellSet, omitDefaultSlicerInfo);
+            // BeginRange/EndRange ask for a page of the cells; -1 or absent means
+            // from the first or to the last.
+            int beginRange = properties == null ? -1 : rangeProperty("BeginRange", properties.getBeginRange());
+            int endRange = properties == null ? -1 : rangeProperty("EndRange", properties.getEndRange());
+            return CellSetToMdDataset.toMdDataset(cellSet, omitDefaultSlicerInfo, beginRange, endRange);
         });
     }
 
@@ -279,6 +365,8 @@ public class OlapExecute {
             scenarios.begin(sessionId, connection.createScenario());
         } else if (transaction.getCommand() == Command.ROLLBACK) {
             scenarios.clear(sessionId);
+            // Its sets saw the values that were just thrown away.
+            namedSets.clear(sessionId);
         } else if (transaction.getCommand() == Command.COMMIT) {
             commit(scenarios.require(sessionId), sessionId, userId);
         }
@@ -314,6 +402,7 @@ public class OlapExecute {
             // writeback table in the catalog.
             for (Cube cube : scenario.pendingCubes()) {
                 cube.commit(scenario.pendingRows(cube), userId);
+                namedSets.flush(cube);
             }
         } catch (RuntimeException e) {
             LOGGER.error("Writeback[commit] failed", e);
@@ -323,7 +412,7 @@ public class OlapExecute {
         scenarios.clear(sessionId);
     }
 
-    private EObject update(Connection connection, Update update, String sessionId) {
+    private EObject update(Connection connection, Update update, String sessionId, Admission admission) {
         int clauseCount = update.getUpdateClauses() == null ? 0 : update.getUpdateClauses().size();
         LOGGER.info("Writeback[xmla] UPDATE cube='{}' clauses={} sessionId='{}'", update.getCubeName(), clauseCount,
                 sessionId);
@@ -338,23 +427,27 @@ public class OlapExecute {
         // not have, and would answer the caller with values never meant for it.
         cube.withPendingRows(scenario.pendingRows(cube), () -> {
             for (UpdateClause clause : update.getUpdateClauses()) {
-                applyUpdateClause(connection, scenario, cube, update.getCubeName(), clause);
+                applyUpdateClause(connection, admission, scenario, cube, update.getCubeName(), clause);
             }
             return null;
         });
+        // The session's pending values changed under the sets it keeps.
+        namedSets.clear(sessionId);
         return null;
     }
 
-    private void applyUpdateClause(Connection connection, Scenario scenario, Cube cube, String cubeName,
-            UpdateClause clause) {
+    private void applyUpdateClause(Connection connection, Admission admission, Scenario scenario, Cube cube,
+            String cubeName, UpdateClause clause) {
         String tuple = unparse(writer -> clause.getTupleExp().unparse(writer));
-        CellSet tupleSet = connection.createStatement().executeQuery("SELECT " + tuple + " ON 0 FROM " + cubeName);
+        CellSet tupleSet = statementFor(connection, admission)
+                .executeQuery("SELECT " + tuple + " ON 0 FROM " + cubeName);
         CellSetAxis axis = tupleSet.getAxes().getFirst();
 
         String valueExpression = unparse(writer -> clause.getValueExp().unparse(writer));
-        CellSet valueSet = connection.createStatement().executeQuery("WITH MEMBER [Measures].[m1] AS " + valueExpression
-                + " SELECT [Measures].[m1] ON 0 FROM " + cubeName + " CELL PROPERTIES VALUE");
-        Cell cell = valueSet.getCell(Arrays.asList(0));
+        CellSet valueSet = statementFor(connection, admission)
+                .executeQuery("WITH MEMBER [Measures].[m1] AS " + valueExpression + " SELECT [Measures].[m1] ON 0 FROM "
+                        + cubeName + " CELL PROPERTIES VALUE");
+        Cell cell = valueSet.getCellByOrdinal(0);
         Object resolvedValue = cell.getValue();
         AllocationPolicy allocationPolicy = allocationPolicy(clause.getAllocation());
 
@@ -389,7 +482,7 @@ public class OlapExecute {
             scenario.addPendingRows(cube,
                     cube.getAllocationValues(tuple, resolvedValue, allocationPolicy, connection.getRole()));
         }
-        connection.getCacheControl(null).flushSchemaCache();
+        connection.getContext().flushSchemaCache(connection);
     }
 
     private interface Unparsed {
@@ -419,8 +512,8 @@ public class OlapExecute {
         String cubeName = refresh.getCubeName();
         Cube cube = connection.getCatalog().lookupCube(cubeName)
                 .orElseThrow(() -> new RuntimeException("cube " + cubeName + " not found"));
-        CacheControl cacheControl = connection.getCacheControl(null);
-        cacheControl.flush(cacheControl.createMeasuresRegion(cube));
+        connection.getContext().flushCube(connection, cube);
+        namedSets.flush(cube);
         return null;
     }
 
@@ -467,6 +560,26 @@ public class OlapExecute {
                 && !"None".equalsIgnoreCase(content);
     }
 
+    /**
+     * A BeginRange or EndRange cell ordinal, -1 if it is absent. A value that is
+     * not a number is the client's error and is answered as one, rather than
+     * failing the statement with a bare NumberFormatException.
+     */
+    static int rangeProperty(String name, Object value) {
+        if (value instanceof Number number) {
+            return number.intValue();
+        }
+        if (value == null || value.toString().isBlank()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new XmlaCommandFailedException(null,
+                    "The " + name + " property must be a cell ordinal, not \"" + value + "\"", SOURCE, null, e);
+        }
+    }
+
     /**
      * The single place the data half of Content is applied. Dropping the rows after
      * they were built wastes the work but keeps one rule in one place; the four
@@ -531,7 +644,8 @@ public class OlapExecute {
         return ((org.eclipse.daanse.dmv.model.api.NumericLiteral) literal).value().toPlainString();
     }
 
-    private EObject drillThrough(DrillThrough drillThrough, PropertyList properties, String sessionId) {
+    private EObject drillThrough(DrillThrough drillThrough, PropertyList properties, String sessionId,
+            Admission admission) {
         Connection connection = drillThrough.getQuery().getConnection();
         boolean enableRowCount = connection.getContext().getConfig().enableTotalCount();
         int[] rowCountSlot = enableRowCount ? new int[] { 0 } : null;
@@ -547,8 +661,8 @@ public class OlapExecute {
                 try {
                     // The model carries no TableFields property (the api had one); nothing is
                     // passed.
-                    resultSet = connection.createStatement().executeQuery(drillThrough, java.util.Optional.empty(),
-                            rowCountSlot);
+                    resultSet = statementFor(connection, admission).executeQuery(drillThrough,
+                            java.util.Optional.empty(), rowCountSlot);
                     int rowCount = enableRowCount ? rowCountSlot[0] : -1;
                     return applyContent(RowsetResults.fromResultSet(resultSet, rowCount, schemaIncluded(properties)),
                             properties);
@@ -592,27 +706,174 @@ public class OlapExecute {
     }
 
     /**
-     * A Batch: every command in order, one entry per command in the
+     * A Batch: every command, one entry per command in command order in the
      * {@code xmla-m:results} answer. A command with nothing to say contributes an
      * {@code Emptyresult}, because a list cannot carry null.
      */
     private EObject batch(Batch batch, Execute request, XmlaRequest context) {
         org.eclipse.daanse.xmla.model.multipleresults.Results results = org.eclipse.daanse.xmla.model.multipleresults.MultipleResultsFactory.eINSTANCE
                 .createResults();
-        List<org.eclipse.daanse.xmla.model.xmla.Command> commands = batch.getCommand();
-        for (org.eclipse.daanse.xmla.model.xmla.Command command : commands) {
+        List<Execute> singles = new ArrayList<>();
+        for (org.eclipse.daanse.xmla.model.xmla.Command command : batch.getCommand()) {
             Execute single = XmlaFactory.eINSTANCE.createExecute();
             single.setCommand(org.eclipse.emf.ecore.util.EcoreUtil.copy(command));
             if (request.getProperties() != null) {
                 single.setProperties(org.eclipse.emf.ecore.util.EcoreUtil.copy(request.getProperties()));
             }
-            EObject result = execute(single, context);
-            results.getResults().add(result != null ? result
+            singles.add(single);
+        }
+        EObject[] answers = new EObject[singles.size()];
+        int parallelism = batchParallelism(batch, singles, request);
+        if (parallelism > 1) {
+            runConcurrently(singles, context, answers, parallelism);
+        } else {
+            for (int i = 0; i < singles.size(); i++) {
+                answers[i] = execute(singles.get(i), context, Priority.BATCH);
+            }
+        }
+        // In command order, however they ran.
+        for (EObject answer : answers) {
+            results.getResults().add(answer != null ? answer
                     : org.eclipse.daanse.xmla.model.empty.EmptyFactory.eINSTANCE.createEmptyresult());
         }
         return results;
     }
 
+    /**
+     * How many of a batch's statements run at once; {@code 1} runs them in order.
+     * <p>
+     * A batch runs in parallel only if it declares {@code <Parallel>} - a client
+     * sending a plain, transactional Batch expects it run in order - and only if
+     * it holds nothing but queries, whatever it declares: a writeback statement
+     * depends on the ones before it, and queries depend on nothing but the data.
+     * The width is bounded by the SQL slots and the query slots the catalog has
+     * free, so a batch does not queue its own statements behind each other. No
+     * permit is taken here - each statement is admitted by the engine and each
+     * SQL statement takes its own, and holding one per command would deadlock a
+     * batch wider than the limit. The statements are admitted as
+     * {@link Priority#BATCH}, so interactive queries overtake them.
+     */
+    int batchParallelism(Batch batch, List<Execute> singles, Execute request) {
+        if (batchPool == null || singles.size() < 2 || !declaresParallel(batch)) {
+            return 1;
+        }
+        for (Execute single : singles) {
+            if (!isQuery(single.getCommand())) {
+                return 1;
+            }
+        }
+        int parallelism = Math.min(batchParallelism, singles.size());
+        Optional<Context<?>> context = contextOf(request);
+        if (context.isPresent()) {
+            Semaphore queryLimit = context.get().getQueryLimitSemaphore();
+            if (queryLimit != null) {
+                parallelism = Math.min(parallelism, Math.max(1, queryLimit.availablePermits()));
+            }
+            parallelism = Math.min(parallelism, Math.max(1, context.get().getAdmissionController().available()));
+        }
+        return parallelism;
+    }
+
+    /**
+     * Whether a Batch carries a {@code <Parallel>} element. Read reflectively, by
+     * its XML name, so that it does not matter how the model names the feature.
+     */
+    static boolean declaresParallel(EObject batch) {
+        EStructuralFeature feature = xmlFeature(batch, "Parallel");
+        return feature != null && batch.eIsSet(feature);
+    }
+
+    /**
+     * The feature of a model object that stands for the XML element or attribute
+     * of the given name, or {@code null} if the model has none.
+     */
+    private static EStructuralFeature xmlFeature(EObject owner, String xmlName) {
+        for (EStructuralFeature feature : owner.eClass().getEAllStructuralFeatures()) {
+            if (xmlName.equalsIgnoreCase(ExtendedMetaData.INSTANCE.getName(feature))
+                    || xmlName.equalsIgnoreCase(feature.getName())) {
+                return feature;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether a command only reads: a statement that selects or drills through.
+     * Anything not recognised - including a statement opening with a comment - is
+     * taken to write, which only costs it the parallelism.
+     */
+    static boolean isQuery(org.eclipse.daanse.xmla.model.xmla.Command command) {
+        if (!(command instanceof Statement statement) || statement.getStatement() == null) {
+            return false;
+        }
+        String mdx = statement.getStatement().stripLeading().toUpperCase(Locale.ROOT);
+        return mdx.startsWith("SELECT") || mdx.startsWith("WITH") || mdx.startsWith("DRILLTHROUGH");
+    }
+
+    /** The catalog the batch runs against, or empty if unclear. */
+    private Optional<Context<?>> contextOf(Execute request) {
+        PropertyList properties = request.getProperties() == null ? null : request.getProperties().getPropertyList();
+        List<Context<?>> available = contexts.getContexts() == null ? List.of() : contexts.getContexts();
+        Optional<Context<?>> context;
+        if (properties != null && properties.getCatalog() != null && !properties.getCatalog().isEmpty()) {
+            context = contexts.getContext(properties.getCatalog());
+        } else {
+            context = available.size() == 1 ? Optional.of(available.get(0)) : Optional.empty();
+        }
+        return context;
+    }
+
+    /**
+     * Runs the statements on {@code parallelism} workers, the request thread being
+     * one of them, each taking the next statement not yet started.
+     * <p>
+     * A failure stops the workers from starting more, and the first failing
+     * statement in command order is what the caller is told, as in a batch run in
+     * order.
+     */
+    private void runConcurrently(List<Execute> singles, XmlaRequest context, EObject[] answers, int parallelism) {
+        AtomicInteger next = new AtomicInteger();
+        RuntimeException[] failures = new RuntimeException[singles.size()];
+        Runnable worker = () -> {
+            int i;
+            while ((i = next.getAndIncrement()) < singles.size()) {
+                try {
+                    answers[i] = execute(singles.get(i), context, Priority.BATCH);
+                } catch (RuntimeException e) {
+                    failures[i] = e;
+                    next.set(singles.size());
+                }
+            }
+        };
+        List<Future<?>> helpers = new ArrayList<>();
+        try {
+            for (int i = 1; i < parallelism; i++) {
+                helpers.add(batchPool.submit(worker));
+            }
+        } catch (RejectedExecutionException e) {
+            // The pool is being replaced; the request thread carries on with fewer helpers.
+            LOGGER.debug("batch runs with {} of {} workers", helpers.size() + 1, parallelism);
+        }
+        worker.run();
+        for (Future<?> helper : helpers) {
+            try {
+                helper.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                helpers.forEach(h -> h.cancel(true));
+                throw new RuntimeException("interrupted while waiting for the statements of a batch", e);
+            } catch (ExecutionException e) {
+                // The worker catches what the statements throw, so this is an Error.
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        for (RuntimeException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
     /**
      * The caller's roles, filtered against what <em>this</em> catalog defines.
      * <p>
@@ -18,7 +18,7 @@ import java.util.List;
 
 import org.eclipse.daanse.olap.api.element.Level;
 import org.eclipse.daanse.olap.api.element.Member;
-import org.eclipse.daanse.olap.api.result.Cell;
+import org.eclipse.daanse.olap.api.result.CellCursor;
 import org.eclipse.daanse.olap.api.result.Property;
 import org.eclipse.daanse.olap.api.result.CellSet;
 import org.eclipse.daanse.olap.api.result.CellSetAxis;
@@ -69,7 +69,7 @@ public final class TabularResults {
             this.encodedName = ElementNames.encode(name);
         }
 
-        abstract void render(Cell cell, Member[] members, RowsetRow into);
+        abstract void render(CellCursor cell, Member[] members, RowsetRow into);
     }
 
     private static final class CellColumn extends Column {
@@ -79,7 +79,7 @@ public final class TabularResults {
         }
 
         @Override
-        void render(Cell cell, Member[] members, RowsetRow into) {
+        void render(CellCursor cell, Member[] members, RowsetRow into) {
             if (cell.isNull()) {
                 return;
             }
@@ -111,7 +111,7 @@ public final class TabularResults {
         }
 
         @Override
-        void render(Cell cell, Member[] members, RowsetRow into) {
+        void render(CellCursor cell, Member[] members, RowsetRow into) {
             Member member = members[memberOrdinal];
             int depth = level.getDepth();
             if (member.getDepth() < depth) {
@@ -135,8 +135,6 @@ public final class TabularResults {
     public static RowsetResult fromCellSet(CellSet cellSet, boolean schemaIncluded) {
         List<CellSetAxis> axes = cellSet.getAxes();
         int axisCount = axes.size();
-        int[] pos = new int[axisCount];
-        List<Integer> posList = new PositionList(pos);
 
         boolean empty = false;
         int dimensionCount = 0;
@@ -211,8 +209,8 @@ public final class TabularResults {
 
         if (!empty) {
             if (axisCount == 0) {
-                Cell cell = cellSet.getCell(posList);
-                if (cell.getValue() != null) {
+                CellCursor cell = cellSet.cursor();
+                if (cell.next() && cell.getValue() != null) {
                     RowsetRow row = FACTORY.createRowsetRow();
                     for (Column column : columns) {
                         column.render(cell, members, row);
@@ -220,14 +218,15 @@ public final class TabularResults {
                     result.getRows().add(row);
                 }
             } else {
-                renderAxis(cellSet, axisCount - 1, 0, columns, members, pos, posList, result);
+                // Rows and, within a row, cell columns follow the cell ordinals.
+                renderAxis(cellSet, axisCount - 1, 0, columns, members, cellSet.cursor(), result);
             }
         }
         return result;
     }
 
     private static void renderAxis(CellSet cellSet, int axis, int memberStart, List<Column> columns, Member[] members,
-            int[] pos, List<Integer> posList, RowsetResult result) {
+            CellCursor cursor, RowsetResult result) {
         List<Position> positions = cellSet.getAxes().get(axis).getPositions();
         int length = axis == 0 ? 1 : positions.size();
         for (int index = 0; index < length; index++) {
@@ -238,41 +237,19 @@ public final class TabularResults {
                 members[ordinal] = positionMembers.get(j);
             }
             if (axis >= 2) {
-                renderAxis(cellSet, axis - 1, ordinal, columns, members, pos, posList, result);
+                renderAxis(cellSet, axis - 1, ordinal, columns, members, cursor, result);
             } else {
                 RowsetRow row = FACTORY.createRowsetRow();
-                pos[axis] = index;
-                pos[0] = 0;
                 for (Column column : columns) {
                     if (column instanceof MemberColumn) {
                         column.render(null, members, row);
                     } else {
-                        column.render(cellSet.getCell(posList), null, row);
-                        pos[0]++;
+                        cursor.next();
+                        column.render(cursor, null, row);
                     }
                 }
                 result.getRows().add(row);
             }
         }
     }
-
-    /** A live view of the coordinate array, as the cell lookup wants it. */
-    private static final class PositionList extends java.util.AbstractList<Integer> {
-
-        private final int[] values;
-
-        PositionList(int[] values) {
-            this.values = values;
-        }
-
-        @Override
-        public Integer get(int index) {
-            return values[index];
-        }
-
-        @Override
-        public int size() {
-            return values.length;
-        }
-    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.connector.session;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.eclipse.daanse.olap.calc.base.cache.ExpressionResultCacheImpl;
+
+/**
+ * The evaluated named sets each session keeps between its queries.
+ * <p>
+ * A client such as an Excel pivot table sends dozens of queries per session
+ * that define the same sets again - {@code WITH SET} a few thousand customers,
+ * then a few rows and columns of them. Only sets that do not depend on the
+ * query are kept (see
+ * {@link org.eclipse.daanse.olap.api.query.component.Query#shareNamedSets(ExpressionResultCache)}),
+ * as tuple lists, bounded per session by a number of tuples.
+ * <p>
+ * A kept set describes the data it was evaluated on, so it goes when that data
+ * changes - a refresh or a writeback commit - and when the session learns who
+ * is calling or ends.
+ */
+public final class SessionNamedSets {
+
+    private final Map<String, ExpressionResultCacheImpl> held = new ConcurrentHashMap<>();
+    private final LongSupplier maximumTuples;
+
+    /**
+     * @param maximumTuples how many tuples a session may keep, read when the
+     *                      session first keeps one; {@code 0} keeps none
+     */
+    public SessionNamedSets(LongSupplier maximumTuples) {
+        this.maximumTuples = maximumTuples;
+    }
+
+    /** The sets this session keeps, or {@code null} when it keeps none. */
+    public ExpressionResultCache of(String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        ExpressionResultCacheImpl cache = held.get(sessionId);
+        if (cache != null) {
+            return cache;
+        }
+        long maximum = maximumTuples.getAsLong();
+        if (maximum <= 0) {
+            return null;
+        }
+        return held.computeIfAbsent(sessionId, id -> new ExpressionResultCacheImpl(maximum));
+    }
+
+    /** Drops what every session keeps of a cube whose data changed. */
+    public void flush(Cube cube) {
+        for (ExpressionResultCache cache : held.values()) {
+            cache.flush(cube);
+        }
+    }
+
+    /** Drops what every session keeps. */
+    public void clear() {
+        for (ExpressionResultCache cache : held.values()) {
+            cache.clear();
+        }
+    }
+
+    /** Drops what this session keeps, keeping the session itself. */
+    public void clear(String sessionId) {
+        if (sessionId != null) {
+            ExpressionResultCache cache = held.remove(sessionId);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.connector.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.eclipse.daanse.olap.api.execution.AdmissionController.Priority;
+import org.eclipse.daanse.olap.xmla.connector.ContextListSupplyer;
+import org.eclipse.daanse.xmla.model.xmla.Batch;
+import org.eclipse.daanse.xmla.model.xmla.Execute;
+import org.eclipse.daanse.xmla.model.xmla.Statement;
+import org.eclipse.daanse.xmla.model.xmla.XmlaFactory;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * A Batch runs in parallel only when it declares {@code <Parallel>} and every
+ * statement in it only reads; what decides the latter is the statement's
+ * opening keyword. Its statements are admitted as batch queries, as is any
+ * request that asks for it.
+ */
+class BatchParallelismTest {
+
+    private static Statement statement(String mdx) {
+        Statement statement = XmlaFactory.eINSTANCE.createStatement();
+        statement.setStatement(mdx);
+        return statement;
+    }
+
+    @ParameterizedTest(name = "{0} → query {1}")
+    @CsvSource(delimiter = '|', value = { "SELECT {} ON 0 FROM [Sales]|true",
+            "  with member [Measures].[x] as 1 select {[Measures].[x]} on 0 from [Sales]|true",
+            "DRILLTHROUGH MAXROWS 10 SELECT FROM [Sales]|true", "UPDATE CUBE [Sales] SET ([Measures].[x]) = 1|false",
+            "COMMIT TRANSACTION|false", "REFRESH CUBE [Sales]|false", "/* comment */ SELECT FROM [Sales]|false" })
+    void onlyReadingStatementsAreQueries(String mdx, boolean query) {
+        assertThat(OlapExecute.isQuery(statement(mdx))).isEqualTo(query);
+    }
+
+    @Test
+    void batchNotDeclaringParallelRunsInOrder() {
+        OlapExecute execute = new OlapExecute(mock(ContextListSupplyer.class), null, null,
+            mock(ExecutorService.class), 4, null, null);
+        Batch batch = XmlaFactory.eINSTANCE.createBatch();
+        batch.getCommand().add(statement("SELECT FROM [Sales]"));
+        batch.getCommand().add(statement("SELECT FROM [Warehouse]"));
+
+        assertThat(execute.batchParallelism(batch, List.of(single(), single()), single())).isEqualTo(1);
+    }
+
+    @Test
+    void parallelIsReadFromTheBatch() {
+        EClass batchClass = EcoreFactory.eINSTANCE.createEClass();
+        batchClass.setName("Batch");
+        EAttribute parallel = EcoreFactory.eINSTANCE.createEAttribute();
+        parallel.setName("parallel");
+        parallel.setEType(EcorePackage.Literals.EBOOLEAN_OBJECT);
+        batchClass.getEStructuralFeatures().add(parallel);
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.getEClassifiers().add(batchClass);
+        EObject batch = EcoreUtil.create(batchClass);
+
+        assertThat(OlapExecute.declaresParallel(batch)).isFalse();
+        batch.eSet(parallel, Boolean.TRUE);
+        assertThat(OlapExecute.declaresParallel(batch)).isTrue();
+        assertThat(OlapExecute.declaresParallel(XmlaFactory.eINSTANCE.createBatch())).isFalse();
+    }
+
+    private static Execute single() {
+        return XmlaFactory.eINSTANCE.createExecute();
+    }
+
+    @Test
+    void requestAsksForBatchPriority() {
+        EClass propertiesClass = EcoreFactory.eINSTANCE.createEClass();
+        propertiesClass.setName("PropertyList");
+        EAttribute priority = EcoreFactory.eINSTANCE.createEAttribute();
+        priority.setName(OlapExecute.REQUEST_PRIORITY);
+        priority.setEType(EcorePackage.Literals.ESTRING);
+        propertiesClass.getEStructuralFeatures().add(priority);
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.getEClassifiers().add(propertiesClass);
+        EObject properties = EcoreUtil.create(propertiesClass);
+
+        assertThat(OlapExecute.priority(properties, Priority.INTERACTIVE)).isEqualTo(Priority.INTERACTIVE);
+        assertThat(OlapExecute.priority(null, Priority.BATCH)).isEqualTo(Priority.BATCH);
+        properties.eSet(priority, " low ");
+        assertThat(OlapExecute.priority(properties, Priority.INTERACTIVE)).isEqualTo(Priority.BATCH);
+        properties.eSet(priority, "Normal");
+        assertThat(OlapExecute.priority(properties, Priority.INTERACTIVE)).isEqualTo(Priority.INTERACTIVE);
+    }
+}
@@ -14,10 +14,9 @@
 package org.eclipse.daanse.olap.xmla.connector.execute;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 import java.util.List;
 
@@ -32,6 +31,7 @@ import org.eclipse.daanse.olap.api.execution.Statement;
 import org.eclipse.daanse.olap.api.query.component.Query;
 import org.eclipse.daanse.olap.api.query.component.QueryComponent;
 import org.eclipse.daanse.olap.api.result.Cell;
+import org.eclipse.daanse.olap.api.result.CellCursor;
 import org.eclipse.daanse.olap.api.result.CellSet;
 import org.eclipse.daanse.olap.api.result.CellSetAxis;
 import org.eclipse.daanse.olap.api.result.CellSetAxisMetaData;
@@ -116,10 +116,78 @@ class NullCellCharacterizationTest {
     }
 
     private void mockCells(Cell... cells) {
-        when(cellSet.getCell(anyList())).thenAnswer(invocation -> {
-            List<Integer> position = invocation.getArgument(0);
-            return cells[position.get(0)];
-        });
+        lenient().when(cellSet.cursor()).thenAnswer(invocation -> new ArrayCursor(cells, 0, cells.length));
+        lenient().when(cellSet.cursor(anyInt(), anyInt())).thenAnswer(invocation -> new ArrayCursor(cells,
+                invocation.getArgument(0), Math.min(cells.length, invocation.<Integer>getArgument(1))));
+    }
+
+    /** Cursor over a range of the cells of a one-axis cell set. */
+    private static final class ArrayCursor implements CellCursor {
+
+        private final Cell[] cells;
+        private final int end;
+        private int ordinal;
+
+        ArrayCursor(Cell[] cells, int begin, int end) {
+            this.cells = cells;
+            this.end = end;
+            this.ordinal = begin - 1;
+        }
+
+        @Override
+        public boolean next() {
+            return ++ordinal < end;
+        }
+
+        @Override
+        public void moveTo(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return ordinal;
+        }
+
+        @Override
+        public int getCoordinate(int axisOrdinal) {
+            return ordinal;
+        }
+
+        @Override
+        public boolean isNull() {
+            return cells[ordinal].isNull();
+        }
+
+        @Override
+        public boolean isError() {
+            return cells[ordinal].isError();
+        }
+
+        @Override
+        public Object getValue() {
+            return cells[ordinal].getValue();
+        }
+
+        @Override
+        public double getDoubleValue() {
+            return ((Number) getValue()).doubleValue();
+        }
+
+        @Override
+        public String getFormattedValue() {
+            return cells[ordinal].getFormattedValue();
+        }
+
+        @Override
+        public Object getPropertyValue(String propertyName) {
+            return cells[ordinal].getPropertyValue(propertyName);
+        }
+
+        @Override
+        public Cell getCell() {
+            return cells[ordinal];
+        }
     }
 
     private static Cell valueCell(Object value, String formatted) {
@@ -197,6 +265,19 @@ class NullCellCharacterizationTest {
         assertThat(cells.get(0).getAny()).isEmpty();
     }
 
+    @Test
+    @DisplayName("BeginRange/EndRange keep the cells in between; a NULL cell is only kept at ordinal 0")
+    void cellRangeKeepsItsCells() {
+        mockAxisPositions(4);
+        mockCells(bareNullCell(), bareNullCell(), valueCell(2.0d, "2"), valueCell(3.0d, "3"));
+
+        List<CellType> cells = CellSetToMdDataset.toMdDataset(cellSet, true, 1, 2).getCellData().getCell();
+        assertThat(cells).extracting(CellType::getCellOrdinal).containsExactly(2L);
+
+        cells = CellSetToMdDataset.toMdDataset(cellSet, true, 0, -1).getCellData().getCell();
+        assertThat(cells).extracting(CellType::getCellOrdinal).containsExactly(0L, 2L, 3L);
+    }
+
     @Test
     @DisplayName("Double.POSITIVE_INFINITY serializes as INF")
     void positiveInfinityIsSerializedAsInf() {
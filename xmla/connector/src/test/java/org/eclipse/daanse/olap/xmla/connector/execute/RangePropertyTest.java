@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.connector.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.eclipse.daanse.xmla.api.XmlaCommandFailedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * BeginRange and EndRange are cell ordinals. Absent means the whole cell set;
+ * a value that is not a number is answered as an XMLA error, not a bare
+ * NumberFormatException out of the statement.
+ */
+class RangePropertyTest {
+
+    @Test
+    void absentRangeIsMinusOne() {
+        assertThat(OlapExecute.rangeProperty("BeginRange", null)).isEqualTo(-1);
+        assertThat(OlapExecute.rangeProperty("EndRange", "")).isEqualTo(-1);
+        assertThat(OlapExecute.rangeProperty("EndRange", "  ")).isEqualTo(-1);
+    }
+
+    @Test
+    void ordinalIsReadFromANumberOrItsText() {
+        assertThat(OlapExecute.rangeProperty("BeginRange", 5)).isEqualTo(5);
+        assertThat(OlapExecute.rangeProperty("BeginRange", " 12 ")).isEqualTo(12);
+        assertThat(OlapExecute.rangeProperty("EndRange", "-1")).isEqualTo(-1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "BeginRange", "EndRange" })
+    void malformedRangeIsAnXmlaError(String name) {
+        assertThatThrownBy(() -> OlapExecute.rangeProperty(name, "ten"))
+            .isInstanceOf(XmlaCommandFailedException.class);
+    }
+}
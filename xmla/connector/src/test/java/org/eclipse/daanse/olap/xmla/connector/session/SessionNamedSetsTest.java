@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *   SmartCity Jena - initial
+ */
+package org.eclipse.daanse.olap.xmla.connector.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache;
+import org.eclipse.daanse.olap.api.cache.ExpressionResultCache.Key;
+import org.eclipse.daanse.olap.api.element.Cube;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Which sets a session keeps between its queries, and for how long. */
+class SessionNamedSetsTest {
+
+    private SessionNamedSets namedSets;
+    private Cube sales;
+    private Cube warehouse;
+
+    @BeforeEach
+    void wire() {
+        namedSets = new SessionNamedSets(() -> 1000);
+        sales = mock(Cube.class);
+        warehouse = mock(Cube.class);
+    }
+
+    private static Key key(Cube cube) {
+        return new Key(cube, "TopCount([Customers].Members, 10)", List.of(), List.of(), false, null, "catalog", null);
+    }
+
+    private static void keep(ExpressionResultCache cache, Key key) {
+        cache.put(key, "set", cache.generation());
+    }
+
+    @Test
+    void aSetKeptByASessionIsFoundAgainOnTheNextQuery() {
+        keep(namedSets.of("a-session"), key(sales));
+
+        assertThat(namedSets.of("a-session").get(key(sales))).isEqualTo("set");
+    }
+
+    @Test
+    void sessionsDoNotSeeEachOthersSets() {
+        keep(namedSets.of("a-session"), key(sales));
+
+        assertThat(namedSets.of("another-session").get(key(sales))).isNull();
+    }
+
+    @Test
+    void nothingIsKeptWithoutASessionOrWhenTurnedOff() {
+        assertThat(namedSets.of(null)).isNull();
+        assertThat(new SessionNamedSets(() -> 0).of("a-session")).isNull();
+    }
+
+    @Test
+    void changedDataDropsTheSetsOfThatCubeInEverySession() {
+        keep(namedSets.of("a-session"), key(sales));
+        keep(namedSets.of("another-session"), key(sales));
+        keep(namedSets.of("a-session"), key(warehouse));
+
+        namedSets.flush(sales);
+
+        assertThat(namedSets.of("a-session").get(key(sales))).isNull();
+        assertThat(namedSets.of("another-session").get(key(sales))).isNull();
+        assertThat(namedSets.of("a-session").get(key(warehouse))).isEqualTo("set");
+    }
+
+    @Test
+    void endingASessionReleasesItsSets() {
+        keep(namedSets.of("a-session"), key(sales));
+        keep(namedSets.of("another-session"), key(sales));
+
+        namedSets.clear("a-session");
+
+        assertThat(namedSets.of("a-session").get(key(sales))).isNull();
+        assertThat(namedSets.of("another-session").get(key(sales))).isEqualTo("set");
+    }
+}